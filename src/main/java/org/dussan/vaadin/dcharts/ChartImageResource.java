@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Hex;
+
+import com.vaadin.server.ConnectorResource;
+import com.vaadin.server.DownloadStream;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinResponse;
+
+public class ChartImageResource implements ConnectorResource {
+
+	private static final long serialVersionUID = -2486602953514862237L;
+	private static final String MIME_TYPE = "image/png";
+	private static final int MAX_LENGTH = 16 * 1024 * 1024;
+	private static final int BAD_REQUEST = 400;
+	private static final int REQUEST_ENTITY_TOO_LARGE = 413;
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final String UPLOAD = "upload";
+	private static final int MAX_UPLOADS = 4;
+	// uploads are only accepted on the unguessable url of the chart
+	private String token = null;
+	// uploads wait for the rpc which names them, several captures can be
+	// uploaded at the same time
+	private final Map<String, byte[]> uploads = new LinkedHashMap<String, byte[]>();
+	private byte[] content = null;
+
+	public ChartImageResource() {
+		byte[] bytes = new byte[16];
+		RANDOM.nextBytes(bytes);
+		token = Hex.encodeHexString(bytes);
+	}
+
+	public synchronized byte[] getContent() {
+		return content;
+	}
+
+	public synchronized byte[] claimUpload(String upload) {
+		byte[] image = uploads.remove(upload);
+		if (image != null) {
+			content = image;
+		}
+		return image;
+	}
+
+	@Override
+	public String getMIMEType() {
+		return MIME_TYPE;
+	}
+
+	@Override
+	public String getFilename() {
+		return token + ".png";
+	}
+
+	@Override
+	public DownloadStream getStream() {
+		byte[] image = getContent();
+		return new DownloadStream(new ByteArrayInputStream(
+				image != null ? image : new byte[0]), MIME_TYPE, getFilename());
+	}
+
+	public void writeResponse(VaadinRequest request, VaadinResponse response)
+			throws IOException {
+		if (!"POST".equals(request.getMethod())) {
+			byte[] image = getContent();
+			response.setContentType(MIME_TYPE);
+			response.setHeader("Cache-Control", "no-cache");
+			if (image != null) {
+				response.setHeader("Content-Length",
+						String.valueOf(image.length));
+				OutputStream output = response.getOutputStream();
+				output.write(image);
+				output.flush();
+			}
+			return;
+		}
+
+		// png bytes are read as they were sent, without base64 or json
+		String upload = request.getParameter(UPLOAD);
+		if (upload == null || upload.isEmpty()) {
+			response.setStatus(BAD_REQUEST);
+			return;
+		}
+		if (request.getContentLength() > MAX_LENGTH) {
+			response.setStatus(REQUEST_ENTITY_TOO_LARGE);
+			return;
+		}
+		InputStream input = request.getInputStream();
+		ByteArrayOutputStream image = new ByteArrayOutputStream(Math.max(
+				request.getContentLength(), 1024));
+		byte[] buffer = new byte[8192];
+		int length = 0;
+		while ((length = input.read(buffer)) != -1) {
+			if (image.size() + length > MAX_LENGTH) {
+				response.setStatus(REQUEST_ENTITY_TOO_LARGE);
+				return;
+			}
+			image.write(buffer, 0, length);
+		}
+		if (image.size() == 0) {
+			response.setStatus(BAD_REQUEST);
+			return;
+		}
+		synchronized (this) {
+			uploads.remove(upload);
+			uploads.put(upload, image.toByteArray());
+			// uploads which were never claimed are dropped
+			Iterator<String> iterator = uploads.keySet().iterator();
+			while (uploads.size() > MAX_UPLOADS && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		response.setHeader("Cache-Control", "no-cache");
+	}
+
+}
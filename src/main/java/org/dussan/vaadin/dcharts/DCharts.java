@@ -17,24 +17,29 @@ package org.dussan.vaadin.dcharts;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
-import javax.imageio.ImageIO;
-
-import org.apache.commons.codec.binary.Base64;
 import org.dussan.vaadin.dcharts.client.rpc.DChartsClientRPC;
 import org.dussan.vaadin.dcharts.client.rpc.DChartsServerRpc;
 import org.dussan.vaadin.dcharts.data.DataSeries;
+import org.dussan.vaadin.dcharts.data.DataSeriesResource;
+import org.dussan.vaadin.dcharts.data.RingDataSeries;
 import org.dussan.vaadin.dcharts.events.ChartData;
 import org.dussan.vaadin.dcharts.events.chartImageChange.ChartImageChangeEvent;
 import org.dussan.vaadin.dcharts.events.chartImageChange.ChartImageChangeHandler;
+import org.dussan.vaadin.dcharts.events.chartImageHash.ChartImageHashEvent;
+import org.dussan.vaadin.dcharts.events.chartImageHash.ChartImageHashHandler;
 import org.dussan.vaadin.dcharts.events.click.ChartDataClickEvent;
 import org.dussan.vaadin.dcharts.events.click.ChartDataClickHandler;
 import org.dussan.vaadin.dcharts.events.mouseenter.ChartDataMouseEnterEvent;
@@ -44,13 +49,26 @@ import org.dussan.vaadin.dcharts.events.mouseleave.ChartDataMouseLeaveHandler;
 import org.dussan.vaadin.dcharts.events.rightclick.ChartDataRightClickEvent;
 import org.dussan.vaadin.dcharts.events.rightclick.ChartDataRightClickHandler;
 import org.dussan.vaadin.dcharts.helpers.ChartDataHelper;
+import org.dussan.vaadin.dcharts.helpers.ChartImageHelper;
+import org.dussan.vaadin.dcharts.helpers.DownsamplingHelper;
+import org.dussan.vaadin.dcharts.helpers.FunctionHelper;
+import org.dussan.vaadin.dcharts.helpers.JsonPatchHelper;
 import org.dussan.vaadin.dcharts.helpers.ManifestHelper;
+import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
+import org.dussan.vaadin.dcharts.helpers.PayloadCache;
+import org.dussan.vaadin.dcharts.helpers.PluginHelper;
+import org.dussan.vaadin.dcharts.helpers.TemplateHelper;
+import org.dussan.vaadin.dcharts.metadata.renderers.SeriesRenderers;
 import org.dussan.vaadin.dcharts.options.Options;
 
 import com.google.gwt.event.shared.HandlerManager;
 import com.vaadin.server.FileDownloader;
+import com.vaadin.server.Resource;
 import com.vaadin.server.StreamResource;
 import com.vaadin.server.StreamResource.StreamSource;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinResponse;
+import com.vaadin.server.VaadinSession;
 import com.vaadin.ui.AbstractSingleComponentContainer;
 import com.vaadin.ui.Button;
 import com.vaadin.ui.Notification;
@@ -79,15 +97,53 @@ public class DCharts extends AbstractSingleComponentContainer {
 	private static final int CHART_IMAGE_CHANGE_EVENT = 17;
 	private static final int DOWNLOAD_BUTTON_ENABLE = 18;
 	private static final int DOWNLOAD_BUTTON_LOCATION = 19;
+	private static final int APPEND_POINTS = 20;
+	private static final int DOWNSAMPLING = 21;
+	private static final int DATA_SERIES_HASH = 22;
+	private static final int OPTIONS_TEMPLATE = 23;
+	private static final int OPTIONS_PATCH = 24;
+	private static final int PLUGINS = 25;
+	private static final int FUNCTIONS = 26;
+	private static final int CHART_IMAGE_REQUEST = 27;
+	private static final int CHART_IMAGE_DOWNLOAD = 28;
+	private static final String DATA_SERIES_RESOURCE = "dataSeries";
+	private static final String CHART_IMAGE_RESOURCE = "chartImage";
+	private static final String UPLOADED_IMAGE = "upload:";
+	private static final String UNCHANGED_IMAGE = "unchanged:";
 
 	private byte[] chartImage = null;
+	private ChartImageResource chartImageResource = null;
+	// decoded and encoded images are kept until a new image arrives
+	private BufferedImage decodedChartImage = null;
+	private Map<ChartImageFormat, byte[]> encodedChartImages = null;
+	private int chartImageSequence = 0;
+	private int appliedChartImage = 0;
 	private int chartImageChangeDelay;
+	private int chartImageRequests = 0;
+	private List<ChartImageChangeHandler> chartImageHandlers = null;
+	private List<ChartImageHashHandler> chartImageHashHandlers = null;
+	// hash of the stored image computed by the client from canvas pixels
+	private String chartImageHash = null;
 	private Map<Integer, String> chartData = null;
+	private Set<Integer> changedChartData = null;
+	private StringBuilder appendedPoints = null;
+	private boolean pointsAppended = false;
+	private boolean downsampling = false;
+	private boolean binaryEncoding = false;
+	private int dataEndpointThreshold = 0;
+	private Integer chartWidth = null;
+	// indexes of points sent for each downsampled serie
+	private int[][] sampledIndexes = null;
 	private ChartImageFormat chartImageFormat = null;
 
 	private HandlerManager handlerManager = null;
 	private DataSeries dataSeries = null;
 	private Options options = null;
+	private String optionsTemplate = null;
+	// options last sent to the client, later changes are sent as a patch
+	private String sentOptionsValue = null;
+	private String optionsValue = null;
+	private String sharedOptionsValue = null;
 
 	private Boolean downloadButtonEnable = null;
 	private Button downloadButton = null;
@@ -120,6 +176,10 @@ public class DCharts extends AbstractSingleComponentContainer {
 		marginLeft = 0;
 
 		handlerManager = new HandlerManager(this);
+		chartImageHandlers = new ArrayList<ChartImageChangeHandler>();
+		chartImageHashHandlers = new ArrayList<ChartImageHashHandler>();
+		encodedChartImages = new EnumMap<ChartImageFormat, byte[]>(
+				ChartImageFormat.class);
 		enableChartDataMouseEnterEvent = false;
 		enableChartDataMouseLeaveEvent = false;
 		enableChartDataClickEvent = false;
@@ -128,6 +188,8 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 		chartImageChangeDelay = 600;
 		chartData = new HashMap<Integer, String>();
+		changedChartData = new HashSet<Integer>();
+		appendedPoints = new StringBuilder();
 		chartImageFormat = ChartImageFormat.PNG;
 
 		downloadButtonEnable = false;
@@ -183,20 +245,140 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 			@Override
 			public InputStream getStream() {
+				byte[] image = getEncodedChartImage(getChartImageFormat());
+				return new ByteArrayInputStream(image != null ? image
+						: new byte[0]);
+			}
+		}, getDownloadFilename() + getChartImageFormat().getFormatExtension());
+	}
+
+	private boolean putChartImage(int sequence, byte[] image, String hash,
+			BufferedImage decodedImage, byte[] encodedImage,
+			ChartImageFormat format) {
+		// image of an older capture which was processed later is dropped
+		if (sequence > appliedChartImage) {
+			appliedChartImage = sequence;
+			chartImage = image;
+			chartImageHash = image != null ? hash : null;
+			decodedChartImage = decodedImage;
+			encodedChartImages = new EnumMap<ChartImageFormat, byte[]>(
+					ChartImageFormat.class);
+			if (encodedImage != null) {
+				encodedChartImages.put(format, encodedImage);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private byte[] getEncodedChartImage(ChartImageFormat format) {
+		if (format == ChartImageFormat.PNG) {
+			// uploaded png bytes are sent without transcoding
+			return chartImage;
+		}
+		Map<ChartImageFormat, byte[]> images = encodedChartImages;
+		byte[] image = images.get(format);
+		if (image == null) {
+			image = ChartImageHelper.write(getChartImage(), format);
+			if (image != null) {
+				images.put(format, image);
+			}
+		}
+		return image;
+	}
+
+	private byte[] getUploadedImage(String data) {
+		// rpc only names the uploaded png bytes with upload:<id>:<hash>,
+		// browsers without canvas.toBlob send a data url
+		int index = data.startsWith(UPLOADED_IMAGE) ? data.indexOf(':',
+				UPLOADED_IMAGE.length()) : -1;
+		// upload which was not stored under the named id is rejected
+		return index > 0 ? chartImageResource.claimUpload(data.substring(
+				UPLOADED_IMAGE.length(), index)) : null;
+	}
+
+	private String getUploadedImageHash(String data) {
+		int index = data.startsWith(UPLOADED_IMAGE) ? data.indexOf(':',
+				UPLOADED_IMAGE.length()) : -1;
+		return index > 0 ? data.substring(index + 1) : null;
+	}
+
+	private boolean setChartImage(Object data) {
+		byte[] image = getUploadedImage(data.toString());
+		String hash = image != null ? getUploadedImageHash(data.toString())
+				: null;
+		if (image == null) {
+			image = ChartImageHelper.decodeDataUrl(data.toString());
+		}
+		putChartImage(++chartImageSequence, image, hash, null, null, null);
+		return (image != null && image.length > 0);
+	}
+
+	private void processChartImage(Object data, final boolean imageChanged,
+			final List<ChartImageChangeHandler> handlers) {
+		final VaadinSession session = getSession();
+		if (session == null) {
+			return;
+		}
+
+		final String value = data.toString();
+		if (value.startsWith(UNCHANGED_IMAGE)) {
+			if (value.substring(UNCHANGED_IMAGE.length()).equals(chartImageHash)) {
+				// client did not upload the image which is already stored
+				for (ChartImageChangeHandler handler : handlers) {
+					handler.onChartImageChange(new ChartImageChangeEvent(
+							getChartImage()));
+				}
+			} else {
+				// stored image is older, client has to upload it again
+				chartImageHandlers.addAll(handlers);
+				putChartData(CHART_IMAGE_REQUEST, "force:"
+						+ (++chartImageRequests));
+				markAsDirty();
+			}
+			return;
+		}
+
+		final byte[] uploadedImage = getUploadedImage(value);
+		final String hash = uploadedImage != null ? getUploadedImageHash(value)
+				: null;
+		final int sequence = ++chartImageSequence;
+		final ChartImageFormat format = chartImageFormat;
+		// images are decoded and encoded without holding the session lock
+		ChartImageHelper.execute(new Runnable() {
+			@Override
+			public void run() {
+				byte[] image = uploadedImage != null ? uploadedImage
+						: ChartImageHelper.decodeDataUrl(value);
+				BufferedImage bufferedImage = ChartImageHelper.read(image);
+				byte[] encodedImage = format != ChartImageFormat.PNG ? ChartImageHelper
+						.write(bufferedImage, format) : null;
+				session.lock();
 				try {
-					ByteArrayOutputStream bos = new ByteArrayOutputStream();
-					ImageIO.write(getChartImage(), getChartImageFormat()
-							.getFormat(), bos);
-					return new ByteArrayInputStream(bos.toByteArray());
-				} catch (Exception e) {
-					return new ByteArrayInputStream("".getBytes());
+					if (putChartImage(sequence, image, hash, bufferedImage,
+							encodedImage, format)
+							&& imageChanged && enableChartImageChangeEvent) {
+						handlerManager.fireEvent(new ChartImageChangeEvent(
+								bufferedImage));
+					}
+					for (ChartImageChangeHandler handler : handlers) {
+						handler.onChartImageChange(new ChartImageChangeEvent(
+								bufferedImage));
+					}
+				} finally {
+					session.unlock();
 				}
 			}
-		}, getDownloadFilename() + getChartImageFormat().getFormatExtension());
+		});
+	}
+
+	private void putChartData(int key, String value) {
+		chartData.put(key, value);
+		changedChartData.add(key);
 	}
 
 	private void addChartContainer() {
-		chartData.put(ID, chartId);
+		putChartData(ID, chartId);
 
 		downloadButton = new Button("Download chart");
 		downloadButton.setId(chartId + "-button");
@@ -207,19 +389,163 @@ public class DCharts extends AbstractSingleComponentContainer {
 		fileDownloader = new FileDownloader(getChartResource());
 		fileDownloader.extend(downloadButton);
 
+		// chart images are uploaded by the client to the connector url
+		chartImageResource = new ChartImageResource();
+		setResource(CHART_IMAGE_RESOURCE, chartImageResource);
+
 		setSizeFull();
 		markAsDirty();
 	}
 
+	private boolean isLineSeries(int seriesIndex) {
+		SeriesRenderers renderer = null;
+		if (options != null && options.getSeries() != null
+				&& seriesIndex < options.getSeries().getSeries().size()) {
+			renderer = options.getSeries().getSeries().get(seriesIndex)
+					.getRenderer();
+		}
+		if (renderer == null && options != null
+				&& options.getSeriesDefaults() != null) {
+			renderer = options.getSeriesDefaults().getRenderer();
+		}
+		Options templateOptions = TemplateHelper.getOptions(optionsTemplate);
+		if (renderer == null && templateOptions != null
+				&& templateOptions.getSeriesDefaults() != null) {
+			renderer = templateOptions.getSeriesDefaults().getRenderer();
+		}
+		// jqPlot uses line renderer by default
+		return (renderer == null || SeriesRenderers.LINE.equals(renderer));
+	}
+
+	private DataSeries getSampledDataSeries() {
+		DataSeries data = dataSeries;
+		sampledIndexes = null;
+		if (downsampling && chartWidth != null) {
+			int[][] indexes = new int[dataSeries.getSeriesCount()][];
+			boolean sampled = false;
+			for (int i = 0; i < indexes.length; i++) {
+				if (isLineSeries(i)) {
+					indexes[i] = DownsamplingHelper.getLttbIndexes(dataSeries,
+							i, chartWidth);
+					sampled |= (indexes[i] != null);
+				}
+			}
+			if (sampled) {
+				sampledIndexes = indexes;
+				data = DownsamplingHelper.sample(dataSeries, indexes);
+			}
+		}
+		return data;
+	}
+
+	private boolean hasDataSeries() {
+		return (chartData.containsKey(DATA_SERIES) || chartData
+				.containsKey(DATA_SERIES_HASH));
+	}
+
+	private void putDataSeries(DataSeriesResource resource) {
+		setResource(DATA_SERIES_RESOURCE, resource);
+		chartData.remove(DATA_SERIES);
+		changedChartData.remove(DATA_SERIES);
+		putChartData(DATA_SERIES_HASH, resource.getHash());
+	}
+
+	private void putDataSeries() {
+		DataSeries data = getSampledDataSeries();
+		StringBuilder builder = new StringBuilder();
+		if (binaryEncoding) {
+			data.writeBinaryTo(builder);
+		} else {
+			data.writeTo(builder);
+		}
+		// payloads of equal data series are shared by all sessions
+		PayloadCache.Key key = PayloadCache.createKey(builder, "dataSeries");
+
+		// threshold is compared with the bytes the resource would serve
+		if (dataEndpointThreshold > 0
+				&& DataSeriesResource.getEncodedLength(builder)
+						>= dataEndpointThreshold) {
+			// large data series is loaded by the client from its own url
+			PayloadCache.Key resourceKey = key != null ? key
+					.getVariant("dataSeriesResource") : null;
+			DataSeriesResource resource = (DataSeriesResource) PayloadCache
+					.get(resourceKey);
+			if (resource == null) {
+				resource = new DataSeriesResource(builder);
+				resource = (DataSeriesResource) PayloadCache.put(resourceKey,
+						resource, resource.getLength());
+			}
+			putDataSeries(resource);
+		} else {
+			if (getResource(DATA_SERIES_RESOURCE) != null) {
+				setResource(DATA_SERIES_RESOURCE, null);
+			}
+			String value = (String) PayloadCache.get(key);
+			if (value == null) {
+				value = (String) PayloadCache.put(key, builder.toString(),
+						builder.length());
+			}
+			chartData.remove(DATA_SERIES_HASH);
+			changedChartData.remove(DATA_SERIES_HASH);
+			putChartData(DATA_SERIES, value);
+		}
+	}
+
+	private String getOptionsValue() {
+		// cached value of unchanged options is the same string, so it is
+		// hashed only after a change
+		String value = options.getValue();
+		if (value != optionsValue) {
+			optionsValue = value;
+			sharedOptionsValue = (String) PayloadCache.put(
+					PayloadCache.createKey(value, "options"), value,
+					value != null ? value.length() : 0);
+		}
+		return sharedOptionsValue;
+	}
+
+	@Override
+	public boolean handleConnectorRequest(VaadinRequest request,
+			VaadinResponse response, String path) throws IOException {
+		if (path.startsWith(DATA_SERIES_RESOURCE + "/")) {
+			// only the current data series is served
+			Resource resource = getResource(DATA_SERIES_RESOURCE);
+			if (resource instanceof DataSeriesResource
+					&& path.endsWith("/"
+							+ ((DataSeriesResource) resource).getFilename())) {
+				((DataSeriesResource) resource).writeResponse(request,
+						response);
+				return true;
+			}
+			return false;
+		} else if (path.startsWith(CHART_IMAGE_RESOURCE + "/")) {
+			if (path.endsWith("/" + chartImageResource.getFilename())) {
+				chartImageResource.writeResponse(request, response);
+				return true;
+			}
+			return false;
+		}
+		return super.handleConnectorRequest(request, response, path);
+	}
+
 	private void processEvent(Map<String, String> eventData) {
 		if (eventData != null && !eventData.isEmpty()) {
 			ChartData chartData = ChartDataHelper.process(eventData);
 			if (chartId.equals(chartData.getChartId())) {
 				if (chartData != null && chartData.getSeriesIndex() != null
 						&& chartData.getPointIndex() != null) {
-					chartData.setOriginData(dataSeries.getSeriesValue(chartData
-							.getSeriesIndex().intValue(), chartData
-							.getPointIndex().intValue()));
+					int seriesIndex = chartData.getSeriesIndex().intValue();
+					int pointIndex = chartData.getPointIndex().intValue();
+					if (sampledIndexes != null
+							&& seriesIndex < sampledIndexes.length
+							&& sampledIndexes[seriesIndex] != null
+							&& pointIndex < sampledIndexes[seriesIndex].length) {
+						// point of the full data series
+						pointIndex = sampledIndexes[seriesIndex][pointIndex];
+						chartData.setPointIndex((long) pointIndex);
+					}
+					chartData.setOriginData(dataSeries.getSeriesValue(
+							seriesIndex, pointIndex));
 				}
 
 				if (chartData != null) {
@@ -320,28 +646,66 @@ public class DCharts extends AbstractSingleComponentContainer {
 						handlerManager.fireEvent(new ChartDataRightClickEvent(
 								chartData));
 						break;
+					// chart width for downsampling
+					case CHART_WIDTH:
+						if (chartData.getData()[0] instanceof Number) {
+							int width = ((Number) chartData.getData()[0])
+									.intValue();
+							if (chartWidth == null || chartWidth != width) {
+								chartWidth = width;
+								if (downsampling && dataSeries != null) {
+									putDataSeries();
+									markAsDirty();
+								}
+							}
+						}
+						break;
+					// options template not known by the client
+					case OPTIONS_TEMPLATE:
+						TemplateHelper.setNotSent(getUI(),
+								chartData.getData()[0].toString());
+						if (optionsTemplate != null) {
+							putChartData(OPTIONS_TEMPLATE, "");
+							markAsDirty();
+						}
+						break;
+					// functions not known by the client
+					case FUNCTIONS:
+						FunctionHelper.setNotSent(getUI(), chartData.getData()[0]
+								.toString().split(","));
+						putChartData(FUNCTIONS, "");
+						markAsDirty();
+						break;
 					// raw image
 					case RAW_IMAGE_DATA:
-						try {
-							String data = chartData.getData()[0].toString()
-									.substring(
-											"data:image/png;base64,".length());
-							chartImage = Base64.decodeBase64(data);
-							downloadButton.setEnabled(chartImage.length > 0);
+						processChartImage(chartData.getData()[0], true,
+								new ArrayList<ChartImageChangeHandler>());
+						break;
+					// image captured for requestChartImage
+					case REQUESTED_IMAGE_DATA:
+						// handlers are queued again if the image is stale
+						List<ChartImageChangeHandler> imageHandlers = chartImageHandlers;
+						chartImageHandlers = new ArrayList<ChartImageChangeHandler>();
+						processChartImage(chartData.getData()[0], false,
+								imageHandlers);
+						break;
+					// hash of the shown chart for requestChartImageHash
+					case IMAGE_HASH:
+						List<ChartImageHashHandler> hashHandlers = chartImageHashHandlers;
+						chartImageHashHandlers = new ArrayList<ChartImageHashHandler>();
+						for (ChartImageHashHandler handler : hashHandlers) {
+							handler.onChartImageHash(new ChartImageHashEvent(
+									chartData.getData()[0].toString()));
+						}
+						break;
+					// image captured when the download button was clicked
+					case DOWNLOAD_IMAGE_DATA:
+						if (setChartImage(chartData.getData()[0])) {
 							fileDownloader
 									.setFileDownloadResource(getChartResource());
-							if (enableChartImageChangeEvent) {
-								handlerManager
-										.fireEvent(new ChartImageChangeEvent(
-												getChartImage()));
-							}
-						} catch (Exception e) {
-							downloadButton.setEnabled(false);
-							if (enableChartImageChangeEvent) {
-								handlerManager
-										.fireEvent(new ChartImageChangeEvent(
-												null));
-							}
+							putChartData(CHART_IMAGE_DOWNLOAD,
+									Integer.toString(++chartImageRequests));
+							markAsDirty();
 						}
 						break;
 
@@ -361,12 +725,100 @@ public class DCharts extends AbstractSingleComponentContainer {
 	@Override
 	public void beforeClientResponse(boolean initial) {
 		super.beforeClientResponse(initial);
-		if (chartData != null && chartData.size() > 0) {
-			// always put chart id into chart data
-			chartData.put(ID, chartId);
+		// always put chart id into chart data
+		chartData.put(ID, chartId);
+		if (initial) {
+			changedChartData.addAll(chartData.keySet());
+		}
+
+		if (initial && pointsAppended) {
+			// appended points are part of the whole data series
+			putDataSeries();
+			appendedPoints.setLength(0);
+			pointsAppended = false;
+		}
+		if (appendedPoints.length() > 0) {
+			putChartData(APPEND_POINTS, "[" + appendedPoints + "]");
+			appendedPoints.setLength(0);
+		}
+
+		if (optionsTemplate != null
+				&& (initial || changedChartData.contains(OPTIONS_TEMPLATE))) {
+			// template options are sent only once to each ui
+			putChartData(OPTIONS_TEMPLATE,
+					TemplateHelper.getValue(getUI(), optionsTemplate));
+		}
+
+		if (changedChartData.contains(OPTIONS)
+				|| changedChartData.contains(OPTIONS_TEMPLATE)) {
+			// client loads exactly the plugins used by the options
+			String plugins = PluginHelper.getPlugins(options,
+					TemplateHelper.getOptions(optionsTemplate));
+			if (!plugins.equals(chartData.get(PLUGINS))) {
+				putChartData(PLUGINS, plugins);
+			}
+		}
+
+		if (changedChartData.contains(OPTIONS)
+				|| changedChartData.contains(OPTIONS_TEMPLATE)
+				|| changedChartData.contains(FUNCTIONS)) {
+			// registered functions are sent once to each ui and then shared
+			String functions = FunctionHelper.getValue(getUI(),
+					chartData.get(OPTIONS),
+					TemplateHelper.getOptionsValue(optionsTemplate));
+			if (!functions.equals(chartData.get(FUNCTIONS))) {
+				putChartData(FUNCTIONS, functions);
+			}
+		}
+
+		if (!initial && sentOptionsValue != null
+				&& changedChartData.contains(OPTIONS)
+				&& chartData.get(OPTIONS) != null) {
+			// only changes of the options are sent to the client
+			String value = chartData.get(OPTIONS);
+			if (sentOptionsValue.equals(value)) {
+				changedChartData.remove(OPTIONS);
+			} else {
+				String patch = JsonPatchHelper.createPatch(sentOptionsValue,
+						value);
+				if (patch != null && patch.length() < value.length()) {
+					changedChartData.remove(OPTIONS);
+					putChartData(OPTIONS_PATCH, patch);
+				}
+			}
+		}
+
+		if (downsampling && chartWidth == null) {
+			// data series is sent when the chart width is known
+			changedChartData.remove(DATA_SERIES);
+			changedChartData.remove(DATA_SERIES_HASH);
+		}
+
+		// send only chart data changed since the last response
+		changedChartData.remove(ID);
+		if (!changedChartData.isEmpty()) {
+			Map<Integer, String> changedValues = new HashMap<Integer, String>();
+			changedValues.put(ID, chartId);
+			for (Integer key : changedChartData) {
+				changedValues.put(key, chartData.get(key));
+			}
 			getRpcProxy(DChartsClientRPC.class).setChartId(chartId);
-			getRpcProxy(DChartsClientRPC.class).setChartData(chartData);
+			getRpcProxy(DChartsClientRPC.class).setChartData(changedValues);
+			if (changedChartData.contains(OPTIONS)
+					|| changedChartData.contains(OPTIONS_PATCH)) {
+				sentOptionsValue = chartData.get(OPTIONS);
+			}
+			changedChartData.clear();
 		}
+
+		// replot, appended points, patches and image requests are one time
+		// commands
+		chartData.remove(REPLOT_CHART_CLEAR);
+		chartData.remove(REPLOT_CHART_RESET_AXES);
+		chartData.remove(APPEND_POINTS);
+		chartData.remove(OPTIONS_PATCH);
+		chartData.remove(CHART_IMAGE_REQUEST);
+		chartData.remove(CHART_IMAGE_DOWNLOAD);
 	}
 
 	public static String getVersion() {
@@ -394,14 +846,10 @@ public class DCharts extends AbstractSingleComponentContainer {
 	}
 
 	public BufferedImage getChartImage() {
-		if (chartImage != null && chartImage.length > 0) {
-			try {
-				return ImageIO.read(new ByteArrayInputStream(chartImage));
-			} catch (IOException e) {
-				// not catch any error
-			}
+		if (decodedChartImage == null) {
+			decodedChartImage = ChartImageHelper.read(chartImage);
 		}
-		return null;
+		return decodedChartImage;
 	}
 
 	public int getChartImageChangeDelay() {
@@ -410,7 +858,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public void setChartImageChangeDelay(int delay) {
 		chartImageChangeDelay = Math.max(100, delay);
-		chartData.put(CHART_IMAGE_CHANGE_DELAY,
+		putChartData(CHART_IMAGE_CHANGE_DELAY,
 				Integer.toString(chartImageChangeDelay));
 	}
 
@@ -430,8 +878,8 @@ public class DCharts extends AbstractSingleComponentContainer {
 		thousandsSeparator = Character.toString(((DecimalFormat) NumberFormat
 				.getNumberInstance(locale)).getDecimalFormatSymbols()
 				.getGroupingSeparator());
-		chartData.put(DECIMAL_SEPARATOR, decimalSeparator);
-		chartData.put(THOUSANDS_SEPARATOR, thousandsSeparator);
+		putChartData(DECIMAL_SEPARATOR, decimalSeparator);
+		putChartData(THOUSANDS_SEPARATOR, thousandsSeparator);
 		return this;
 	}
 
@@ -439,7 +887,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 		decimalSeparator = Character.toString(((DecimalFormat) NumberFormat
 				.getNumberInstance(locale)).getDecimalFormatSymbols()
 				.getDecimalSeparator());
-		chartData.put(DECIMAL_SEPARATOR, decimalSeparator);
+		putChartData(DECIMAL_SEPARATOR, decimalSeparator);
 		return this;
 	}
 
@@ -447,7 +895,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 		thousandsSeparator = Character.toString(((DecimalFormat) NumberFormat
 				.getNumberInstance(locale)).getDecimalFormatSymbols()
 				.getGroupingSeparator());
-		chartData.put(THOUSANDS_SEPARATOR, thousandsSeparator);
+		putChartData(THOUSANDS_SEPARATOR, thousandsSeparator);
 		return this;
 	}
 
@@ -458,7 +906,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setDecimalSeparator(String decimalSeparator) {
 		if (decimalSeparator != null && decimalSeparator.length() > 0) {
 			this.decimalSeparator = decimalSeparator;
-			chartData.put(DECIMAL_SEPARATOR, decimalSeparator);
+			putChartData(DECIMAL_SEPARATOR, decimalSeparator);
 		}
 		return this;
 	}
@@ -471,7 +919,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 		this.thousandsSeparator = thousandsSeparator;
 		if (thousandsSeparator != null && thousandsSeparator.length() > 0) {
 			this.thousandsSeparator = thousandsSeparator;
-			chartData.put(THOUSANDS_SEPARATOR, thousandsSeparator);
+			putChartData(THOUSANDS_SEPARATOR, thousandsSeparator);
 		}
 		return this;
 	}
@@ -482,10 +930,10 @@ public class DCharts extends AbstractSingleComponentContainer {
 		this.marginRight = marginRight;
 		this.marginBottom = marginBottom;
 		this.marginLeft = marginLeft;
-		chartData.put(MARGIN_TOP, Integer.toString(marginTop));
-		chartData.put(MARGIN_RIGHT, Integer.toString(marginRight));
-		chartData.put(MARGIN_BOTTOM, Integer.toString(marginBottom));
-		chartData.put(MARGIN_LEFT, Integer.toString(marginLeft));
+		putChartData(MARGIN_TOP, Integer.toString(marginTop));
+		putChartData(MARGIN_RIGHT, Integer.toString(marginRight));
+		putChartData(MARGIN_BOTTOM, Integer.toString(marginBottom));
+		putChartData(MARGIN_LEFT, Integer.toString(marginLeft));
 		return this;
 	}
 
@@ -495,7 +943,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setMarginTop(int marginTop) {
 		this.marginTop = marginTop;
-		chartData.put(MARGIN_TOP, Integer.toString(marginTop));
+		putChartData(MARGIN_TOP, Integer.toString(marginTop));
 		return this;
 	}
 
@@ -505,7 +953,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setMarginRight(int marginRight) {
 		this.marginRight = marginRight;
-		chartData.put(MARGIN_RIGHT, Integer.toString(marginRight));
+		putChartData(MARGIN_RIGHT, Integer.toString(marginRight));
 		return this;
 	}
 
@@ -515,7 +963,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setMarginBottom(int marginBottom) {
 		this.marginBottom = marginBottom;
-		chartData.put(MARGIN_BOTTOM, Integer.toString(marginBottom));
+		putChartData(MARGIN_BOTTOM, Integer.toString(marginBottom));
 		return this;
 	}
 
@@ -525,7 +973,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setMarginLeft(int marginLeft) {
 		this.marginLeft = marginLeft;
-		chartData.put(MARGIN_LEFT, Integer.toString(marginLeft));
+		putChartData(MARGIN_LEFT, Integer.toString(marginLeft));
 		return this;
 	}
 
@@ -535,7 +983,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setEnableDownload(boolean enable) {
 		downloadButtonEnable = enable;
-		chartData.put(DOWNLOAD_BUTTON_ENABLE, Boolean.toString(enable));
+		putChartData(DOWNLOAD_BUTTON_ENABLE, Boolean.toString(enable));
 		return this;
 	}
 
@@ -556,7 +1004,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 
 	public DCharts setDownloadButtonLocation(DownloadButtonLocation location) {
 		downloadButtonLocation = location;
-		chartData.put(DOWNLOAD_BUTTON_LOCATION, location.toString());
+		putChartData(DOWNLOAD_BUTTON_LOCATION, location.toString());
 		return this;
 	}
 
@@ -578,7 +1026,76 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setDataSeries(DataSeries dataSeries) {
 		if (dataSeries != null && !dataSeries.isEmpty()) {
 			this.dataSeries = dataSeries;
-			chartData.put(DATA_SERIES, dataSeries.getValue());
+			putDataSeries();
+			appendedPoints.setLength(0);
+			pointsAppended = false;
+		}
+		return this;
+	}
+
+	public int getDataEndpointThreshold() {
+		return dataEndpointThreshold;
+	}
+
+	public DCharts setDataEndpointThreshold(int dataEndpointThreshold) {
+		this.dataEndpointThreshold = Math.max(0, dataEndpointThreshold);
+		if (dataSeries != null && hasDataSeries()) {
+			putDataSeries();
+		}
+		return this;
+	}
+
+	public boolean isBinaryEncoding() {
+		return binaryEncoding;
+	}
+
+	public DCharts setBinaryEncoding(boolean binaryEncoding) {
+		this.binaryEncoding = binaryEncoding;
+		if (dataSeries != null && hasDataSeries()) {
+			putDataSeries();
+		}
+		return this;
+	}
+
+	public boolean isDownsampling() {
+		return downsampling;
+	}
+
+	public DCharts setDownsampling(boolean downsampling) {
+		this.downsampling = downsampling;
+		putChartData(DOWNSAMPLING, Boolean.toString(downsampling));
+		if (dataSeries != null && hasDataSeries()) {
+			putDataSeries();
+		}
+		return this;
+	}
+
+	public DCharts appendPoints(int seriesIndex, Object... points) {
+		if (dataSeries != null && points != null && points.length > 0
+				&& seriesIndex >= 0
+				&& seriesIndex < dataSeries.getSeriesCount()) {
+			if (dataSeries.hasSubSeries() && !ObjectHelper.isArray(points[0])) {
+				// single point given with its values
+				points = new Object[] { points };
+			}
+			dataSeries.addPoints(seriesIndex, points);
+			if (sampledIndexes != null) {
+				// downsampled data series is sampled again
+				putDataSeries();
+				markAsDirty();
+				return this;
+			}
+			appendedPoints.append(appendedPoints.length() > 0 ? ", " : "");
+			appendedPoints.append("[").append(seriesIndex).append(", ");
+			ObjectHelper.writeArrayString(appendedPoints, points);
+			if (dataSeries instanceof RingDataSeries) {
+				// client drops the same oldest points
+				appendedPoints.append(", ").append(
+						((RingDataSeries) dataSeries).getCapacity());
+			}
+			appendedPoints.append("]");
+			pointsAppended = true;
+			markAsDirty();
 		}
 		return this;
 	}
@@ -590,11 +1107,38 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setOptions(Options options) {
 		if (options != null && !options.isEmpty()) {
 			this.options = options;
-			chartData.put(OPTIONS, options.getValue());
+			putChartData(OPTIONS, getOptionsValue());
 		}
 		return this;
 	}
 
+	public static void registerTemplate(String name, Options options) {
+		TemplateHelper.register(name, options);
+	}
+
+	public static void unregisterTemplate(String name) {
+		TemplateHelper.unregister(name);
+	}
+
+	public static String registerFunction(String name, String function) {
+		return FunctionHelper.register(name, function);
+	}
+
+	public static void unregisterFunction(String name) {
+		FunctionHelper.unregister(name);
+	}
+
+	public String getOptionsTemplate() {
+		return optionsTemplate;
+	}
+
+	public DCharts setOptionsTemplate(String name) {
+		optionsTemplate = name;
+		// value is created for the ui before the response
+		putChartData(OPTIONS_TEMPLATE, "");
+		return this;
+	}
+
 	public boolean isEnableChartDataMouseEnterEvent() {
 		return enableChartDataMouseEnterEvent;
 	}
@@ -602,7 +1146,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setEnableChartDataMouseEnterEvent(
 			boolean enableChartDataMouseEnterEvent) {
 		this.enableChartDataMouseEnterEvent = enableChartDataMouseEnterEvent;
-		chartData.put(MOUSE_ENTER_EVENT,
+		putChartData(MOUSE_ENTER_EVENT,
 				Boolean.toString(enableChartDataMouseEnterEvent));
 		return this;
 	}
@@ -614,7 +1158,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setEnableChartDataMouseLeaveEvent(
 			boolean enableChartDataMouseLeaveEvent) {
 		this.enableChartDataMouseLeaveEvent = enableChartDataMouseLeaveEvent;
-		chartData.put(MOUSE_LEAVE_EVENT,
+		putChartData(MOUSE_LEAVE_EVENT,
 				Boolean.toString(enableChartDataMouseLeaveEvent));
 		return this;
 	}
@@ -626,7 +1170,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setEnableChartDataClickEvent(
 			boolean enableChartDataClickEvent) {
 		this.enableChartDataClickEvent = enableChartDataClickEvent;
-		chartData.put(CLICK_EVENT, Boolean.toString(enableChartDataClickEvent));
+		putChartData(CLICK_EVENT, Boolean.toString(enableChartDataClickEvent));
 		return this;
 	}
 
@@ -637,7 +1181,7 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setEnableChartDataRightClickEvent(
 			boolean enableChartDataRightClickEvent) {
 		this.enableChartDataRightClickEvent = enableChartDataRightClickEvent;
-		chartData.put(RIGHT_CLICK_EVENT,
+		putChartData(RIGHT_CLICK_EVENT,
 				Boolean.toString(enableChartDataRightClickEvent));
 		return this;
 	}
@@ -649,28 +1193,52 @@ public class DCharts extends AbstractSingleComponentContainer {
 	public DCharts setEnableChartImageChangeEvent(
 			boolean enableChartImageChangeEvent) {
 		this.enableChartImageChangeEvent = enableChartImageChangeEvent;
-		chartData.put(CHART_IMAGE_CHANGE_EVENT,
+		putChartData(CHART_IMAGE_CHANGE_EVENT,
 				Boolean.toString(enableChartImageChangeEvent));
 		return this;
 	}
 
+	public DCharts requestChartImage(ChartImageChangeHandler handler) {
+		// chart image is captured by the client only when requested
+		if (handler != null) {
+			chartImageHandlers.add(handler);
+		}
+		putChartData(CHART_IMAGE_REQUEST, Integer.toString(++chartImageRequests));
+		markAsDirty();
+		return this;
+	}
+
+	public DCharts requestChartImageHash(ChartImageHashHandler handler) {
+		// client computes the hash of the shown chart without uploading it
+		if (handler != null) {
+			chartImageHashHandlers.add(handler);
+		}
+		putChartData(CHART_IMAGE_REQUEST, "hash:" + (++chartImageRequests));
+		markAsDirty();
+		return this;
+	}
+
+	public String getChartImageHash() {
+		return chartImageHash;
+	}
+
 	public DCharts show() {
 		if (dataSeries != null && !dataSeries.isEmpty()) {
-			chartData.put(SHOW_CHART, Boolean.TRUE.toString());
+			putChartData(SHOW_CHART, Boolean.TRUE.toString());
 			markAsDirty();
 		}
 		return this;
 	}
 
 	public DCharts hide() {
-		chartData.put(SHOW_CHART, Boolean.FALSE.toString());
+		putChartData(SHOW_CHART, Boolean.FALSE.toString());
 		markAsDirty();
 		return this;
 	}
 
 	public DCharts replot(boolean clean, boolean resetAxes) {
-		chartData.put(REPLOT_CHART_CLEAR, Boolean.toString(clean));
-		chartData.put(REPLOT_CHART_RESET_AXES, Boolean.toString(resetAxes));
+		putChartData(REPLOT_CHART_CLEAR, Boolean.toString(clean));
+		putChartData(REPLOT_CHART_RESET_AXES, Boolean.toString(resetAxes));
 		markAsDirty();
 		return this;
 	}
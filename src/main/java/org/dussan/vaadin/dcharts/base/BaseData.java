@@ -17,8 +17,10 @@ package org.dussan.vaadin.dcharts.base;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.dussan.vaadin.dcharts.helpers.BinaryDataHelper;
 import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
 
 @SuppressWarnings("serial")
@@ -29,6 +31,37 @@ public class BaseData<T> implements Serializable {
 	private List<Object> subSeries = null;
 	private List<Object> series = null;
 
+	// series with appended points, array has spare capacity so appending
+	// a few points does not copy the whole series
+	private static class Points implements Serializable {
+
+		private static final long serialVersionUID = 4420263931718094434L;
+		private Object[] values = null;
+		private int size = 0;
+
+		private Points(Object[] values) {
+			this.values = values;
+			size = values.length;
+		}
+
+		private void add(Object[] points) {
+			if (size + points.length > values.length) {
+				// array keeps its component type, points of x, y series
+				// stay Object[][]
+				values = Arrays.copyOf(values, Math.max(size + points.length,
+						size + (size >> 1) + 16));
+			}
+			System.arraycopy(points, 0, values, size, points.length);
+			size += points.length;
+		}
+
+		private Object[] toArray() {
+			return values.length == size ? values : Arrays.copyOf(values,
+					size);
+		}
+
+	}
+
 	public BaseData(boolean appendExtraBrackets) {
 		this.appendExtraBrackets = appendExtraBrackets;
 		subSeries = new ArrayList<Object>();
@@ -36,9 +69,20 @@ public class BaseData<T> implements Serializable {
 	}
 
 	protected List<Object> getSeries() {
+		// subclasses work with plain arrays
+		for (int i = 0; i < series.size(); i++) {
+			if (series.get(i) instanceof Points) {
+				series.set(i, ((Points) series.get(i)).toArray());
+			}
+		}
 		return series;
 	}
 
+	private static Object[] toArray(Object serie) {
+		return serie instanceof Points ? ((Points) serie).toArray()
+				: (Object[]) serie;
+	}
+
 	@SuppressWarnings("unchecked")
 	protected T clean() {
 		series = new ArrayList<Object>();
@@ -70,44 +114,120 @@ public class BaseData<T> implements Serializable {
 		return (T) this;
 	}
 
-	public Object getSeriesValue(int seriesIndex, int pointIndex) {
-		List<Object> series = this.series;
+	private void flushSubSeries() {
 		if (hasSubSeries() && !subSeries.isEmpty()) {
 			series.add(subSeries.toArray(new Object[][] {}));
+			subSeries = new ArrayList<Object>();
+		}
+	}
+
+	protected Object[] toPoints(Object... points) {
+		if (hasSubSeries() && points != null && points.length > 0
+				&& !ObjectHelper.isArray(points[0])) {
+			// single point given with its values
+			return new Object[] { points };
+		}
+		return points;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T addPoints(int seriesIndex, Object... points) {
+		flushSubSeries();
+		if (points == null || seriesIndex < 0 || seriesIndex >= series.size()) {
+			return (T) this;
+		}
+		points = toPoints(points);
+
+		Object serie = series.get(seriesIndex);
+		if (!(serie instanceof Points)) {
+			serie = new Points((Object[]) serie);
+			series.set(seriesIndex, serie);
 		}
+		((Points) serie).add(points);
+		return (T) this;
+	}
 
+	public int getSeriesCount() {
+		return series.size()
+				+ (hasSubSeries() && !subSeries.isEmpty() ? 1 : 0);
+	}
+
+	public int getPointCount(int seriesIndex) {
+		flushSubSeries();
+		if (seriesIndex < 0 || seriesIndex >= series.size()) {
+			return 0;
+		}
+		Object serie = series.get(seriesIndex);
+		return serie instanceof Points ? ((Points) serie).size
+				: ((Object[]) serie).length;
+	}
+
+	public Object getSeriesValue(int seriesIndex, int pointIndex) {
+		flushSubSeries();
 		try {
-			Object[] serie = (Object[]) series.get(seriesIndex);
-			return serie[pointIndex];
+			Object serie = series.get(seriesIndex);
+			if (serie instanceof Points) {
+				Points points = (Points) serie;
+				return pointIndex < points.size ? points.values[pointIndex]
+						: null;
+			}
+			return ((Object[]) serie)[pointIndex];
 		} catch (Exception e) {
 			return null;
 		}
 	}
 
-	public String getValue() {
-		if (hasSubSeries() && !subSeries.isEmpty()) {
-			series.add(subSeries.toArray(new Object[][] {}));
-			subSeries = new ArrayList<Object>();
+	private void writeSerie(StringBuilder value, Object serie) {
+		Object[] data = toArray(serie);
+		boolean written = data instanceof Object[][] ? ObjectHelper
+				.writeArrayString(value, (Object[][]) data) : ObjectHelper
+				.writeArrayString(value, (Object[]) data);
+		if (!written) {
+			value.append("null");
 		}
+	}
 
-		StringBuilder dataSeries = new StringBuilder();
-		for (Object data : series) {
-			if (dataSeries.length() > 0) {
-				dataSeries.append(", ");
-			}
-			if (data instanceof Object[][]) {
-				dataSeries
-						.append(ObjectHelper.toArrayString((Object[][]) data));
-			} else {
-				dataSeries.append(ObjectHelper.toArrayString((Object[]) data));
+	public void writeTo(StringBuilder value) {
+		flushSubSeries();
+
+		value.append(appendExtraBrackets ? "[" : "");
+		for (int i = 0; i < series.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
 			}
+			writeSerie(value, series.get(i));
 		}
+		value.append(appendExtraBrackets ? "]" : "");
+	}
+
+	public void writeBinaryTo(StringBuilder value) {
+		flushSubSeries();
 
-		if (appendExtraBrackets) {
-			dataSeries.insert(0, "[").append("]");
+		value.append(appendExtraBrackets ? "[" : "");
+		for (int i = 0; i < series.size(); i++) {
+			Object[] data = toArray(series.get(i));
+			if (i > 0) {
+				value.append(", ");
+			}
+			// series which can not be split into columns are sent as text
+			if (!BinaryDataHelper.writeSerie(value, data,
+					data instanceof Object[][])) {
+				writeSerie(value, data);
+			}
 		}
+		value.append(appendExtraBrackets ? "]" : "");
+	}
 
-		return dataSeries.toString();
+	public String getBinaryValue() {
+		StringBuilder value = new StringBuilder(series.size() * 16 + 2);
+		writeBinaryTo(value);
+		return value.toString();
+	}
+
+	public String getValue() {
+		StringBuilder value = new StringBuilder(series.size() * 16 + 2);
+		writeTo(value);
+		return value.toString();
 	}
 
 	public boolean hasSubSeries() {
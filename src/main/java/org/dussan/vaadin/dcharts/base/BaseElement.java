@@ -16,16 +16,25 @@
 package org.dussan.vaadin.dcharts.base;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.dussan.vaadin.dcharts.helpers.ClassHelper;
 
 @SuppressWarnings("serial")
 public abstract class BaseElement<T> implements Serializable, Cloneable {
 
-	private Map<String, Object> defaultValues = new HashMap<String, Object>();
+	// element which is written at the moment, see getCachedValue
+	private static final ThreadLocal<BaseElement<?>> WRITING = new ThreadLocal<BaseElement<?>>();
+	// shared read only table, see ClassHelper.getStaticFieldValues
+	private Map<String, Object> defaultValues = Collections.emptyMap();
+	// elements whose cached value includes this element, every change is
+	// pushed up to them so they never have to look at their children
+	private transient Set<BaseElement<?>> parents = null;
+	private transient String cachedValue = null;
 
 	public BaseElement() {
 	}
@@ -36,6 +45,37 @@ public abstract class BaseElement<T> implements Serializable, Cloneable {
 		this.defaultValues = ClassHelper.getStaticFieldValues(defaultValues);
 	}
 
+	protected void modified() {
+		cachedValue = null;
+		if (parents != null) {
+			for (BaseElement<?> parent : parents) {
+				parent.modified();
+			}
+		}
+	}
+
+	public String getCachedValue() {
+		BaseElement<?> parent = WRITING.get();
+		if (parent != null) {
+			if (parents == null) {
+				parents = Collections
+						.newSetFromMap(new WeakHashMap<BaseElement<?>, Boolean>());
+			}
+			parents.add(parent);
+		}
+		if (cachedValue == null) {
+			StringBuilder value = new StringBuilder();
+			WRITING.set(this);
+			try {
+				writeTo(value);
+			} finally {
+				WRITING.set(parent);
+			}
+			cachedValue = value.toString();
+		}
+		return cachedValue;
+	}
+
 	public String getName() {
 		return (getClass().getSimpleName().substring(0, 1).toLowerCase() + getClass()
 				.getSimpleName().substring(1));
@@ -58,6 +98,7 @@ public abstract class BaseElement<T> implements Serializable, Cloneable {
 			}
 		} catch (Exception e) {
 		}
+		modified();
 		return (T) this;
 	}
 
@@ -65,6 +106,8 @@ public abstract class BaseElement<T> implements Serializable, Cloneable {
 	public T includeDefault() {
 		try {
 			Object object = this.clone();
+			// copy is not part of any tree yet
+			((BaseElement<?>) object).parents = null;
 			Map<String, Object> values = ClassHelper.getFieldValues(object);
 			for (Entry<String, Object> entry : values.entrySet()) {
 				String fieldName = entry.getKey();
@@ -74,14 +117,22 @@ public abstract class BaseElement<T> implements Serializable, Cloneable {
 							defaultValues.get(fieldName));
 				}
 			}
+			((BaseElement<?>) object).modified();
 			return (T) object;
 		} catch (CloneNotSupportedException e) {
 			return (T) this;
 		}
 	}
 
+	public void writeTo(StringBuilder value) {
+		String tempValue = getValue();
+		if (tempValue != null) {
+			value.append(tempValue);
+		}
+	}
+
 	public boolean isEmpty() {
-		return !(getValue() != null && getValue().length() > 0);
+		return getCachedValue().length() == 0;
 	}
 
 	@Override
@@ -18,13 +18,15 @@ package org.dussan.vaadin.dcharts.base.elements;
 import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.directions.AnimationDirections;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings({ "serial", "unchecked" })
+@JsonSerializable
 public class Animation<T> extends BaseElement<T> {
 
-	private Boolean show = null;
-	private AnimationDirections direction = null;
-	private Integer speed = null;
+	Boolean show = null;
+	AnimationDirections direction = null;
+	Integer speed = null;
 
 	public Animation(Object defaultAnimation) {
 		super(defaultAnimation);
@@ -44,6 +46,7 @@ public class Animation<T> extends BaseElement<T> {
 
 	public T setShow(boolean show) {
 		this.show = show;
+		modified();
 		return (T) this;
 	}
 
@@ -53,6 +56,7 @@ public class Animation<T> extends BaseElement<T> {
 
 	public T setDirection(AnimationDirections animationDirections) {
 		this.direction = animationDirections;
+		modified();
 		return (T) this;
 	}
 
@@ -62,6 +66,7 @@ public class Animation<T> extends BaseElement<T> {
 
 	public T setSpeed(int speed) {
 		this.speed = speed;
+		modified();
 		return (T) this;
 	}
 
@@ -70,4 +75,9 @@ public class Animation<T> extends BaseElement<T> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
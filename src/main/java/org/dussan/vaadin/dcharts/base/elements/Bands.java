@@ -19,18 +19,20 @@ import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.defaults.DefaultBands;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Bands extends BaseElement<Bands> {
 
 	private static final long serialVersionUID = -1412286451731459408L;
-	private Boolean show = null;
-	private Object[] hiData = null;
-	private Object[] lowData = null;
-	private String color = null;
-	private Boolean showLines = null;
-	private Boolean fill = null;
-	private String fillColor = null;
-	private String interval = null;
+	Boolean show = null;
+	Object[] hiData = null;
+	Object[] lowData = null;
+	String color = null;
+	Boolean showLines = null;
+	Boolean fill = null;
+	String fillColor = null;
+	String interval = null;
 
 	public Bands() {
 		super(new DefaultBands());
@@ -70,6 +72,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -79,6 +82,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setHiData(Object[] hiData) {
 		this.hiData = hiData;
+		modified();
 		return this;
 	}
 
@@ -88,6 +92,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setLowData(Object[] lowData) {
 		this.lowData = lowData;
+		modified();
 		return this;
 	}
 
@@ -97,6 +102,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -106,6 +112,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setShowLines(boolean showLines) {
 		this.showLines = showLines;
+		modified();
 		return this;
 	}
 
@@ -115,6 +122,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -124,6 +132,7 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setFillColor(String fillColor) {
 		this.fillColor = fillColor;
+		modified();
 		return this;
 	}
 
@@ -133,12 +142,14 @@ public class Bands extends BaseElement<Bands> {
 
 	public Bands setInterval(Object interval) {
 		this.interval = interval.toString();
+		modified();
 		return this;
 	}
 
 	public Bands setInterval(Object upperInterval, Object lowerInterval) {
 		this.interval = ObjectHelper
 				.toArrayString(upperInterval, lowerInterval);
+		modified();
 		return this;
 	}
 
@@ -147,4 +158,9 @@ public class Bands extends BaseElement<Bands> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
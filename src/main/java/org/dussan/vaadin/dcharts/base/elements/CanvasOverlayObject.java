@@ -20,29 +20,31 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings({ "serial", "unchecked" })
+@JsonSerializable
 public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
-	private String name = null;
-	private Boolean show = null;
-	private Integer lineWidth = null;
-	private LineCaps lineCap = null;
-	private String color = null;
-	private Boolean shadow = null;
-	private Integer shadowAngle = null;
-	private Integer shadowOffset = null;
-	private Integer shadowDepth = null;
-	private String shadowAlpha = null;
-	private XYaxes xaxis = null;
-	private XYaxes yaxis = null;
-	private Boolean showTooltip = null;
-	private Float showTooltipPrecision = null;
-	private TooltipLocations tooltipLocation = null;
-	private Boolean fadeTooltip = null;
-	private TooltipFadeSpeeds tooltipFadeSpeed = null;
-	private Integer tooltipOffset = null;
-	private String tooltipFormatString = null;
+	String name = null;
+	Boolean show = null;
+	Integer lineWidth = null;
+	LineCaps lineCap = null;
+	String color = null;
+	Boolean shadow = null;
+	Integer shadowAngle = null;
+	Integer shadowOffset = null;
+	Integer shadowDepth = null;
+	String shadowAlpha = null;
+	XYaxes xaxis = null;
+	XYaxes yaxis = null;
+	Boolean showTooltip = null;
+	Float showTooltipPrecision = null;
+	TooltipLocations tooltipLocation = null;
+	Boolean fadeTooltip = null;
+	TooltipFadeSpeeds tooltipFadeSpeed = null;
+	Integer tooltipOffset = null;
+	String tooltipFormatString = null;
 
 	public CanvasOverlayObject(Object defaultOverlayLineBase) {
 		super(defaultOverlayLineBase);
@@ -82,6 +84,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setName(String name) {
 		this.name = name;
+		modified();
 		return (T) this;
 	}
 
@@ -91,6 +94,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShow(boolean show) {
 		this.show = show;
+		modified();
 		return (T) this;
 	}
 
@@ -100,6 +104,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setLineWidth(int lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return (T) this;
 	}
 
@@ -109,6 +114,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setLineCap(LineCaps lineCaps) {
 		this.lineCap = lineCaps;
+		modified();
 		return (T) this;
 	}
 
@@ -118,6 +124,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setColor(String color) {
 		this.color = color;
+		modified();
 		return (T) this;
 	}
 
@@ -127,6 +134,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return (T) this;
 	}
 
@@ -136,6 +144,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return (T) this;
 	}
 
@@ -145,6 +154,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShadowOffset(int shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return (T) this;
 	}
 
@@ -154,6 +164,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return (T) this;
 	}
 
@@ -163,6 +174,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShadowAlpha(String shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return (T) this;
 	}
 
@@ -172,6 +184,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setXaxis(XYaxes xaxis) {
 		this.xaxis = xaxis;
+		modified();
 		return (T) this;
 	}
 
@@ -181,6 +194,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setYaxis(XYaxes yaxis) {
 		this.yaxis = yaxis;
+		modified();
 		return (T) this;
 	}
 
@@ -190,6 +204,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShowTooltip(boolean showTooltip) {
 		this.showTooltip = showTooltip;
+		modified();
 		return (T) this;
 	}
 
@@ -199,6 +214,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setShowTooltipPrecision(float showTooltipPrecision) {
 		this.showTooltipPrecision = showTooltipPrecision;
+		modified();
 		return (T) this;
 	}
 
@@ -208,6 +224,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setTooltipLocation(TooltipLocations tooltipLocations) {
 		this.tooltipLocation = tooltipLocations;
+		modified();
 		return (T) this;
 	}
 
@@ -217,6 +234,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setFadeTooltip(boolean fadeTooltip) {
 		this.fadeTooltip = fadeTooltip;
+		modified();
 		return (T) this;
 	}
 
@@ -226,6 +244,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setTooltipFadeSpeed(TooltipFadeSpeeds tooltipFadeSpeeds) {
 		this.tooltipFadeSpeed = tooltipFadeSpeeds;
+		modified();
 		return (T) this;
 	}
 
@@ -235,6 +254,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setTooltipOffset(int tooltipOffset) {
 		this.tooltipOffset = tooltipOffset;
+		modified();
 		return (T) this;
 	}
 
@@ -244,6 +264,7 @@ public abstract class CanvasOverlayObject<T> extends BaseElement<T> {
 
 	public T setTooltipFormatString(String tooltipFormatString) {
 		this.tooltipFormatString = tooltipFormatString;
+		modified();
 		return (T) this;
 	}
 
@@ -20,23 +20,25 @@ import org.dussan.vaadin.dcharts.defaults.DefaultPointLabels;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.locations.PointLabelLocations;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PointLabels extends BaseElement<PointLabels> {
 
 	private static final long serialVersionUID = 471943357672977491L;
-	private Boolean show = null;
-	private String location = null;
-	private Boolean labelsFromSeries = null;
-	private Integer seriesLabelIndex = null;
-	private String[] labels = null;
-	private Boolean stackedValue = null;
-	private Integer ypadding = null;
-	private Integer xpadding = null;
-	private Boolean escapeHTML = null;
-	private Integer edgeTolerance = null;
-	private String formatter = null;
-	private String formatString = null;
-	private Boolean hideZeros = null;
+	Boolean show = null;
+	String location = null;
+	Boolean labelsFromSeries = null;
+	Integer seriesLabelIndex = null;
+	String[] labels = null;
+	Boolean stackedValue = null;
+	Integer ypadding = null;
+	Integer xpadding = null;
+	Boolean escapeHTML = null;
+	Integer edgeTolerance = null;
+	String formatter = null;
+	String formatString = null;
+	Boolean hideZeros = null;
 
 	public PointLabels() {
 		super(new DefaultPointLabels());
@@ -69,6 +71,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -78,6 +81,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setLocation(PointLabelLocations location) {
 		this.location = location.getLocation();
+		modified();
 		return this;
 	}
 
@@ -87,6 +91,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setLabelsFromSeries(boolean labelsFromSeries) {
 		this.labelsFromSeries = labelsFromSeries;
+		modified();
 		return this;
 	}
 
@@ -96,6 +101,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setSeriesLabelIndex(int seriesLabelIndex) {
 		this.seriesLabelIndex = seriesLabelIndex;
+		modified();
 		return this;
 	}
 
@@ -105,6 +111,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setLabels(String... labels) {
 		this.labels = labels;
+		modified();
 		return this;
 	}
 
@@ -114,6 +121,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setStackedValue(boolean stackedValue) {
 		this.stackedValue = stackedValue;
+		modified();
 		return this;
 	}
 
@@ -123,6 +131,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setYpadding(int ypadding) {
 		this.ypadding = ypadding;
+		modified();
 		return this;
 	}
 
@@ -132,6 +141,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setXpadding(int xpadding) {
 		this.xpadding = xpadding;
+		modified();
 		return this;
 	}
 
@@ -141,6 +151,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setEscapeHTML(boolean escapeHTML) {
 		this.escapeHTML = escapeHTML;
+		modified();
 		return this;
 	}
 
@@ -150,6 +161,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setEdgeTolerance(int edgeTolerance) {
 		this.edgeTolerance = edgeTolerance;
+		modified();
 		return this;
 	}
 
@@ -162,6 +174,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 			formatString = DefaultPointLabels.FORMAT_STRING;
 		}
 		this.formatter = formatter.getFormatter();
+		modified();
 		return this;
 	}
 
@@ -171,6 +184,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setFormatString(String formatString) {
 		this.formatString = formatString;
+		modified();
 		return this;
 	}
 
@@ -180,6 +194,7 @@ public class PointLabels extends BaseElement<PointLabels> {
 
 	public PointLabels setHideZeros(boolean hideZeros) {
 		this.hideZeros = hideZeros;
+		modified();
 		return this;
 	}
 
@@ -188,4 +203,9 @@ public class PointLabels extends BaseElement<PointLabels> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
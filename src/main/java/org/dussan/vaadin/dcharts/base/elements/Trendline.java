@@ -20,23 +20,25 @@ import org.dussan.vaadin.dcharts.base.renderers.MarkerRenderer;
 import org.dussan.vaadin.dcharts.defaults.DefaultTrendline;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.TrendlineType;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Trendline extends BaseElement<Trendline> {
 
 	private static final long serialVersionUID = -231072495125799926L;
-	private Boolean show = null;
-	private String color = null;
-	private String renderer = null;
-	private String rendererOptions = null;
-	private String label = null;
-	private String type = null;
-	private Boolean shadow = null;
-	private String markerRenderer = null;
-	private Float lineWidth = null;
-	private Integer shadowAngle = null;
-	private Float shadowOffset = null;
-	private Float shadowAlpha = null;
-	private Integer shadowDepth = null;
+	Boolean show = null;
+	String color = null;
+	String renderer = null;
+	String rendererOptions = null;
+	String label = null;
+	String type = null;
+	Boolean shadow = null;
+	String markerRenderer = null;
+	Float lineWidth = null;
+	Integer shadowAngle = null;
+	Float shadowOffset = null;
+	Float shadowAlpha = null;
+	Integer shadowDepth = null;
 
 	public Trendline() {
 		super(new DefaultTrendline());
@@ -70,6 +72,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -79,6 +82,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -88,6 +92,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setRenderer(String renderer) {
 		this.renderer = renderer;
+		modified();
 		return this;
 	}
 
@@ -97,6 +102,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setRendererOptions(String rendererOptions) {
 		this.rendererOptions = rendererOptions;
+		modified();
 		return this;
 	}
 
@@ -106,6 +112,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -115,6 +122,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setType(TrendlineType type) {
 		this.type = type.getType();
+		modified();
 		return this;
 	}
 
@@ -124,6 +132,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return this;
 	}
 
@@ -133,6 +142,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setMarkerRenderer(MarkerRenderer markerRenderer) {
 		this.markerRenderer = markerRenderer.getValue();
+		modified();
 		return this;
 	}
 
@@ -142,6 +152,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -151,6 +162,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return this;
 	}
 
@@ -160,6 +172,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShadowOffset(float shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -169,6 +182,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -178,6 +192,7 @@ public class Trendline extends BaseElement<Trendline> {
 
 	public Trendline setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -186,4 +201,9 @@ public class Trendline extends BaseElement<Trendline> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -27,6 +27,7 @@ import org.dussan.vaadin.dcharts.metadata.renderers.AxisRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.LabelRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.TickRenderers;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.axis.CategoryAxisRenderer;
 import org.dussan.vaadin.dcharts.renderers.axis.DateAxisRenderer;
 import org.dussan.vaadin.dcharts.renderers.axis.LinearAxisRenderer;
@@ -37,40 +38,41 @@ import org.dussan.vaadin.dcharts.renderers.label.CanvasAxisLabelRenderer;
 import org.dussan.vaadin.dcharts.renderers.tick.AxisTickRenderer;
 import org.dussan.vaadin.dcharts.renderers.tick.CanvasAxisTickRenderer;
 
+@JsonSerializable
 public class XYaxis extends BaseElement<XYaxis> {
 
 	private static final long serialVersionUID = 3764337696773865742L;
-	private Boolean show = null;
-	private XYaxes name = null;
-	private TickRenderers tickRenderer = null;
-	private TickRenderer<?> tickOptions = null;
-	private LabelRenderers labelRenderer = null;
-	private LabelRenderer<?> labelOptions = null;
-	private String label = null;
-	private Boolean showLabel = null;
-	private Object min = null;
-	private Object max = null;
-	private Boolean autoscale = null;
-	private Float pad = null;
-	private Float padMax = null;
-	private Float padMin = null;
-	private Ticks ticks = null;
-	private Integer numberTicks = null;
-	private Float tickInterval = null;
-	private AxisRenderers renderer = null;
-	private AxisRenderer<?> rendererOptions = null;
-	private Boolean showTicks = null;
-	private Boolean showTickMarks = null;
-	private Boolean showMinorTicks = null;
-	private Boolean drawMajorGridlines = null;
-	private Boolean drawMinorGridlines = null;
-	private Boolean drawMajorTickMarks = null;
-	private Boolean drawMinorTickMarks = null;
-	private Boolean useSeriesColor = null;
-	private Float borderWidth = null;
-	private String borderColor = null;
-	private Boolean syncTicks = null;
-	private Integer tickSpacing = null;
+	Boolean show = null;
+	XYaxes name = null;
+	TickRenderers tickRenderer = null;
+	TickRenderer<?> tickOptions = null;
+	LabelRenderers labelRenderer = null;
+	LabelRenderer<?> labelOptions = null;
+	String label = null;
+	Boolean showLabel = null;
+	Object min = null;
+	Object max = null;
+	Boolean autoscale = null;
+	Float pad = null;
+	Float padMax = null;
+	Float padMin = null;
+	Ticks ticks = null;
+	Integer numberTicks = null;
+	Float tickInterval = null;
+	AxisRenderers renderer = null;
+	AxisRenderer<?> rendererOptions = null;
+	Boolean showTicks = null;
+	Boolean showTickMarks = null;
+	Boolean showMinorTicks = null;
+	Boolean drawMajorGridlines = null;
+	Boolean drawMinorGridlines = null;
+	Boolean drawMajorTickMarks = null;
+	Boolean drawMinorTickMarks = null;
+	Boolean useSeriesColor = null;
+	Float borderWidth = null;
+	String borderColor = null;
+	Boolean syncTicks = null;
+	Integer tickSpacing = null;
 
 	public XYaxis() {
 		super(new DefaultXYaxis());
@@ -140,6 +142,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -149,6 +152,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setAxis(XYaxes xyAxes) {
 		this.name = xyAxes;
+		modified();
 		return this;
 	}
 
@@ -161,6 +165,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 			this.tickOptions = DefaultXYaxis.TICK_OPTIONS;
 		}
 		this.tickRenderer = tickRenderers;
+		modified();
 		return this;
 	}
 
@@ -176,6 +181,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 			setTickRenderer(TickRenderers.CANVAS);
 		}
 		this.tickOptions = tickRenderer;
+		modified();
 		return this;
 	}
 
@@ -188,6 +194,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 			this.labelOptions = DefaultXYaxis.LABEL_OPTIONS;
 		}
 		this.labelRenderer = labelRenderers;
+		modified();
 		return this;
 	}
 
@@ -204,6 +211,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 			setLabelRenderer(LabelRenderers.CANVAS);
 		}
 		this.labelOptions = labelRenderer;
+		modified();
 		return this;
 	}
 
@@ -213,6 +221,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -222,6 +231,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -231,6 +241,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setMin(Object min) {
 		this.min = min;
+		modified();
 		return this;
 	}
 
@@ -240,6 +251,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setMax(Object max) {
 		this.max = max;
+		modified();
 		return this;
 	}
 
@@ -249,6 +261,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setAutoscale(boolean autoscale) {
 		this.autoscale = autoscale;
+		modified();
 		return this;
 	}
 
@@ -258,6 +271,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setPad(float pad) {
 		this.pad = pad;
+		modified();
 		return this;
 	}
 
@@ -267,6 +281,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setPadMax(float padMax) {
 		this.padMax = padMax;
+		modified();
 		return this;
 	}
 
@@ -276,6 +291,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setPadMin(float padMin) {
 		this.padMin = padMin;
+		modified();
 		return this;
 	}
 
@@ -285,6 +301,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setTicks(Ticks ticks) {
 		this.ticks = ticks;
+		modified();
 		return this;
 	}
 
@@ -294,6 +311,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setNumberTicks(int numberTicks) {
 		this.numberTicks = numberTicks;
+		modified();
 		return this;
 	}
 
@@ -303,6 +321,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setTickInterval(float tickInterval) {
 		this.tickInterval = tickInterval;
+		modified();
 		return this;
 	}
 
@@ -326,6 +345,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 		}
 
 		this.renderer = axisRenderers;
+		modified();
 		return this;
 	}
 
@@ -346,6 +366,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 			setRenderer(AxisRenderers.PYRAMID);
 		}
 		this.rendererOptions = axisRenderer;
+		modified();
 		return this;
 	}
 
@@ -355,6 +376,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setShowTicks(boolean showTicks) {
 		this.showTicks = showTicks;
+		modified();
 		return this;
 	}
 
@@ -364,6 +386,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setShowTickMarks(boolean showTickMarks) {
 		this.showTickMarks = showTickMarks;
+		modified();
 		return this;
 	}
 
@@ -373,6 +396,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setShowMinorTicks(boolean showMinorTicks) {
 		this.showMinorTicks = showMinorTicks;
+		modified();
 		return this;
 	}
 
@@ -382,6 +406,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setDrawMajorGridlines(boolean drawMajorGridlines) {
 		this.drawMajorGridlines = drawMajorGridlines;
+		modified();
 		return this;
 	}
 
@@ -391,6 +416,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setDrawMinorGridlines(boolean drawMinorGridlines) {
 		this.drawMinorGridlines = drawMinorGridlines;
+		modified();
 		return this;
 	}
 
@@ -400,6 +426,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setDrawMajorTickMarks(boolean drawMajorTickMarks) {
 		this.drawMajorTickMarks = drawMajorTickMarks;
+		modified();
 		return this;
 	}
 
@@ -409,6 +436,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setDrawMinorTickMarks(boolean drawMinorTickMarks) {
 		this.drawMinorTickMarks = drawMinorTickMarks;
+		modified();
 		return this;
 	}
 
@@ -418,6 +446,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setUseSeriesColor(boolean useSeriesColor) {
 		this.useSeriesColor = useSeriesColor;
+		modified();
 		return this;
 	}
 
@@ -427,6 +456,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setBorderWidth(float borderWidth) {
 		this.borderWidth = borderWidth;
+		modified();
 		return this;
 	}
 
@@ -436,6 +466,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setBorderColor(String borderColor) {
 		this.borderColor = borderColor;
+		modified();
 		return this;
 	}
 
@@ -445,6 +476,7 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setSyncTicks(boolean syncTicks) {
 		this.syncTicks = syncTicks;
+		modified();
 		return this;
 	}
 
@@ -454,13 +486,24 @@ public class XYaxis extends BaseElement<XYaxis> {
 
 	public XYaxis setTickSpacing(int tickSpacing) {
 		this.tickSpacing = tickSpacing;
+		modified();
 		return this;
 	}
 
 	@Override
 	public String getValue() {
-		String jsonString = JsonHelper.toJsonString(this);
-		return (jsonString.contains(",") ? jsonString : null);
+		StringBuilder value = new StringBuilder();
+		writeTo(value);
+		return (value.length() > 0 ? value.toString() : null);
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		int length = value.length();
+		if (JsonHelper.writeJsonString(value, this)
+				&& value.indexOf(",", length) < 0) {
+			value.setLength(length);
+		}
 	}
 
 }
@@ -30,6 +30,7 @@ import org.dussan.vaadin.dcharts.metadata.lines.LineJoins;
 import org.dussan.vaadin.dcharts.metadata.lines.LinePatterns;
 import org.dussan.vaadin.dcharts.metadata.renderers.MarkerRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.SeriesRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.series.BarRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.BlockRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.BubbleRenderer;
@@ -39,46 +40,47 @@ import org.dussan.vaadin.dcharts.renderers.series.OhlcRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.PieRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.PyramidRenderer;
 
+@JsonSerializable
 public class XYseries extends BaseElement<XYseries> {
 
 	private static final long serialVersionUID = 1536298263012996186L;
-	private Boolean show = null;
-	private Xaxes xaxis = null;
-	private Yaxes yaxis = null;
-	private Float gridBorderWidth = null;
-	private SeriesRenderers renderer = null;
-	private SeriesRenderer<?> rendererOptions = null;
-	private String label = null;
-	private Boolean showLabel = null;
-	private String color = null;
-	private String negativeColor = null;
-	private Float lineWidth = null;
-	private LineJoins lineJoin = null;
-	private LineCaps lineCap = null;
-	private Object linePattern = null;
-	private Boolean shadow = null;
-	private Integer shadowAngle = null;
-	private Float shadowOffset = null;
-	private Integer shadowDepth = null;
-	private Float shadowAlpha = null;
-	private Boolean breakOnNull = null;
-	private MarkerRenderers markerRenderer = null;
-	private MarkerRenderer markerOptions = null;
-	private Boolean showLine = null;
-	private Boolean showMarker = null;
-	private Integer index = null;
-	private Boolean fill = null;
-	private String fillColor = null;
-	private String fillAlpha = null;
-	private Boolean fillAndStroke = null;
-	private Boolean disableStack = null;
-	private Integer neighborThreshold = null;
-	private Boolean fillToZero = null;
-	private Integer fillToValue = null;
-	private FillAxes fillAxis = null;
-	private Boolean useNegativeColors = null;
-	private PointLabels pointLabels = null;
-	private Trendline trendline = null;
+	Boolean show = null;
+	Xaxes xaxis = null;
+	Yaxes yaxis = null;
+	Float gridBorderWidth = null;
+	SeriesRenderers renderer = null;
+	SeriesRenderer<?> rendererOptions = null;
+	String label = null;
+	Boolean showLabel = null;
+	String color = null;
+	String negativeColor = null;
+	Float lineWidth = null;
+	LineJoins lineJoin = null;
+	LineCaps lineCap = null;
+	Object linePattern = null;
+	Boolean shadow = null;
+	Integer shadowAngle = null;
+	Float shadowOffset = null;
+	Integer shadowDepth = null;
+	Float shadowAlpha = null;
+	Boolean breakOnNull = null;
+	MarkerRenderers markerRenderer = null;
+	MarkerRenderer markerOptions = null;
+	Boolean showLine = null;
+	Boolean showMarker = null;
+	Integer index = null;
+	Boolean fill = null;
+	String fillColor = null;
+	String fillAlpha = null;
+	Boolean fillAndStroke = null;
+	Boolean disableStack = null;
+	Integer neighborThreshold = null;
+	Boolean fillToZero = null;
+	Integer fillToValue = null;
+	FillAxes fillAxis = null;
+	Boolean useNegativeColors = null;
+	PointLabels pointLabels = null;
+	Trendline trendline = null;
 
 	public XYseries() {
 		super(new DefaultXYseries());
@@ -278,6 +280,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -287,6 +290,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setXaxis(Xaxes xaxis) {
 		this.xaxis = xaxis;
+		modified();
 		return this;
 	}
 
@@ -296,6 +300,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setYaxis(Yaxes yaxis) {
 		this.yaxis = yaxis;
+		modified();
 		return this;
 	}
 
@@ -305,6 +310,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setGridBorderWidth(float gridBorderWidth) {
 		this.gridBorderWidth = gridBorderWidth;
+		modified();
 		return this;
 	}
 
@@ -317,6 +323,7 @@ public class XYseries extends BaseElement<XYseries> {
 			rendererOptions = DefaultXYseries.RENDERER_OPTIONS;
 		}
 		this.renderer = seriesRenderers;
+		modified();
 		return this;
 	}
 
@@ -343,6 +350,7 @@ public class XYseries extends BaseElement<XYseries> {
 			setRenderer(SeriesRenderers.PYRAMID);
 		}
 		this.rendererOptions = seriesRenderer;
+		modified();
 		return this;
 	}
 
@@ -352,6 +360,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -361,6 +370,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -370,6 +380,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -379,6 +390,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setNegativeColor(String negativeColor) {
 		this.negativeColor = negativeColor;
+		modified();
 		return this;
 	}
 
@@ -388,6 +400,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -397,6 +410,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setLineJoin(LineJoins lineJoin) {
 		this.lineJoin = lineJoin;
+		modified();
 		return this;
 	}
 
@@ -406,6 +420,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setLineCap(LineCaps lineCap) {
 		this.lineCap = lineCap;
+		modified();
 		return this;
 	}
 
@@ -415,16 +430,19 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setLinePattern(LinePatterns linePattern) {
 		this.linePattern = linePattern;
+		modified();
 		return this;
 	}
 
 	public XYseries setLinePattern(String linePattern) {
 		this.linePattern = linePattern;
+		modified();
 		return this;
 	}
 
 	public XYseries setLinePattern(int... linePattern) {
 		this.linePattern = Arrays.toString(linePattern);
+		modified();
 		return this;
 	}
 
@@ -434,6 +452,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return this;
 	}
 
@@ -443,6 +462,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return this;
 	}
 
@@ -452,6 +472,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShadowOffset(float shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -461,6 +482,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -470,6 +492,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -479,6 +502,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setBreakOnNull(boolean breakOnNull) {
 		this.breakOnNull = breakOnNull;
+		modified();
 		return this;
 	}
 
@@ -491,6 +515,7 @@ public class XYseries extends BaseElement<XYseries> {
 			markerOptions = DefaultXYseries.MARKER_OPTIONS;
 		}
 		this.markerRenderer = markerRenderers;
+		modified();
 		return this;
 	}
 
@@ -500,6 +525,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setMarkerOptions(MarkerRenderer markerRenderer) {
 		this.markerOptions = markerRenderer;
+		modified();
 		return this;
 	}
 
@@ -509,6 +535,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShowLine(boolean showLine) {
 		this.showLine = showLine;
+		modified();
 		return this;
 	}
 
@@ -518,6 +545,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setShowMarker(boolean showMarker) {
 		this.showMarker = showMarker;
+		modified();
 		return this;
 	}
 
@@ -527,6 +555,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setIndex(int index) {
 		this.index = index;
+		modified();
 		return this;
 	}
 
@@ -536,6 +565,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -545,6 +575,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillColor(String fillColor) {
 		this.fillColor = fillColor;
+		modified();
 		return this;
 	}
 
@@ -554,6 +585,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillAlpha(String fillAlpha) {
 		this.fillAlpha = fillAlpha;
+		modified();
 		return this;
 	}
 
@@ -563,6 +595,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillAndStroke(boolean fillAndStroke) {
 		this.fillAndStroke = fillAndStroke;
+		modified();
 		return this;
 	}
 
@@ -572,6 +605,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setDisableStack(boolean disableStack) {
 		this.disableStack = disableStack;
+		modified();
 		return this;
 	}
 
@@ -581,6 +615,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setNeighborThreshold(int neighborThreshold) {
 		this.neighborThreshold = neighborThreshold;
+		modified();
 		return this;
 	}
 
@@ -590,6 +625,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillToZero(boolean fillToZero) {
 		this.fillToZero = fillToZero;
+		modified();
 		return this;
 	}
 
@@ -599,6 +635,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillToValue(int fillToValue) {
 		this.fillToValue = fillToValue;
+		modified();
 		return this;
 	}
 
@@ -608,6 +645,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setFillAxis(FillAxes fillAxis) {
 		this.fillAxis = fillAxis;
+		modified();
 		return this;
 	}
 
@@ -617,6 +655,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setUseNegativeColors(boolean useNegativeColors) {
 		this.useNegativeColors = useNegativeColors;
+		modified();
 		return this;
 	}
 
@@ -626,6 +665,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setPointLabels(PointLabels pointLabels) {
 		this.pointLabels = pointLabels;
+		modified();
 		return this;
 	}
 
@@ -635,6 +675,7 @@ public class XYseries extends BaseElement<XYseries> {
 
 	public XYseries setTrendline(Trendline trendline) {
 		this.trendline = trendline;
+		modified();
 		return this;
 	}
 
@@ -643,4 +684,9 @@ public class XYseries extends BaseElement<XYseries> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -17,11 +17,13 @@ package org.dussan.vaadin.dcharts.base.renderers;
 
 import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings("serial")
+@JsonSerializable
 public class GridRenderer<T> extends BaseElement<T> {
 
-	private String shadowRenderer = null;
+	String shadowRenderer = null;
 
 	public GridRenderer(Object defaultGridRenderer) {
 		super(defaultGridRenderer);
@@ -37,6 +39,7 @@ public class GridRenderer<T> extends BaseElement<T> {
 
 	public GridRenderer<T> setShadowRenderer(ShadowRenderer shadowRenderer) {
 		this.shadowRenderer = shadowRenderer.getValue();
+		modified();
 		return this;
 	}
 
@@ -45,4 +48,9 @@ public class GridRenderer<T> extends BaseElement<T> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
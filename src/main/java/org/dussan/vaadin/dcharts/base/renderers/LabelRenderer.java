@@ -17,15 +17,17 @@ package org.dussan.vaadin.dcharts.base.renderers;
 
 import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings("serial")
+@JsonSerializable
 public class LabelRenderer<T> extends BaseElement<T> {
 
-	private Boolean show = null;
-	private String label = null;
-	private String fontFamily = null;
-	private String fontSize = null;
-	private String textColor = null;
+	Boolean show = null;
+	String label = null;
+	String fontFamily = null;
+	String fontSize = null;
+	String textColor = null;
 
 	public LabelRenderer(Object defaultLabelRenderer) {
 		super(defaultLabelRenderer);
@@ -47,6 +49,7 @@ public class LabelRenderer<T> extends BaseElement<T> {
 
 	public LabelRenderer<T> setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -56,6 +59,7 @@ public class LabelRenderer<T> extends BaseElement<T> {
 
 	public LabelRenderer<T> setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -65,6 +69,7 @@ public class LabelRenderer<T> extends BaseElement<T> {
 
 	public LabelRenderer<T> setFontFamily(String fontFamily) {
 		this.fontFamily = fontFamily;
+		modified();
 		return this;
 	}
 
@@ -74,6 +79,7 @@ public class LabelRenderer<T> extends BaseElement<T> {
 
 	public LabelRenderer<T> setFontSize(String fontSize) {
 		this.fontSize = fontSize;
+		modified();
 		return this;
 	}
 
@@ -83,6 +89,7 @@ public class LabelRenderer<T> extends BaseElement<T> {
 
 	public LabelRenderer<T> setTextColor(String textColor) {
 		this.textColor = textColor;
+		modified();
 		return this;
 	}
 
@@ -91,4 +98,9 @@ public class LabelRenderer<T> extends BaseElement<T> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
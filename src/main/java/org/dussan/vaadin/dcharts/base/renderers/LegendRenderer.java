@@ -17,8 +17,10 @@ package org.dussan.vaadin.dcharts.base.renderers;
 
 import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings("serial")
+@JsonSerializable
 public class LegendRenderer<T> extends BaseElement<T> {
 
 	public LegendRenderer() {
@@ -33,4 +35,9 @@ public class LegendRenderer<T> extends BaseElement<T> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
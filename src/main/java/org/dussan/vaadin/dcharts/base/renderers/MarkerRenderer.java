@@ -19,22 +19,24 @@ import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.defaults.renderers.DefaultMarkRenderer;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.styles.MarkerStyles;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	private static final long serialVersionUID = -4877366038538699897L;
-	private Boolean show = null;
-	private String style = null;
-	private Integer lineWidth = null;
-	private Float size = null;
-	private String color = null;
-	private Boolean shadow = null;
-	private Integer shadowAngle = null;
-	private Integer shadowOffset = null;
-	private Integer shadowDepth = null;
-	private String shadowAlpha = null;
-	private ShadowRenderer shadowRenderer = null;
-	private ShapeRenderer shapeRenderer = null;
+	Boolean show = null;
+	String style = null;
+	Integer lineWidth = null;
+	Float size = null;
+	String color = null;
+	Boolean shadow = null;
+	Integer shadowAngle = null;
+	Integer shadowOffset = null;
+	Integer shadowDepth = null;
+	String shadowAlpha = null;
+	ShadowRenderer shadowRenderer = null;
+	ShapeRenderer shapeRenderer = null;
 
 	public MarkerRenderer() {
 		super(new DefaultMarkRenderer());
@@ -66,6 +68,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -75,6 +78,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setStyle(MarkerStyles style) {
 		this.style = style.getStyle();
+		modified();
 		return this;
 	}
 
@@ -84,6 +88,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setLineWidth(int lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -93,6 +98,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setSize(float size) {
 		this.size = size;
+		modified();
 		return this;
 	}
 
@@ -102,6 +108,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -111,6 +118,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return this;
 	}
 
@@ -120,6 +128,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return this;
 	}
 
@@ -129,6 +138,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadowOffset(int shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -138,6 +148,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -147,6 +158,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadowAlpha(String shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -156,6 +168,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShadowRenderer(ShadowRenderer shadowRenderer) {
 		this.shadowRenderer = shadowRenderer;
+		modified();
 		return this;
 	}
 
@@ -165,6 +178,7 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 
 	public MarkerRenderer setShapeRenderer(ShapeRenderer shapeRenderer) {
 		this.shapeRenderer = shapeRenderer;
+		modified();
 		return this;
 	}
 
@@ -173,4 +187,9 @@ public class MarkerRenderer extends BaseElement<MarkerRenderer> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
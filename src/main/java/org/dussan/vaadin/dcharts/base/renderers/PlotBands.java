@@ -19,15 +19,17 @@ import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.defaults.DefaultPlotBands;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.BandAxes;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PlotBands extends BaseElement<PlotBands> {
 
 	private static final long serialVersionUID = 5763222398408909878L;
-	private Boolean show = null;
-	private String color = null;
-	private String axis = null;
-	private String start = null;
-	private String interval = null;
+	Boolean show = null;
+	String color = null;
+	String axis = null;
+	String start = null;
+	String interval = null;
 
 	public PlotBands() {
 		super(new DefaultPlotBands());
@@ -50,6 +52,7 @@ public class PlotBands extends BaseElement<PlotBands> {
 
 	public PlotBands setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -59,6 +62,7 @@ public class PlotBands extends BaseElement<PlotBands> {
 
 	public PlotBands setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -68,6 +72,7 @@ public class PlotBands extends BaseElement<PlotBands> {
 
 	public PlotBands setAxis(BandAxes axis) {
 		this.axis = axis.getAxis();
+		modified();
 		return this;
 	}
 
@@ -77,6 +82,7 @@ public class PlotBands extends BaseElement<PlotBands> {
 
 	public PlotBands setStart(String start) {
 		this.start = start;
+		modified();
 		return this;
 	}
 
@@ -86,6 +92,7 @@ public class PlotBands extends BaseElement<PlotBands> {
 
 	public PlotBands setInterval(String interval) {
 		this.interval = interval;
+		modified();
 		return this;
 	}
 
@@ -94,4 +101,9 @@ public class PlotBands extends BaseElement<PlotBands> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
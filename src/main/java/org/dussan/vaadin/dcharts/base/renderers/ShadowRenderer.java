@@ -20,21 +20,23 @@ import org.dussan.vaadin.dcharts.defaults.renderers.DefaultShadowRenderer;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.lines.LineJoins;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	private static final long serialVersionUID = 5539486637181974635L;
-	private Integer angle = null;
-	private Integer offset = null;
-	private Float alpha = null;
-	private Float lineWidth = null;
-	private String lineJoin = null;
-	private String lineCap = null;
-	private Boolean closePath = null;
-	private Boolean fill = null;
-	private Integer depth = null;
-	private String strokeStyle = null;
-	private Boolean isarc = null;
+	Integer angle = null;
+	Integer offset = null;
+	Float alpha = null;
+	Float lineWidth = null;
+	String lineJoin = null;
+	String lineCap = null;
+	Boolean closePath = null;
+	Boolean fill = null;
+	Integer depth = null;
+	String strokeStyle = null;
+	Boolean isarc = null;
 
 	public ShadowRenderer() {
 		super(new DefaultShadowRenderer());
@@ -63,6 +65,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setAngle(int angle) {
 		this.angle = angle;
+		modified();
 		return this;
 	}
 
@@ -72,6 +75,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setOffset(int offset) {
 		this.offset = offset;
+		modified();
 		return this;
 	}
 
@@ -81,6 +85,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setAlpha(float alpha) {
 		this.alpha = alpha;
+		modified();
 		return this;
 	}
 
@@ -90,6 +95,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -99,6 +105,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setLineJoin(LineJoins lineJoin) {
 		this.lineJoin = lineJoin.getJoin();
+		modified();
 		return this;
 	}
 
@@ -108,6 +115,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setLineCap(LineCaps lineCap) {
 		this.lineCap = lineCap.getCap();
+		modified();
 		return this;
 	}
 
@@ -117,6 +125,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setClosePath(boolean closePath) {
 		this.closePath = closePath;
+		modified();
 		return this;
 	}
 
@@ -126,6 +135,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -135,6 +145,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setDepth(int depth) {
 		this.depth = depth;
+		modified();
 		return this;
 	}
 
@@ -144,6 +155,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setStrokeStyle(String strokeStyle) {
 		this.strokeStyle = strokeStyle;
+		modified();
 		return this;
 	}
 
@@ -153,6 +165,7 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 
 	public ShadowRenderer setIsarc(boolean isarc) {
 		this.isarc = isarc;
+		modified();
 		return this;
 	}
 
@@ -161,4 +174,9 @@ public class ShadowRenderer extends BaseElement<ShadowRenderer> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -21,22 +21,24 @@ import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.lines.LineJoins;
 import org.dussan.vaadin.dcharts.metadata.lines.LinePatterns;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	private static final long serialVersionUID = -5780499830438418058L;
-	private Float lineWidth = null;
-	private String linePattern = null;
-	private String lineJoin = null;
-	private String lineCap = null;
-	private Boolean closePath = null;
-	private Boolean fill = null;
-	private Boolean isarc = null;
-	private Boolean fillRect = null;
-	private Boolean strokeRect = null;
-	private Boolean clearRect = null;
-	private String strokeStyle = null;
-	private String fillStyle = null;
+	Float lineWidth = null;
+	String linePattern = null;
+	String lineJoin = null;
+	String lineCap = null;
+	Boolean closePath = null;
+	Boolean fill = null;
+	Boolean isarc = null;
+	Boolean fillRect = null;
+	Boolean strokeRect = null;
+	Boolean clearRect = null;
+	String strokeStyle = null;
+	String fillStyle = null;
 
 	public ShapeRenderer() {
 		super(new DefaultShapeRenderer());
@@ -67,6 +69,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -76,6 +79,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setLinePattern(LinePatterns linePattern) {
 		this.linePattern = linePattern.getPattern();
+		modified();
 		return this;
 	}
 
@@ -85,6 +89,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setLineJoin(LineJoins lineJoin) {
 		this.lineJoin = lineJoin.getJoin();
+		modified();
 		return this;
 	}
 
@@ -94,6 +99,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setLineCap(LineCaps lineCap) {
 		this.lineCap = lineCap.getCap();
+		modified();
 		return this;
 	}
 
@@ -103,6 +109,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setClosePath(boolean closePath) {
 		this.closePath = closePath;
+		modified();
 		return this;
 	}
 
@@ -112,6 +119,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setIsarc(boolean isarc) {
 		this.isarc = isarc;
+		modified();
 		return this;
 	}
 
@@ -130,6 +139,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setFillRect(boolean fillRect) {
 		this.fillRect = fillRect;
+		modified();
 		return this;
 	}
 
@@ -139,6 +149,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setStrokeRect(boolean strokeRect) {
 		this.strokeRect = strokeRect;
+		modified();
 		return this;
 	}
 
@@ -148,6 +159,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setClearRect(boolean clearRect) {
 		this.clearRect = clearRect;
+		modified();
 		return this;
 	}
 
@@ -157,6 +169,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setStrokeStyle(String strokeStyle) {
 		this.strokeStyle = strokeStyle;
+		modified();
 		return this;
 	}
 
@@ -166,6 +179,7 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 
 	public ShapeRenderer setFillStyle(String fillStyle) {
 		this.fillStyle = fillStyle;
+		modified();
 		return this;
 	}
 
@@ -174,4 +188,9 @@ public class ShapeRenderer extends BaseElement<ShapeRenderer> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -19,23 +19,25 @@ import org.dussan.vaadin.dcharts.base.BaseElement;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickMarks;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
 @SuppressWarnings("serial")
+@JsonSerializable
 public class TickRenderer<T> extends BaseElement<T> {
 
-	private TickMarks mark = null;
-	private Boolean showMark = null;
-	private Boolean showGridline = null;
-	private Boolean isMinorTick = null;
-	private Integer markSize = null;
-	private Boolean show = null;
-	private Boolean showLabel = null;
-	private TickFormatters formatter = null;
-	private String prefix = null;
-	private String formatString = null;
-	private String fontFamily = null;
-	private String fontSize = null;
-	private String textColor = null;
+	TickMarks mark = null;
+	Boolean showMark = null;
+	Boolean showGridline = null;
+	Boolean isMinorTick = null;
+	Integer markSize = null;
+	Boolean show = null;
+	Boolean showLabel = null;
+	TickFormatters formatter = null;
+	String prefix = null;
+	String formatString = null;
+	String fontFamily = null;
+	String fontSize = null;
+	String textColor = null;
 
 	public TickRenderer(Object defaultTickRenderer) {
 		super(defaultTickRenderer);
@@ -68,6 +70,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setMark(TickMarks tickMarks) {
 		this.mark = tickMarks;
+		modified();
 		return this;
 	}
 
@@ -77,6 +80,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setShowMark(boolean showMark) {
 		this.showMark = showMark;
+		modified();
 		return this;
 	}
 
@@ -86,6 +90,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setShowGridline(boolean showGridline) {
 		this.showGridline = showGridline;
+		modified();
 		return this;
 	}
 
@@ -95,6 +100,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setIsMinorTick(boolean isMinorTick) {
 		this.isMinorTick = isMinorTick;
+		modified();
 		return this;
 	}
 
@@ -104,6 +110,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setMarkSize(int markSize) {
 		this.markSize = markSize;
+		modified();
 		return this;
 	}
 
@@ -113,6 +120,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -122,6 +130,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -131,6 +140,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setFormatter(TickFormatters tickFormatters) {
 		this.formatter = tickFormatters;
+		modified();
 		return this;
 	}
 
@@ -140,6 +150,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setPrefix(String prefix) {
 		this.prefix = prefix;
+		modified();
 		return this;
 	}
 
@@ -149,6 +160,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setFormatString(String formatString) {
 		this.formatString = formatString;
+		modified();
 		return this;
 	}
 
@@ -158,6 +170,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setFontFamily(String fontFamily) {
 		this.fontFamily = fontFamily;
+		modified();
 		return this;
 	}
 
@@ -167,6 +180,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setFontSize(String fontSize) {
 		this.fontSize = fontSize;
+		modified();
 		return this;
 	}
 
@@ -176,6 +190,7 @@ public class TickRenderer<T> extends BaseElement<T> {
 
 	public TickRenderer<T> setTextColor(String textColor) {
 		this.textColor = textColor;
+		modified();
 		return this;
 	}
 
@@ -184,4 +199,9 @@ public class TickRenderer<T> extends BaseElement<T> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -23,18 +23,20 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class DashedHorizontalLine extends
 		CanvasOverlayObject<DashedHorizontalLine> {
 
 	private static final long serialVersionUID = -4160349364942773081L;
-	private Object y = null;
-	private Object xmin = null;
-	private Object xmax = null;
-	private Object xOffset = null;
-	private Object xminOffset = null;
-	private Object xmaxOffset = null;
-	private Object dashPattern = null;
+	Object y = null;
+	Object xmin = null;
+	Object xmax = null;
+	Object xOffset = null;
+	Object xminOffset = null;
+	Object xmaxOffset = null;
+	Object dashPattern = null;
 
 	public DashedHorizontalLine() {
 		super(new DefaultDashedHorizontalLine());
@@ -85,6 +87,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setY(Object y) {
 		this.y = y;
+		modified();
 		return this;
 	}
 
@@ -94,6 +97,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setXmin(Object xmin) {
 		this.xmin = xmin;
+		modified();
 		return this;
 	}
 
@@ -103,6 +107,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setXmax(Object xmax) {
 		this.xmax = xmax;
+		modified();
 		return this;
 	}
 
@@ -112,6 +117,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setXoffset(Object xOffset) {
 		this.xOffset = xOffset;
+		modified();
 		return this;
 	}
 
@@ -121,6 +127,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setXminOffset(Object xminOffset) {
 		this.xminOffset = xminOffset;
+		modified();
 		return this;
 	}
 
@@ -130,6 +137,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setXmaxOffset(Object xmaxOffset) {
 		this.xmaxOffset = xmaxOffset;
+		modified();
 		return this;
 	}
 
@@ -139,6 +147,7 @@ public class DashedHorizontalLine extends
 
 	public DashedHorizontalLine setDashPattern(int... dashPattern) {
 		this.dashPattern = ArrayUtils.toObject(dashPattern);
+		modified();
 		return this;
 	}
 
@@ -147,4 +156,9 @@ public class DashedHorizontalLine extends
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
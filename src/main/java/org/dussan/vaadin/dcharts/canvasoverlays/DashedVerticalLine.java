@@ -23,17 +23,19 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine> {
 
 	private static final long serialVersionUID = -4089631020571215754L;
-	private Object y = null;
-	private Object xmin = null;
-	private Object xmax = null;
-	private Object xOffset = null;
-	private Object xminOffset = null;
-	private Object xmaxOffset = null;
-	private Object dashPattern = null;
+	Object y = null;
+	Object xmin = null;
+	Object xmax = null;
+	Object xOffset = null;
+	Object xminOffset = null;
+	Object xmaxOffset = null;
+	Object dashPattern = null;
 
 	public DashedVerticalLine() {
 		super(new DefaultDashedVerticalLine());
@@ -84,6 +86,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setY(Object y) {
 		this.y = y;
+		modified();
 		return this;
 	}
 
@@ -93,6 +96,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setXmin(Object xmin) {
 		this.xmin = xmin;
+		modified();
 		return this;
 	}
 
@@ -102,6 +106,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setXmax(Object xmax) {
 		this.xmax = xmax;
+		modified();
 		return this;
 	}
 
@@ -111,6 +116,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setXoffset(Object xOffset) {
 		this.xOffset = xOffset;
+		modified();
 		return this;
 	}
 
@@ -120,6 +126,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setXminOffset(Object xminOffset) {
 		this.xminOffset = xminOffset;
+		modified();
 		return this;
 	}
 
@@ -129,6 +136,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setXmaxOffset(Object xmaxOffset) {
 		this.xmaxOffset = xmaxOffset;
+		modified();
 		return this;
 	}
 
@@ -138,6 +146,7 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 
 	public DashedVerticalLine setDashPattern(int... dashPattern) {
 		this.dashPattern = ArrayUtils.toObject(dashPattern);
+		modified();
 		return this;
 	}
 
@@ -146,4 +155,9 @@ public class DashedVerticalLine extends CanvasOverlayObject<DashedVerticalLine>
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -22,16 +22,18 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	private static final long serialVersionUID = -6557929398675359661L;
-	private Object y = null;
-	private Object xmin = null;
-	private Object xmax = null;
-	private Object xOffset = null;
-	private Object xminOffset = null;
-	private Object xmaxOffset = null;
+	Object y = null;
+	Object xmin = null;
+	Object xmax = null;
+	Object xOffset = null;
+	Object xminOffset = null;
+	Object xmaxOffset = null;
 
 	public HorizontalLine() {
 		super(new DefaultHorizontalLine());
@@ -81,6 +83,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setY(Object y) {
 		this.y = y;
+		modified();
 		return this;
 	}
 
@@ -90,6 +93,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setXmin(Object xmin) {
 		this.xmin = xmin;
+		modified();
 		return this;
 	}
 
@@ -99,6 +103,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setXmax(Object xmax) {
 		this.xmax = xmax;
+		modified();
 		return this;
 	}
 
@@ -108,6 +113,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setXoffset(Object xOffset) {
 		this.xOffset = xOffset;
+		modified();
 		return this;
 	}
 
@@ -117,6 +123,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setXminOffset(Object xminOffset) {
 		this.xminOffset = xminOffset;
+		modified();
 		return this;
 	}
 
@@ -126,6 +133,7 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 
 	public HorizontalLine setXmaxOffset(Object xmaxOffset) {
 		this.xmaxOffset = xmaxOffset;
+		modified();
 		return this;
 	}
 
@@ -134,4 +142,9 @@ public class HorizontalLine extends CanvasOverlayObject<HorizontalLine> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
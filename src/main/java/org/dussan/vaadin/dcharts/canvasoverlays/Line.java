@@ -22,12 +22,14 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Line extends CanvasOverlayObject<Line> {
 
 	private static final long serialVersionUID = 130184348284953408L;
-	private Object[][] start = null;
-	private Object[][] stop = null;
+	Object[][] start = null;
+	Object[][] stop = null;
 
 	public Line() {
 		super(new DefaultLine());
@@ -71,6 +73,7 @@ public class Line extends CanvasOverlayObject<Line> {
 
 	public Line setStart(Object[][] start) {
 		this.start = start;
+		modified();
 		return this;
 	}
 
@@ -80,6 +83,7 @@ public class Line extends CanvasOverlayObject<Line> {
 
 	public Line setStop(Object[][] stop) {
 		this.stop = stop;
+		modified();
 		return this;
 	}
 
@@ -88,4 +92,9 @@ public class Line extends CanvasOverlayObject<Line> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
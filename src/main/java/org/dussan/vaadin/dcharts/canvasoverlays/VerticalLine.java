@@ -22,16 +22,18 @@ import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.lines.LineCaps;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	private static final long serialVersionUID = 3072230748011549186L;
-	private Object y = null;
-	private Object xmin = null;
-	private Object xmax = null;
-	private Object xOffset = null;
-	private Object xminOffset = null;
-	private Object xmaxOffset = null;
+	Object y = null;
+	Object xmin = null;
+	Object xmax = null;
+	Object xOffset = null;
+	Object xminOffset = null;
+	Object xmaxOffset = null;
 
 	public VerticalLine() {
 		super(new DefaultVerticalLine());
@@ -80,6 +82,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setY(Object y) {
 		this.y = y;
+		modified();
 		return this;
 	}
 
@@ -89,6 +92,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setXmin(Object xmin) {
 		this.xmin = xmin;
+		modified();
 		return this;
 	}
 
@@ -98,6 +102,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setXmax(Object xmax) {
 		this.xmax = xmax;
+		modified();
 		return this;
 	}
 
@@ -107,6 +112,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setXoffset(Object xOffset) {
 		this.xOffset = xOffset;
+		modified();
 		return this;
 	}
 
@@ -116,6 +122,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setXminOffset(Object xminOffset) {
 		this.xminOffset = xminOffset;
+		modified();
 		return this;
 	}
 
@@ -125,6 +132,7 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 
 	public VerticalLine setXmaxOffset(Object xmaxOffset) {
 		this.xmaxOffset = xmaxOffset;
+		modified();
 		return this;
 	}
 
@@ -133,4 +141,9 @@ public class VerticalLine extends CanvasOverlayObject<VerticalLine> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -67,6 +67,9 @@ public class DChartsConnector extends AbstractComponentContainerConnector
 
 			@Override
 			public void setChartData(Map<Integer, String> chartData) {
+				// large data series are loaded from the connector resource
+				getWidget().setDataSeriesUrl(getResourceUrl("dataSeries"));
+				getWidget().setChartImageUrl(getResourceUrl("chartImage"));
 				getWidget().processChartData(chartData);
 			}
 		});
@@ -17,6 +17,11 @@ package org.dussan.vaadin.dcharts.client.events;
 
 public class EventObject {
 
+	// answers to server requests, dropping a repeated one would leave the
+	// server waiting for it
+	private static final String[] RESPONSE_EVENTS = new String[] {
+			"requestedImageData", "downloadImageData", "imageHash",
+			"functions", "optionsTemplate" };
 	private String id = null;
 	private String event = null;
 	private String data = null;
@@ -27,6 +32,15 @@ public class EventObject {
 		this.data = data;
 	}
 
+	public boolean isResponse() {
+		for (String responseEvent : RESPONSE_EVENTS) {
+			if (responseEvent.equals(event)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		EventObject eventObject = (EventObject) obj;
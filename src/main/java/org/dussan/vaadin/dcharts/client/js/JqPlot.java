@@ -23,6 +23,7 @@ import com.google.gwt.resources.client.TextResource;
 public interface JqPlot extends ClientBundle {
 
 	public static final JqPlot CODE = GWT.create(JqPlot.class);
+	public static final String VERSION = "1.0.7r1224";
 
 	@Source("code/jqplot/jquery.jqplot.min.css")
 	@CssResource.NotStrict
@@ -41,92 +42,9 @@ public interface JqPlot extends ClientBundle {
 	@Source("code/jqplot/excanvas.min.js")
 	public TextResource exCanvas();
 
-	// jqPlot plugins
-	@Source("code/jqplot/plugins/jqplot.barRenderer.min.js")
-	public TextResource barRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.BezierCurveRenderer.min.js")
-	public TextResource bezierCurveRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.blockRenderer.min.js")
-	public TextResource blockRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.bubbleRenderer.min.js")
-	public TextResource bubbleRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.canvasAxisLabelRenderer.min.js")
-	public TextResource canvasAxisLabelRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.canvasAxisTickRenderer.min.js")
-	public TextResource canvasAxisTickRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.canvasOverlay.min.js")
-	public TextResource canvasOverlay();
-
+	// canvas text renderer is used by jqPlot itself, other plugins are
+	// loaded from the public path of the widgetset when they are needed
 	@Source("code/jqplot/plugins/jqplot.canvasTextRenderer.min.js")
 	public TextResource canvasTextRenderer();
 
-	@Source("code/jqplot/plugins/jqplot.categoryAxisRenderer.min.js")
-	public TextResource categoryAxisRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.ciParser.min.js")
-	public TextResource ciParser();
-
-	@Source("code/jqplot/plugins/jqplot.cursor.min.js")
-	public TextResource cursor();
-
-	@Source("code/jqplot/plugins/jqplot.dateAxisRenderer.min.js")
-	public TextResource dateAxisRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.donutRenderer.min.js")
-	public TextResource donutRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.dragable.min.js")
-	public TextResource dragable();
-
-	@Source("code/jqplot/plugins/jqplot.enhancedLegendRenderer.min.js")
-	public TextResource enhancedLegendRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.funnelRenderer.min.js")
-	public TextResource funnelRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.highlighter.min.js")
-	public TextResource highlighter();
-
-	@Source("code/jqplot/plugins/jqplot.json2.min.js")
-	public TextResource json2();
-
-	@Source("code/jqplot/plugins/jqplot.logAxisRenderer.min.js")
-	public TextResource logAxisRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.mekkoAxisRenderer.min.js")
-	public TextResource mekkoAxisRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.mekkoRenderer.min.js")
-	public TextResource mekkoRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.meterGaugeRenderer.min.js")
-	public TextResource meterGaugeRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.ohlcRenderer.min.js")
-	public TextResource ohlcRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.pieRenderer.min.js")
-	public TextResource pieRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.pointLabels.min.js")
-	public TextResource pointLabels();
-
-	@Source("code/jqplot/plugins/jqplot.pyramidAxisRenderer.min.js")
-	public TextResource pyramidAxisRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.pyramidGridRenderer.min.js")
-	public TextResource pyramidGridRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.pyramidRenderer.min.js")
-	public TextResource pyramidRenderer();
-
-	@Source("code/jqplot/plugins/jqplot.trendline.min.js")
-	public TextResource trendline();
-
 }
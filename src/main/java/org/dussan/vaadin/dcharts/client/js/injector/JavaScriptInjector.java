@@ -15,13 +15,25 @@
  */
 package org.dussan.vaadin.dcharts.client.js.injector;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dussan.vaadin.dcharts.client.js.JqPlot;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.HeadElement;
 import com.google.gwt.dom.client.ScriptElement;
+import com.google.gwt.user.client.Command;
 
 public class JavaScriptInjector {
 
+	private static final String PLUGINS_PATH = "dcharts/jqplot/plugins/";
+	// promise of each requested plugin, shared by all charts of the page
+	private static final Map<String, JavaScriptObject> PLUGINS = new HashMap<String, JavaScriptObject>();
 	private static HeadElement head;
 
 	public static void inject(String javascript) {
@@ -31,6 +43,62 @@ public class JavaScriptInjector {
 		head.appendChild(element);
 	}
 
+	public static JavaScriptObject injectPlugin(String plugin) {
+		if (!PLUGINS.containsKey(plugin)) {
+			// versioned url is cached by the browser apart from the widgetset
+			PLUGINS.put(plugin, load(plugin, GWT.getModuleBaseURL()
+					+ PLUGINS_PATH + plugin + "?v=" + JqPlot.VERSION));
+		}
+		return PLUGINS.get(plugin);
+	}
+
+	private static void loadFailed(String plugin, String error) {
+		// plugin is requested again by the next drawing
+		PLUGINS.remove(plugin);
+		String message = "dCharts: loading of jqPlot plugin " + plugin
+				+ " failed (" + error + "), chart is not drawn";
+		GWT.log(message);
+		logError(message);
+	}
+
+	private static native void logError(String message)
+	/*-{
+		if ($wnd.console && $wnd.console.error) {
+			$wnd.console.error(message);
+		}
+	}-*/;
+
+	private static native JavaScriptObject load(String plugin, String url)
+	/*-{
+		return $wnd.jQuery.ajax({url: url, dataType: 'script', cache: true})
+			.fail(function(request, status, error) {
+				@org.dussan.vaadin.dcharts.client.js.injector.JavaScriptInjector::loadFailed(Ljava/lang/String;Ljava/lang/String;)(plugin, status + (error ? ': ' + error : ''));
+			});
+	}-*/;
+
+	public static native void whenLoaded(JsArray<JavaScriptObject> plugins,
+			Command command)
+	/*-{
+		// command runs when every plugin is settled and all of them loaded,
+		// jQuery.when would fire on the first failure already
+		var pending = plugins.length + 1;
+		var settled = function() {
+			if (--pending > 0) {
+				return;
+			}
+			for (var i = 0; i < plugins.length; i++) {
+				if (plugins[i].state() != 'resolved') {
+					return;
+				}
+			}
+			command.@com.google.gwt.user.client.Command::execute()();
+		};
+		for (var i = 0; i < plugins.length; i++) {
+			plugins[i].always(settled);
+		}
+		settled();
+	}-*/;
+
 	private static HeadElement getHead() {
 		if (head == null) {
 			Element element = Document.get().getElementsByTagName("head")
@@ -62,130 +130,4 @@ public class JavaScriptInjector {
 		return false;
 	}-*/;
 
-	public static native boolean isBarRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.BarRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isBlockRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.BlockRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isBubbleRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.BubbleRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isCategoryAxisRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.CategoryAxisRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isCanvasAxisLabelRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.CanvasAxisLabelRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isCanvasAxisTickRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.CanvasAxisTickRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isCanvasOverlayLibraryLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.CanvasOverlay){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isCursorLibraryLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.Cursor){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isDateAxisRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.DateAxisRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isDonutRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.DonutRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isEnhancedLegendRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.EnhancedLegendRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isHighlighterLibraryLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.Highlighter){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isLogAxisRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.LogAxisRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isMeterGaugeRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.MeterGaugeRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isPieRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.PieRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isPointLabelsLibraryLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.PointLabels){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isPyramidAxisRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.PyramidAxisRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isPyramidGridRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.PyramidGridRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isPyramidRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.PyramidRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isOHLCRendererLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.OHLCRenderer){return true;}
-		return false;
-	}-*/;
-
-	public static native boolean isTrendlineLibraryLoaded()
-	/*-{
-		if($wnd.jQuery.jqplot.Trendline){return true;}
-		return false;
-	}-*/;
-
 }
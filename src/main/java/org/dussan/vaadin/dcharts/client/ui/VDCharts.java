@@ -15,8 +15,13 @@
  */
 package org.dussan.vaadin.dcharts.client.ui;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.dussan.vaadin.dcharts.client.events.EventObject;
 import org.dussan.vaadin.dcharts.client.events.EventProcessor;
@@ -30,6 +35,9 @@ import org.dussan.vaadin.dcharts.client.handlers.PyramidDataHandler;
 import org.dussan.vaadin.dcharts.client.js.JqPlot;
 import org.dussan.vaadin.dcharts.client.js.injector.JavaScriptInjector;
 
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.client.Scheduler.RepeatingCommand;
 import com.google.gwt.dom.client.Element;
@@ -40,6 +48,12 @@ import com.google.gwt.event.logical.shared.HasValueChangeHandlers;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.DOM;
 import com.vaadin.client.BrowserInfo;
 import com.vaadin.client.ui.VHorizontalLayout;
@@ -67,12 +81,27 @@ public class VDCharts extends VHorizontalLayout implements
 	private static final int CHART_IMAGE_CHANGE_EVENT = 17;
 	private static final int DOWNLOAD_BUTTON_ENABLE = 18;
 	private static final int DOWNLOAD_BUTTON_LOCATION = 19;
+	private static final int APPEND_POINTS = 20;
+	private static final int DOWNSAMPLING = 21;
+	private static final int DATA_SERIES_HASH = 22;
+	private static final int OPTIONS_TEMPLATE = 23;
+	private static final int OPTIONS_PATCH = 24;
+	private static final int PLUGINS = 25;
+	private static final int FUNCTIONS = 26;
+	private static final int CHART_IMAGE_REQUEST = 27;
+	private static final int CHART_IMAGE_DOWNLOAD = 28;
 
 	private static final int DOWNLOAD_BUTTON_LOCATION_TOP_LEFT = 0;
 	private static final int DOWNLOAD_BUTTON_LOCATION_TOP_RIGHT = 1;
 	private static final int DOWNLOAD_BUTTON_LOCATION_BOTTOM_LEFT = 2;
 	private static final int DOWNLOAD_BUTTON_LOCATION_BOTTOM_RIGHT = 3;
 
+	// option templates are shared by all charts of the page
+	private static final Map<String, String> TEMPLATES = new HashMap<String, String>();
+	private static final Map<String, JavaScriptObject> EVALUATED_TEMPLATES = new HashMap<String, JavaScriptObject>();
+	// ids of functions registered for the page
+	private static final Set<String> REGISTERED_FUNCTIONS = new HashSet<String>();
+
 	private Map<Integer, String> chartData = null;
 	private Element chart = null;
 	private EventObject eventObject = null;
@@ -85,8 +114,37 @@ public class VDCharts extends VHorizontalLayout implements
 	private String chartId = null;
 	private String decimalSeparator = null;
 	private String thousandsSeparator = null;
-	private String dataSeries = null;
-	private String options = null;
+	private JavaScriptObject dataSeries = null;
+	private JavaScriptObject options = null;
+	private JavaScriptObject plot = null;
+	private String optionsValue = null;
+	private String optionsTemplate = null;
+	private List<String> plugins = new ArrayList<String>();
+	private List<String> functions = new ArrayList<String>();
+	private Integer marginTop = null;
+	private Integer marginRight = null;
+	private Integer marginBottom = null;
+	private Integer marginLeft = null;
+	private String width = null;
+	private String height = null;
+	private Boolean downsampling = null;
+	private boolean dataSeriesReceived = false;
+	private Integer chartWidth = null;
+	private Integer reportedChartWidth = null;
+	private String dataSeriesUrl = null;
+	private String chartImageUrl = null;
+	private String dataSeriesHash = null;
+	private boolean loadingDataSeries = false;
+	private boolean chartImageRequested = false;
+	private boolean chartImageHashRequested = false;
+	// hash of the last chart image sent to the server
+	private String chartImageHash = null;
+	private int chartImageUploads = 0;
+	private boolean downloadClickCaptured = false;
+	private boolean downloadAllowed = false;
+	// only the last requested drawing is done when plugins are loaded
+	private int drawRequests = 0;
+	private List<Map<Integer, String>> queuedChartData = new ArrayList<Map<Integer, String>>();
 
 	private Boolean enableChartDataMouseEnterEvent = null;
 	private Boolean enableChartDataMouseLeaveEvent = null;
@@ -100,6 +158,11 @@ public class VDCharts extends VHorizontalLayout implements
 		downloadButtonLocation = DOWNLOAD_BUTTON_LOCATION_TOP_RIGHT;
 		decimalSeparator = ".";
 		thousandsSeparator = ",";
+		optionsValue = "{}";
+		marginTop = 0;
+		marginRight = 0;
+		marginBottom = 0;
+		marginLeft = 0;
 		setStyleName("v-dcharts");
 
 		// enable/disable mouse events
@@ -139,33 +202,276 @@ public class VDCharts extends VHorizontalLayout implements
 		}
 	}
 
-	private native void showChart(VDCharts c, String id, String dataSeries,
-			String options, String decimalSeparator, String thousandsSeparator)
+	private native JavaScriptObject evaluate(String value)
+	/*-{
+		// javascript references are sent as {"$js": "$wnd.a.b"} tokens,
+		// other expressions are registered functions, nothing is evaluated
+		var resolve = function(object) {
+			if (object === null || typeof object != 'object') {
+				return object;
+			} else if (object.hasOwnProperty('$js')) {
+				var expression = object['$js'];
+				if (!/^\$wnd(\.[A-Za-z_$][\w$]*)+$/.test(expression)) {
+					throw new Error('dCharts: unsupported javascript reference ' + expression);
+				}
+				var path = expression.split('.');
+				var reference = $wnd;
+				for (var i = 1; i < path.length && reference != null; i++) {
+					reference = reference[path[i]];
+				}
+				return reference;
+			}
+			for (var key in object) {
+				if (object.hasOwnProperty(key)) {
+					object[key] = resolve(object[key]);
+				}
+			}
+			return object;
+		};
+		try {
+			var parsed = JSON.parse(value);
+			return value.indexOf('"$js"') < 0 ? parsed : resolve(parsed);
+		} catch (e) {
+			// serializer bugs are reported instead of hidden
+			if ($wnd.console && $wnd.console.error) {
+				$wnd.console.error('dCharts: invalid chart data: ' + e.message);
+			}
+			throw e;
+		}
+	}-*/;
+
+	private static void putTemplate(String id, String value) {
+		if (!TEMPLATES.containsKey(id)) {
+			TEMPLATES.put(id, checkEnabledAnimationEffects(value));
+		}
+	}
+
+	private native String registerTemplate(String value)
+	/*-{
+		if (!value) {
+			return null;
+		}
+		var template = JSON.parse(value);
+		if (template.options) {
+			@org.dussan.vaadin.dcharts.client.ui.VDCharts::putTemplate(Ljava/lang/String;Ljava/lang/String;)(template.id, JSON.stringify(template.options));
+		}
+		return template.id;
+	}-*/;
+
+	private static void putFunction(String id) {
+		REGISTERED_FUNCTIONS.add(id);
+	}
+
+	private native JsArrayString registerFunctions(String value)
+	/*-{
+		// functions are defined once by a script element, not by eval, and
+		// shared by all charts of the page
+		var functions = value ? JSON.parse(value) : [];
+		var ids = [];
+		$wnd.dcharts = $wnd.dcharts || {};
+		$wnd.dcharts.functions = $wnd.dcharts.functions || {};
+		for (var i = 0; i < functions.length; i++) {
+			if (functions[i].source) {
+				@org.dussan.vaadin.dcharts.client.js.injector.JavaScriptInjector::inject(Ljava/lang/String;)('(function($wnd) { $wnd.dcharts.functions['
+						+ JSON.stringify(functions[i].name) + '] = ('
+						+ functions[i].source + '); })(window);');
+				@org.dussan.vaadin.dcharts.client.ui.VDCharts::putFunction(Ljava/lang/String;)(functions[i].id);
+			}
+			ids.push(functions[i].id);
+		}
+		return ids;
+	}-*/;
+
+	private native JavaScriptObject mergeOptions(JavaScriptObject template,
+			JavaScriptObject options)
+	/*-{
+		// chart options override the template, which is left unchanged
+		return $wnd.jQuery.extend(true, {}, template, options);
+	}-*/;
+
+	private native JavaScriptObject parse(String value)
+	/*-{
+		return JSON.parse(value);
+	}-*/;
+
+	private native String stringify(JavaScriptObject value)
+	/*-{
+		return JSON.stringify(value);
+	}-*/;
+
+	private native JavaScriptObject patchOptions(JavaScriptObject options,
+			JavaScriptObject patch)
+	/*-{
+		// json patch operations are applied to options, changed values are
+		// returned for replot, or null if some values were removed
+		var changes = {};
+		var removed = false;
+		for (var i = 0; i < patch.length; i++) {
+			var path = patch[i].path.split('/');
+			var target = options;
+			var change = changes;
+			for (var j = 1; j < path.length; j++) {
+				var key = path[j].replace(/~1/g, '/').replace(/~0/g, '~');
+				if (j == path.length - 1) {
+					if (patch[i].op == 'remove') {
+						delete target[key];
+						removed = true;
+					} else {
+						target[key] = patch[i].value;
+						change[key] = patch[i].value;
+					}
+				} else {
+					if (target[key] == null || typeof target[key] != 'object') {
+						target[key] = {};
+					}
+					if (change[key] == null) {
+						change[key] = {};
+					}
+					target = target[key];
+					change = change[key];
+				}
+			}
+			if (path[1] == 'axes' || path[1] == 'axesDefaults') {
+				changes.resetAxes = true;
+			}
+		}
+		return removed ? null : changes;
+	}-*/;
+
+	private native void replotOptions(VDCharts c, JavaScriptObject plot,
+			JavaScriptObject changes)
+	/*-{
+		// jqPlot merges changed options into the options of the plot
+		plot.replot(changes);
+		c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::sendChartImageToServer()();
+	}-*/;
+
+	private native JavaScriptObject decodeDataSeries(JavaScriptObject dataSeries)
+	/*-{
+		// binary columns are base64 encoded little endian typed arrays
+		var decode = function(column) {
+			if (!column.type) {
+				return column;
+			}
+			var binary = $wnd.atob(column.data);
+			var bytes = new Uint8Array(binary.length);
+			for (var i = 0; i < binary.length; i++) {
+				bytes[i] = binary.charCodeAt(i);
+			}
+			if (column.type == 'f64') {
+				return new Float64Array(bytes.buffer);
+			} else if (column.type == 'f32') {
+				return new Float32Array(bytes.buffer);
+			}
+			// int64 values are read as low and high int32 words
+			var words = new Int32Array(bytes.buffer);
+			var values = new Float64Array(words.length / 2);
+			for (var i = 0; i < values.length; i++) {
+				values[i] = words[2 * i + 1] * 4294967296 + (words[2 * i] >>> 0);
+			}
+			return values;
+		};
+		if (dataSeries && dataSeries.x) {
+			// series with a shared x column are expanded to points
+			var x = decode(dataSeries.x);
+			var series = [];
+			for (var s = 0; s < dataSeries.y.length; s++) {
+				var y = decode(dataSeries.y[s]);
+				var points = [];
+				for (var i = 0; i < x.length; i++) {
+					if (y[i] != null) {
+						points.push([x[i], y[i]]);
+					}
+				}
+				series.push(points);
+			}
+			return series;
+		}
+		for (var s = 0; s < dataSeries.length; s++) {
+			var serie = dataSeries[s];
+			if (serie && serie.column) {
+				dataSeries[s] = Array.prototype.slice.call(decode(serie.column));
+			} else if (serie && serie.columns) {
+				// jqPlot expects arrays of points
+				var columns = [];
+				for (var c = 0; c < serie.columns.length; c++) {
+					columns.push(decode(serie.columns[c]));
+				}
+				var points = new Array(columns[0].length);
+				for (var i = 0; i < points.length; i++) {
+					var point = new Array(columns.length);
+					for (var c = 0; c < columns.length; c++) {
+						point[c] = columns[c][i];
+					}
+					points[i] = point;
+				}
+				dataSeries[s] = points;
+			}
+		}
+		return dataSeries;
+	}-*/;
+
+	private native void showChart(VDCharts c, String id,
+			JavaScriptObject dataSeries, JavaScriptObject options, String width,
+			String height, String decimalSeparator, String thousandsSeparator)
 	/*-{
 		$wnd.jQuery(document).ready(function($){
-		 	var _options = eval("("+options+")");
-		 	var _dataSeries = eval("("+dataSeries+")");
+			// jqPlot copies data and options, so evaluated objects can be reused
+			var _options = $.extend({width: width, height: height}, options);
 			$wnd.jQuery('#'.concat(id)).empty();
 			$.jqplot.sprintf.decimalMark=decimalSeparator;
 			$.jqplot.sprintf.thousandsSeparator=thousandsSeparator;
-			$.jqplot(id, _dataSeries, _options);
+			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::plot = $.jqplot(id, dataSeries, _options);
 			// send first chart image
 			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::sendChartImageToServer()();
 			// and then watch for changes
 			$wnd.jQuery('#'.concat(id)).find('.jqplot-series-canvas').attrchange(function(attrName) {
-				if($wnd.jQuery('#'.concat(id).concat('-button')).size() == 1 && 
-					$wnd.jQuery('#'.concat(id).concat('-button-clone')).size() == 0) {
-					var button = $wnd.jQuery('#'.concat(id).concat('-button'));
-					button.clone().attr('id',button.attr('id').concat('-clone'))
-						.css('top',button.position().top).css('left',button.position().left)
-						.css('position','absolute').appendTo(button.parent());
-					$wnd.jQuery('#'.concat(id).concat('-button-clone')).find('.v-button-caption').css('color','red');
-				}
 				c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::sendChartImageToServer()();
 			});
 		});
 	}-*/;
 
+	private native void appendPoints(VDCharts c, JavaScriptObject dataSeries,
+			JavaScriptObject plot, JavaScriptObject points)
+	/*-{
+		for (var i = 0; i < points.length; i++) {
+			var index = points[i][0];
+			var values = points[i][1];
+			var capacity = points[i][2];
+			var serie = dataSeries[index];
+			var plotSerie = plot != null ? plot.series[index] : null;
+			for (var j = 0; j < values.length; j++) {
+				if (serie) {
+					serie.push(values[j]);
+				}
+				// jqPlot keeps single values as [index, value] points
+				if (plotSerie && plotSerie.data !== serie) {
+					plotSerie.data.push($wnd.jQuery.isArray(values[j]) ? values[j]
+						: [plotSerie.data.length + 1, values[j]]);
+				}
+			}
+			// ring data series, oldest points are dropped
+			if (capacity) {
+				if (serie && serie.length > capacity) {
+					serie.splice(0, serie.length - capacity);
+				}
+				if (plotSerie && plotSerie.data !== serie
+						&& plotSerie.data.length > capacity) {
+					plotSerie.data.splice(0, plotSerie.data.length - capacity);
+					if (values.length > 0 && !$wnd.jQuery.isArray(values[0])) {
+						for (var k = 0; k < plotSerie.data.length; k++) {
+							plotSerie.data[k][0] = k + 1;
+						}
+					}
+				}
+			}
+		}
+		if (plot != null) {
+			plot.replot({resetAxes: true});
+			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::sendChartImageToServer()();
+		}
+	}-*/;
+
 	private native void replotChart(VDCharts c, String id, Boolean clearChart,
 			Boolean resetChartAxes)
 	/*-{
@@ -175,18 +481,121 @@ public class VDCharts extends VHorizontalLayout implements
 		});
 	}-*/;
 
+	private native String getChartImageHash(JavaScriptObject canvas)
+	/*-{
+		// fnv-1a and murmur style hashes of the canvas pixels
+		try {
+			var imul = Math.imul || function(a, b) {
+				return ((a & 0xffff) * b + ((((a >>> 16) * b) & 0xffff) << 16)) | 0;
+			};
+			var pixels = canvas.getContext('2d').getImageData(0, 0,
+				canvas.width, canvas.height).data;
+			var words = new Uint32Array(pixels.buffer, 0, pixels.length >> 2);
+			var first = 0x811c9dc5;
+			var second = 0x9747b28c;
+			for (var i = 0; i < words.length; i++) {
+				first = imul(first ^ words[i], 16777619);
+				second = imul(second ^ words[i], 0x5bd1e995);
+				second ^= second >>> 15;
+			}
+			return canvas.width + 'x' + canvas.height + '-'
+				+ (first >>> 0).toString(16) + '-' + (second >>> 0).toString(16);
+		} catch (e) {
+			return null;
+		}
+	}-*/;
+
 	private native void fireEventForSendingChartImageToServer(VDCharts c,
-			String id)
+			String id, String event, String url)
 	/*-{
 		$wnd.jQuery(document).ready(function($) {
-			var event = 'rawImageData';
-			var data = $wnd.jQuery('#'.concat(id)).jqplotToImageStr();
-			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::fireEvent(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)(id, event, data);
-			$wnd.jQuery('#'.concat(id).concat('-button-clone')).remove();
+			var canvas = $wnd.jQuery('#'.concat(id)).jqplotToImageCanvas();
+			if (!canvas) {
+				return;
+			}
+			var fire = function(data) {
+				c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::fireEvent(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)(id, event, data);
+			};
+			var hash = c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::getChartImageHash(Lcom/google/gwt/core/client/JavaScriptObject;)(canvas);
+			if (event == 'imageHash') {
+				fire(hash);
+				return;
+			}
+			// unchanged chart is neither encoded nor uploaded again
+			if (hash != null && event != 'downloadImageData'
+					&& hash == c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::chartImageHash) {
+				if (event == 'requestedImageData') {
+					fire('unchanged:'.concat(hash));
+				}
+				return;
+			}
+			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::chartImageHash = hash;
+			if (hash != null && url && canvas.toBlob && $wnd.XMLHttpRequest) {
+				// png bytes are uploaded, rpc only notifies the server
+				// each upload is stored by its id until the rpc claims it
+				var upload = ++c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::chartImageUploads;
+				canvas.toBlob(function(blob) {
+					var request = new $wnd.XMLHttpRequest();
+					request.open('POST', url + (url.indexOf('?') < 0 ? '?' : '&')
+						+ 'upload=' + upload, true);
+					request.setRequestHeader('Content-Type', 'image/png');
+					request.onreadystatechange = function() {
+						if (request.readyState == 4) {
+							if (request.status == 200) {
+								fire('upload:' + upload + ':' + hash);
+							} else {
+								c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::chartImageHash = null;
+								fire(canvas.toDataURL('image/png'));
+							}
+						}
+					};
+					request.send(blob);
+				}, 'image/png');
+			} else {
+				// server does not know the hash of a data url
+				c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::chartImageHash = null;
+				fire(canvas.toDataURL('image/png'));
+			}
 		});
 	}-*/;
 
-	private void activateJqPlotPlugins(String options) {
+	private native void captureDownloadClick(VDCharts c, Element element,
+			String id)
+	/*-{
+		// chart image is captured and sent before the download starts
+		element.addEventListener('click', function(event) {
+			var button = $doc.getElementById(id.concat('-button'));
+			if (button == null || !button.contains(event.target)) {
+				return;
+			}
+			if (c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::downloadAllowed) {
+				c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::downloadAllowed = false;
+			} else {
+				event.stopPropagation();
+				event.preventDefault();
+				c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::sendChartImage(Ljava/lang/String;I)('downloadImageData', 0);
+			}
+		}, true);
+	}-*/;
+
+	private native void clickDownloadButton(VDCharts c, String id)
+	/*-{
+		var button = $doc.getElementById(id.concat('-button'));
+		if (button != null) {
+			c.@org.dussan.vaadin.dcharts.client.ui.VDCharts::downloadAllowed = true;
+			button.click();
+		}
+	}-*/;
+
+	private JsArray<JavaScriptObject> activateJqPlotPlugins() {
+		// plugins are loaded asynchronously, only when a chart needs them
+		JsArray<JavaScriptObject> promises = JavaScriptObject.createArray()
+				.cast();
+		for (String plugin : plugins) {
+			promises.push(JavaScriptInjector.injectPlugin("jqplot." + plugin
+					+ ".min.js"));
+		}
+
 		if (enableChartDataClickEvent) {
 			LineDataHandler.activateClick(this, chart.getId());
 		}
@@ -195,10 +604,7 @@ public class VDCharts extends VHorizontalLayout implements
 			LineDataHandler.activateRightClick(this, chart.getId());
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.BarRenderer")) {
-			if (!JavaScriptInjector.isBarRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.barRenderer().getText());
-			}
+		if (plugins.contains("barRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				BarDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -213,16 +619,7 @@ public class VDCharts extends VHorizontalLayout implements
 			}
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.BlockRenderer")
-				&& !JavaScriptInjector.isBlockRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.blockRenderer().getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.BubbleRenderer")) {
-			if (!JavaScriptInjector.isBubbleRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.bubbleRenderer()
-						.getText());
-			}
+		if (plugins.contains("bubbleRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				BubbleDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -237,34 +634,7 @@ public class VDCharts extends VHorizontalLayout implements
 			}
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.CategoryAxisRenderer")
-				&& !JavaScriptInjector.isCategoryAxisRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.categoryAxisRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.CanvasAxisLabelRenderer")
-				&& !JavaScriptInjector.isCategoryAxisRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.canvasAxisLabelRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.CanvasAxisTickRenderer")
-				&& !JavaScriptInjector.isCanvasAxisTickRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.canvasAxisTickRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.DateAxisRenderer")
-				&& !JavaScriptInjector.isDateAxisRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.dateAxisRenderer().getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.DonutRenderer")) {
-			if (!JavaScriptInjector.isDonutRendererLoaded()) {
-				JavaScriptInjector
-						.inject(JqPlot.CODE.donutRenderer().getText());
-			}
+		if (plugins.contains("donutRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				DonutDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -279,27 +649,7 @@ public class VDCharts extends VHorizontalLayout implements
 			}
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.EnhancedLegendRenderer")
-				&& !JavaScriptInjector.isEnhancedLegendRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.enhancedLegendRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.LogAxisRenderer")
-				&& !JavaScriptInjector.isLogAxisRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.logAxisRenderer().getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.MeterGaugeRenderer")
-				&& !JavaScriptInjector.isMeterGaugeRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.meterGaugeRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.PieRenderer")) {
-			if (!JavaScriptInjector.isPieRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.pieRenderer().getText());
-			}
+		if (plugins.contains("pieRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				PieDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -314,23 +664,7 @@ public class VDCharts extends VHorizontalLayout implements
 			}
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.PyramidAxisRenderer")
-				&& !JavaScriptInjector.isPyramidAxisRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.pyramidAxisRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.PyramidGridRenderer")
-				&& !JavaScriptInjector.isPyramidGridRendererLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.pyramidGridRenderer()
-					.getText());
-		}
-
-		if (options.contains("$wnd.jQuery.jqplot.PyramidRenderer")) {
-			if (!JavaScriptInjector.isPyramidRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.pyramidRenderer()
-						.getText());
-			}
+		if (plugins.contains("pyramidRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				PyramidDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -339,10 +673,7 @@ public class VDCharts extends VHorizontalLayout implements
 			}
 		}
 
-		if (options.contains("$wnd.jQuery.jqplot.OHLCRenderer")) {
-			if (!JavaScriptInjector.isOHLCRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.ohlcRenderer().getText());
-			}
+		if (plugins.contains("ohlcRenderer")) {
 			if (enableChartDataMouseEnterEvent) {
 				OhlcDataHandler.activateMouseEnter(this, chart.getId());
 			}
@@ -353,82 +684,69 @@ public class VDCharts extends VHorizontalLayout implements
 				OhlcDataHandler.activateClick(this, chart.getId());
 			}
 		}
-
-		if (options.contains("canvasOverlay:")
-				&& !JavaScriptInjector.isCanvasOverlayLibraryLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.canvasOverlay().getText());
-		}
-
-		if (options.contains("cursor:")
-				&& !JavaScriptInjector.isCursorLibraryLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.cursor().getText());
-		}
-
-		if (options.contains("highlighter:")
-				&& !JavaScriptInjector.isHighlighterLibraryLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.highlighter().getText());
-			if (!JavaScriptInjector.isBubbleRendererLoaded()) {
-				JavaScriptInjector.inject(JqPlot.CODE.bubbleRenderer()
-						.getText());
-			}
-		}
-
-		if (options.contains("pointLabels:")
-				&& !JavaScriptInjector.isPointLabelsLibraryLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.pointLabels().getText());
-		}
-
-		if (options.contains("trendline:")
-				&& !JavaScriptInjector.isTrendlineLibraryLoaded()) {
-			JavaScriptInjector.inject(JqPlot.CODE.trendline().getText());
-		}
+		return promises;
 	}
 
-	private String checkEnabledAnimationEffects(String options) {
+	private static String checkEnabledAnimationEffects(String options) {
 		if (BrowserInfo.get().isIE() && !BrowserInfo.get().isIE9()
 				&& !BrowserInfo.get().isIE10()) {
-			options = options.replaceAll("animate: true", "animate: false");
+			options = options.replaceAll("\"animate\":\\s*true",
+					"\"animate\": false");
 		}
 		return options;
 	}
 
-	private String setChartDimensions(String options, int marigTop,
-			int marigRight, int marigBottom, int marigLeft) {
+	private void setChartDimensions(int marigTop, int marigRight,
+			int marigBottom, int marigLeft) {
 		Element button = DOM.getElementById(chart.getId() + "-button");
 		int buttonHeight = button != null ? button.getOffsetHeight() : 0;
-		StringBuilder value = new StringBuilder();
-		if (options != null && options.length() > 0) {
-			int width = getOffsetWidth() == 0 ? 300 : getOffsetWidth();
-			int height = getOffsetHeight() == 0 ? 300 : getOffsetHeight();
+		int width = getOffsetWidth() == 0 ? 300 : getOffsetWidth();
+		int height = getOffsetHeight() == 0 ? 300 : getOffsetHeight();
+
+		height += -buttonHeight - marigTop - marigBottom;
+		width += -marigLeft - marigRight;
 
-			height += -buttonHeight - marigTop - marigBottom;
-			width += -marigLeft - marigRight;
+		this.chartWidth = width;
+		this.width = width + "px";
+		this.height = height + "px";
 
-			value.append("{width: '" + width + "px',");
-			value.append("height: '" + height + "px',");
-			value.append(options.substring(1));
+		chart.getStyle().setMarginLeft(marigLeft, Unit.PX);
+		chart.getStyle().setMarginRight(marigRight, Unit.PX);
+		chart.getStyle().setWidth(width, Unit.PX);
 
-			chart.getStyle().setMarginLeft(marigLeft, Unit.PX);
-			chart.getStyle().setMarginRight(marigRight, Unit.PX);
-			chart.getStyle().setWidth(width, Unit.PX);
+		chart.getStyle().setMarginTop(marigTop, Unit.PX);
+		chart.getStyle().setMarginBottom(marigBottom, Unit.PX);
+		chart.getStyle().setHeight(height, Unit.PX);
+	}
 
-			chart.getStyle().setMarginTop(marigTop, Unit.PX);
-			chart.getStyle().setMarginBottom(marigBottom, Unit.PX);
-			chart.getStyle().setHeight(height, Unit.PX);
+	private void sendChartImage(final String event, int delay) {
+		Scheduler.get().scheduleFixedDelay(new RepeatingCommand() {
+			@Override
+			public boolean execute() {
+				fireEventForSendingChartImageToServer(getThis(),
+						chart.getId(), event, chartImageUrl);
+				return false;
+			}
+		}, delay);
+	}
+
+	private void sendRequestedChartImages(int delay) {
+		if (chartImageRequested) {
+			chartImageRequested = false;
+			sendChartImage("requestedImageData", delay);
+		}
+		if (chartImageHashRequested) {
+			chartImageHashRequested = false;
+			sendChartImage("imageHash", delay);
 		}
-		return value.toString();
 	}
 
 	private void sendChartImageToServer() {
-		if (downloadButtonEnabled || enableChartImageChangeEvent) {
-			Scheduler.get().scheduleFixedDelay(new RepeatingCommand() {
-				@Override
-				public boolean execute() {
-					fireEventForSendingChartImageToServer(getThis(),
-							chart.getId());
-					return false;
-				}
-			}, chartImageChangeDelay);
+		// images are uploaded after each change only for image change events,
+		// downloads and requests capture the chart when they need it
+		sendRequestedChartImages(chartImageChangeDelay);
+		if (enableChartImageChangeEvent) {
+			sendChartImage("rawImageData", chartImageChangeDelay);
 		}
 	}
 
@@ -445,7 +763,11 @@ public class VDCharts extends VHorizontalLayout implements
 			final String data) {
 		if (chartId.equals(id)) {
 			EventObject tempEventObject = new EventObject(id, event, data);
-			if (!event.equals("rawImageData")
+			if (tempEventObject.isResponse()) {
+				// answers are sent even if they equal the previous one
+				EventProcessor.fireEvent(getThis(),
+						getEventData(id, event, data));
+			} else if (!event.equals("rawImageData")
 					&& (eventObject == null || !eventObject
 							.equals(tempEventObject))) {
 				eventObject = tempEventObject;
@@ -478,6 +800,53 @@ public class VDCharts extends VHorizontalLayout implements
 		this.chartId = chartId;
 	}
 
+	public void setDataSeriesUrl(String dataSeriesUrl) {
+		this.dataSeriesUrl = dataSeriesUrl;
+	}
+
+	public void setChartImageUrl(String chartImageUrl) {
+		this.chartImageUrl = chartImageUrl;
+	}
+
+	private void loadDataSeries(final Map<Integer, String> chartData) {
+		loadingDataSeries = true;
+		RequestBuilder request = new RequestBuilder(RequestBuilder.GET,
+				dataSeriesUrl);
+		try {
+			request.sendRequest(null, new RequestCallback() {
+				@Override
+				public void onResponseReceived(Request request,
+						Response response) {
+					// not modified data series is served from browser cache
+					if (response.getStatusCode() == Response.SC_OK) {
+						dataSeriesHash = chartData.get(DATA_SERIES_HASH);
+						chartData.put(DATA_SERIES, response.getText());
+					}
+					dataSeriesLoaded(chartData);
+				}
+
+				@Override
+				public void onError(Request request, Throwable exception) {
+					dataSeriesLoaded(chartData);
+				}
+			});
+		} catch (RequestException e) {
+			dataSeriesLoaded(chartData);
+		}
+	}
+
+	private void dataSeriesLoaded(Map<Integer, String> chartData) {
+		loadingDataSeries = false;
+		if (!chartData.containsKey(DATA_SERIES)) {
+			chartData.remove(DATA_SERIES_HASH);
+		}
+		processChartData(chartData);
+		// chart data received while loading is processed in order
+		while (!loadingDataSeries && !queuedChartData.isEmpty()) {
+			processChartData(queuedChartData.remove(0));
+		}
+	}
+
 	public boolean isChartPrepared() {
 		return (chart != null && chart.hasParentElement() && !chart.getId()
 				.isEmpty());
@@ -497,6 +866,10 @@ public class VDCharts extends VHorizontalLayout implements
 				getElement().appendChild(chart);
 				downloadButton.removeFromParent();
 			} else {
+				if (!downloadClickCaptured) {
+					downloadClickCaptured = true;
+					captureDownloadClick(this, getElement(), chartId);
+				}
 				switch (downloadButtonLocation) {
 				case DOWNLOAD_BUTTON_LOCATION_TOP_LEFT:
 					chart.getStyle().setTop(downloadButton.getOffsetHeight(),
@@ -527,9 +900,78 @@ public class VDCharts extends VHorizontalLayout implements
 	}
 
 	public void processChartData(Map<Integer, String> chartData) {
+		// server sends only the keys changed since its previous response
 		if (isValidChartData(chartData)) {
+			if (chartData.containsKey(OPTIONS_TEMPLATE)) {
+				// template is registered before any chart is shown
+				optionsTemplate = registerTemplate(chartData
+						.get(OPTIONS_TEMPLATE));
+				options = null;
+			}
+			if (chartData.containsKey(FUNCTIONS)) {
+				JsArrayString ids = registerFunctions(chartData.get(FUNCTIONS));
+				functions = new ArrayList<String>();
+				for (int i = 0; i < ids.length(); i++) {
+					functions.add(ids.get(i));
+				}
+				options = null;
+			}
+			if (chartData.containsKey(CHART_IMAGE_DOWNLOAD)) {
+				// uploaded image is ready, download can continue
+				clickDownloadButton(this, chartId);
+			}
+			if (chartData.containsKey(CHART_IMAGE_REQUEST)) {
+				String request = chartData.get(CHART_IMAGE_REQUEST);
+				if (request.startsWith("hash:")) {
+					chartImageHashRequested = true;
+				} else {
+					if (request.startsWith("force:")) {
+						// server does not have the last sent image
+						chartImageHash = null;
+					}
+					chartImageRequested = true;
+				}
+			}
+			if ((chartData.containsKey(CHART_IMAGE_DOWNLOAD) || chartData
+					.containsKey(CHART_IMAGE_REQUEST))
+					&& chartData.size() == 2 && plot != null) {
+				// shown chart is captured without drawing it again
+				sendRequestedChartImages(0);
+				return;
+			}
 			if (!isChartPrepared()) {
-				this.chartData = chartData;
+				if (this.chartData == null) {
+					this.chartData = new HashMap<Integer, String>();
+				}
+				// points appended to a replaced data series are dropped
+				String points = chartData.containsKey(DATA_SERIES)
+						|| chartData.containsKey(DATA_SERIES_HASH) ? null
+						: this.chartData.get(APPEND_POINTS);
+				if (chartData.containsKey(DATA_SERIES) != chartData
+						.containsKey(DATA_SERIES_HASH)) {
+					// sent and loaded data series replace each other
+					int replaced = chartData.containsKey(DATA_SERIES) ? DATA_SERIES_HASH
+							: DATA_SERIES;
+					this.chartData.remove(replaced);
+				}
+				this.chartData.putAll(chartData);
+				this.chartData.remove(CHART_IMAGE_DOWNLOAD);
+				if (chartData.containsKey(OPTIONS_PATCH)
+						&& this.chartData.containsKey(OPTIONS)) {
+					// options which were not shown yet are patched at once
+					JavaScriptObject value = parse(this.chartData.get(OPTIONS));
+					patchOptions(value, parse(chartData.get(OPTIONS_PATCH)));
+					this.chartData.put(OPTIONS, stringify(value));
+					this.chartData.remove(OPTIONS_PATCH);
+				}
+				if (points == null && !chartData.containsKey(APPEND_POINTS)) {
+					this.chartData.remove(APPEND_POINTS);
+				} else if (points != null
+						&& chartData.containsKey(APPEND_POINTS)) {
+					this.chartData.put(APPEND_POINTS,
+							points.substring(0, points.length() - 1) + ", "
+									+ chartData.get(APPEND_POINTS).substring(1));
+				}
 				if (chartData.containsKey(DOWNLOAD_BUTTON_ENABLE)) {
 					downloadButtonEnabled = Boolean.parseBoolean(chartData
 							.get(DOWNLOAD_BUTTON_ENABLE));
@@ -538,35 +980,36 @@ public class VDCharts extends VHorizontalLayout implements
 					downloadButtonLocation = Integer.parseInt(chartData
 							.get(DOWNLOAD_BUTTON_LOCATION));
 				}
+			} else if (loadingDataSeries) {
+				queuedChartData.add(new HashMap<Integer, String>(chartData));
+			} else if (chartData.containsKey(DATA_SERIES_HASH)
+					&& !chartData.get(DATA_SERIES_HASH).equals(dataSeriesHash)) {
+				loadDataSeries(new HashMap<Integer, String>(chartData));
 			} else if (isChartPrepared()
 					&& chartData.containsKey(REPLOT_CHART_CLEAR)
 					&& chartData.containsKey(REPLOT_CHART_RESET_AXES)
-					&& showChart) {
+					&& Boolean.TRUE.equals(showChart)) {
 				boolean clear = Boolean.parseBoolean(chartData
 						.get(REPLOT_CHART_CLEAR));
 				boolean resetAxes = Boolean.parseBoolean(chartData
 						.get(REPLOT_CHART_RESET_AXES));
 				replotChart(this, chart.getId(), clear, resetAxes);
 			} else {
-				int marigTop = 0;
-				int marigBottom = 0;
-				if (chartData.containsKey(MARGIN_TOP)
-						|| chartData.containsKey(MARGIN_BOTTOM)) {
-					marigTop = chartData.containsKey(MARGIN_TOP) ? Integer
-							.parseInt(chartData.get(MARGIN_TOP)) : marigTop;
-					marigBottom = chartData.containsKey(MARGIN_BOTTOM) ? Integer
-							.parseInt(chartData.get(MARGIN_BOTTOM))
-							: marigBottom;
-				}
-
-				int marigLeft = 0;
-				int marigRight = 0;
-				if (chartData.containsKey(MARGIN_LEFT)
-						|| chartData.containsKey(MARGIN_RIGHT)) {
-					marigLeft = chartData.containsKey(MARGIN_LEFT) ? Integer
-							.parseInt(chartData.get(MARGIN_LEFT)) : marigLeft;
-					marigRight = chartData.containsKey(MARGIN_RIGHT) ? Integer
-							.parseInt(chartData.get(MARGIN_RIGHT)) : marigRight;
+				if (chartData.containsKey(MARGIN_TOP)) {
+					marginTop = Integer.parseInt(chartData.get(MARGIN_TOP));
+				}
+
+				if (chartData.containsKey(MARGIN_RIGHT)) {
+					marginRight = Integer.parseInt(chartData.get(MARGIN_RIGHT));
+				}
+
+				if (chartData.containsKey(MARGIN_BOTTOM)) {
+					marginBottom = Integer.parseInt(chartData
+							.get(MARGIN_BOTTOM));
+				}
+
+				if (chartData.containsKey(MARGIN_LEFT)) {
+					marginLeft = Integer.parseInt(chartData.get(MARGIN_LEFT));
 				}
 
 				if (chartData.containsKey(MOUSE_ENTER_EVENT)) {
@@ -608,33 +1051,155 @@ public class VDCharts extends VHorizontalLayout implements
 					thousandsSeparator = chartData.get(THOUSANDS_SEPARATOR);
 				}
 
-				dataSeries = new String("[]");
-				if (chartData.containsKey(DATA_SERIES) && dataSeries != null
-						&& !dataSeries.isEmpty()) {
-					dataSeries = chartData.get(DATA_SERIES);
+				if (chartData.containsKey(DOWNSAMPLING)) {
+					downsampling = Boolean.parseBoolean(chartData
+							.get(DOWNSAMPLING));
+				}
+
+				// unchanged data series and options are not evaluated again
+				if (dataSeries == null) {
+					dataSeries = evaluate("[]");
+				}
+				if (chartData.containsKey(DATA_SERIES)
+						&& chartData.get(DATA_SERIES) != null
+						&& !chartData.get(DATA_SERIES).isEmpty()) {
+					dataSeries = decodeDataSeries(evaluate(chartData
+							.get(DATA_SERIES)));
+					dataSeriesHash = chartData.get(DATA_SERIES_HASH);
+					dataSeriesReceived = true;
 				}
 
-				options = new String("{}");
 				if (chartData.containsKey(OPTIONS)) {
-					options = chartData.get(OPTIONS);
-					options = checkEnabledAnimationEffects(options);
-					activateJqPlotPlugins(options);
+					optionsValue = checkEnabledAnimationEffects(chartData
+							.get(OPTIONS));
+					// renderers are resolved after plugins are activated
+					options = null;
+				}
+
+				if (chartData.containsKey(PLUGINS)) {
+					plugins = chartData.get(PLUGINS).isEmpty() ? new ArrayList<String>()
+							: Arrays.asList(chartData.get(PLUGINS).split(","));
+				}
+
+				if (chartData.containsKey(OPTIONS_PATCH)) {
+					String patch = chartData.get(OPTIONS_PATCH);
+					JavaScriptObject value = parse(optionsValue);
+					patchOptions(value, parse(patch));
+					optionsValue = checkEnabledAnimationEffects(stringify(value));
+					// only the patch is applied to options of the shown plot
+					if (chartData.size() == 2 && options != null && plot != null
+							&& Boolean.TRUE.equals(showChart)) {
+						replotOptions(patch);
+						return;
+					}
+					options = null;
 				}
-				options = setChartDimensions(options, marigTop, marigRight,
-						marigBottom, marigLeft);
 
 				if (chartData.containsKey(SHOW_CHART)) {
 					showChart = Boolean.parseBoolean(chartData.get(SHOW_CHART));
-					if (showChart) {
-						getElement().getStyle().clearDisplay();
-						showChart(this, chartId, dataSeries, options,
-								decimalSeparator, thousandsSeparator);
-					} else {
+					if (!showChart) {
 						getElement().getStyle().setDisplay(Display.NONE);
 					}
 				}
+
+				if (chartData.containsKey(APPEND_POINTS)) {
+					// new points only, existing plot is updated in place
+					boolean redraw = chartData.size() > 2;
+					appendPoints(this, dataSeries, redraw
+							|| !Boolean.TRUE.equals(showChart) ? null : plot,
+							evaluate(chartData.get(APPEND_POINTS)));
+					if (!redraw) {
+						return;
+					}
+				}
+
+				if (Boolean.TRUE.equals(showChart) && chartData.size() > 1) {
+					String templateValue = optionsTemplate != null ? TEMPLATES
+							.get(optionsTemplate) : null;
+					if (optionsTemplate != null && templateValue == null) {
+						// template is missing after a page reload, server sends it again
+						fireEvent(chartId, "optionsTemplate", optionsTemplate);
+						return;
+					}
+					StringBuilder missingFunctions = new StringBuilder();
+					for (String function : functions) {
+						if (!REGISTERED_FUNCTIONS.contains(function)) {
+							missingFunctions.append(missingFunctions.length() > 0 ? ","
+									: "");
+							missingFunctions.append(function);
+						}
+					}
+					if (missingFunctions.length() > 0) {
+						fireEvent(chartId, "functions", missingFunctions.toString());
+						return;
+					}
+					// chart is drawn when the plugins it needs are loaded
+					final int request = ++drawRequests;
+					JavaScriptInjector.whenLoaded(activateJqPlotPlugins(),
+							new Command() {
+								@Override
+								public void execute() {
+									if (request == drawRequests) {
+										drawChart();
+									}
+								}
+							});
+				}
+			}
+		}
+	}
+
+	private void replotOptions(final String patch) {
+		final int request = ++drawRequests;
+		JavaScriptInjector.whenLoaded(activateJqPlotPlugins(),
+				new Command() {
+					@Override
+					public void execute() {
+						// patch is applied even if a newer drawing was requested
+						JavaScriptObject changes = options != null ? patchOptions(
+								options,
+								evaluate(checkEnabledAnimationEffects(patch)))
+								: null;
+						if (request == drawRequests) {
+							if (changes != null) {
+								replotOptions(getThis(), plot, changes);
+							} else {
+								options = null;
+								drawChart();
+							}
+						}
+					}
+				});
+	}
+
+	private void drawChart() {
+		String templateValue = optionsTemplate != null ? TEMPLATES
+				.get(optionsTemplate) : null;
+		if (options == null) {
+			options = evaluate(optionsValue);
+			if (templateValue != null) {
+				if (!EVALUATED_TEMPLATES.containsKey(optionsTemplate)) {
+					EVALUATED_TEMPLATES.put(optionsTemplate,
+							evaluate(templateValue));
+				}
+				options = mergeOptions(EVALUATED_TEMPLATES.get(optionsTemplate),
+						options);
+			}
+		}
+		setChartDimensions(marginTop, marginRight, marginBottom, marginLeft);
+		getElement().getStyle().clearDisplay();
+		if (Boolean.TRUE.equals(downsampling)) {
+			// server samples data series to the chart width
+			if (!chartWidth.equals(reportedChartWidth)) {
+				reportedChartWidth = chartWidth;
+				fireEvent(chartId, "chartWidth", String.valueOf(chartWidth));
+			}
+			if (!dataSeriesReceived) {
+				return;
 			}
 		}
+		showChart(this, chartId, dataSeries, options, width, height,
+				decimalSeparator, thousandsSeparator);
 	}
 
 }
@@ -0,0 +1,329 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dussan.vaadin.dcharts.helpers.BinaryDataHelper;
+
+public class ColumnarDataSeries extends DataSeries implements Serializable {
+
+	private static final long serialVersionUID = 2984153060916468721L;
+	private boolean hasSubSeries = false;
+	private int capacity = 0;
+	private List<Serie> series = null;
+	private Serie currentSerie = null;
+
+	private static class Serie implements Serializable {
+
+		private static final long serialVersionUID = -6470836207418371092L;
+		private DataColumn[] columns = null;
+		// only used when points of the serie have different lengths
+		private DataColumn widths = null;
+
+		private Serie(DataColumn[] columns) {
+			this.columns = columns;
+		}
+
+		private int size() {
+			return columns[0].size();
+		}
+
+		private int getWidth(int row) {
+			return widths == null ? columns.length : ((Number) widths
+					.get(row)).intValue();
+		}
+
+	}
+
+	public ColumnarDataSeries() {
+		series = new ArrayList<Serie>();
+	}
+
+	public ColumnarDataSeries(int capacity) {
+		this();
+		this.capacity = Math.max(0, capacity);
+	}
+
+	private DataColumn newColumn(int rows) {
+		DataColumn column = capacity > 0 ? new DataColumn(capacity)
+				: new DataColumn();
+		for (int i = 0; i < rows; i++) {
+			column.add(null);
+		}
+		return column;
+	}
+
+	private void addPoint(Object[] data) {
+		if (currentSerie == null) {
+			DataColumn[] columns = new DataColumn[data.length];
+			for (int i = 0; i < data.length; i++) {
+				columns[i] = newColumn(0);
+			}
+			currentSerie = new Serie(columns);
+			series.add(currentSerie);
+		}
+		addPoint(currentSerie, data);
+	}
+
+	private void addPoint(Serie serie, Object[] data) {
+		DataColumn[] columns = serie.columns;
+		int rows = serie.size();
+		if (serie.widths == null && data.length != columns.length) {
+			serie.widths = new DataColumn();
+			for (int i = 0; i < rows; i++) {
+				serie.widths.add(columns.length);
+			}
+		}
+
+		if (data.length > columns.length) {
+			DataColumn[] tempColumns = new DataColumn[data.length];
+			System.arraycopy(columns, 0, tempColumns, 0, columns.length);
+			for (int i = columns.length; i < data.length; i++) {
+				tempColumns[i] = newColumn(rows);
+			}
+			serie.columns = tempColumns;
+			columns = tempColumns;
+		}
+
+		for (int i = 0; i < columns.length; i++) {
+			columns[i].add(i < data.length ? data[i] : null);
+		}
+		if (serie.widths != null) {
+			serie.widths.add(data.length);
+		}
+	}
+
+	private boolean isNullRow(Serie serie, int row) {
+		for (int i = 0; i < serie.getWidth(row); i++) {
+			if (serie.columns[i].isNull(row)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void appendRow(StringBuilder builder, Serie serie, int row) {
+		if (isNullRow(serie, row)) {
+			builder.append("null");
+			return;
+		}
+
+		builder.append("[");
+		for (int i = 0; i < serie.getWidth(row); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			serie.columns[i].appendTo(builder, row);
+		}
+		builder.append("]");
+	}
+
+	private void appendColumn(StringBuilder builder, DataColumn column) {
+		for (int i = 0; i < column.size(); i++) {
+			if (column.isNull(i)) {
+				builder.append("null");
+				return;
+			}
+		}
+
+		builder.append("[");
+		for (int i = 0; i < column.size(); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			column.appendTo(builder, i);
+		}
+		builder.append("]");
+	}
+
+	private void appendSerie(StringBuilder builder, Serie serie) {
+		if (hasSubSeries()) {
+			builder.append("[");
+			for (int row = 0; row < serie.size(); row++) {
+				if (row > 0) {
+					builder.append(", ");
+				}
+				appendRow(builder, serie, row);
+			}
+			builder.append("]");
+		} else {
+			appendColumn(builder, serie.columns[0]);
+		}
+	}
+
+	@Override
+	protected ColumnarDataSeries clean() {
+		series = new ArrayList<Serie>();
+		currentSerie = null;
+		return this;
+	}
+
+	@Override
+	public ColumnarDataSeries newSeries() {
+		if (!hasSubSeries) {
+			hasSubSeries = true;
+			clean();
+		}
+		currentSerie = null;
+		return this;
+	}
+
+	@Override
+	public ColumnarDataSeries add(Object... data) {
+		if (data == null || data.length == 0) {
+			return this;
+		}
+
+		if (hasSubSeries()) {
+			addPoint(data);
+		} else {
+			DataColumn column = newColumn(0);
+			for (Object value : data) {
+				column.add(value);
+			}
+			series.add(new Serie(new DataColumn[] { column }));
+		}
+		return this;
+	}
+
+	@Override
+	public ColumnarDataSeries addPoints(int seriesIndex, Object... points) {
+		if (points == null || seriesIndex < 0 || seriesIndex >= series.size()) {
+			return this;
+		}
+
+		Serie serie = series.get(seriesIndex);
+		for (Object point : toPoints(points)) {
+			if (hasSubSeries()) {
+				addPoint(serie, (Object[]) point);
+			} else {
+				serie.columns[0].add(point);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public int getSeriesCount() {
+		return series.size();
+	}
+
+	@Override
+	public int getPointCount(int seriesIndex) {
+		if (seriesIndex < 0 || seriesIndex >= series.size()) {
+			return 0;
+		}
+		return series.get(seriesIndex).size();
+	}
+
+	public DataColumn getColumn(int seriesIndex, int columnIndex) {
+		try {
+			return series.get(seriesIndex).columns[columnIndex];
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Object getSeriesValue(int seriesIndex, int pointIndex) {
+		try {
+			Serie serie = series.get(seriesIndex);
+			if (pointIndex < 0 || pointIndex >= serie.size()) {
+				return null;
+			} else if (!hasSubSeries()) {
+				return serie.columns[0].get(pointIndex);
+			}
+
+			Object[] point = new Object[serie.getWidth(pointIndex)];
+			for (int i = 0; i < point.length; i++) {
+				point[i] = serie.columns[i].get(pointIndex);
+			}
+			return point;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		value.append("[");
+		for (int i = 0; i < series.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			appendSerie(value, series.get(i));
+		}
+		value.append("]");
+	}
+
+	private boolean hasNullValues(Serie serie) {
+		for (DataColumn column : serie.columns) {
+			if (!column.isNumeric()) {
+				for (int i = 0; i < column.size(); i++) {
+					if (column.isNull(i)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void writeBinaryTo(StringBuilder value) {
+		value.append("[");
+		for (int i = 0; i < series.size(); i++) {
+			Serie serie = series.get(i);
+			if (i > 0) {
+				value.append(", ");
+			}
+			if (serie.widths != null || hasNullValues(serie)) {
+				// text is used for points with different lengths or nulls
+				appendSerie(value, serie);
+			} else {
+				BinaryDataHelper.writeColumns(value, serie.columns,
+						hasSubSeries());
+			}
+		}
+		value.append("]");
+	}
+
+	@Override
+	public String getValue() {
+		long length = 2;
+		for (Serie serie : series) {
+			length += (long) serie.size() * serie.columns.length * 12;
+		}
+		StringBuilder value = new StringBuilder((int) Math.min(length,
+				Integer.MAX_VALUE - 8));
+		writeTo(value);
+		return value.toString();
+	}
+
+	@Override
+	public boolean hasSubSeries() {
+		return hasSubSeries;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return series.isEmpty();
+	}
+
+}
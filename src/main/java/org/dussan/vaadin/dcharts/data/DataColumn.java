@@ -0,0 +1,379 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.apache.commons.codec.binary.Base64;
+import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
+
+public class DataColumn implements Serializable {
+
+	private static final long serialVersionUID = 4915702474313785730L;
+	private static final int INITIAL_CAPACITY = 16;
+	private static final long MAX_EXACT_LONG = 1L << 53;
+
+	private static final int EMPTY = 0;
+	private static final int LONG = 1;
+	private static final int DOUBLE = 2;
+	private static final int FLOAT = 3;
+	private static final int OBJECT = 4;
+
+	// boxed types of numeric values, which are returned as they were added
+	private static final byte BOX_LONG = 0;
+	private static final byte BOX_INTEGER = 1;
+	private static final byte BOX_SHORT = 2;
+	private static final byte BOX_BYTE = 3;
+	private static final byte BOX_DOUBLE = 4;
+	private static final byte BOX_FLOAT = 5;
+
+	private int type = EMPTY;
+	private int size = 0;
+	private int capacity = INITIAL_CAPACITY;
+	private long[] longs = null;
+	private double[] doubles = null;
+	private Object[] objects = null;
+	// rows of a double/float column which were added as integral numbers
+	private BitSet integrals = null;
+	// box of all rows, or of each row when the column has mixed boxes
+	private byte box = BOX_LONG;
+	private byte[] boxes = null;
+
+	public DataColumn() {
+	}
+
+	public DataColumn(int capacity) {
+		this.capacity = Math.max(1, capacity);
+	}
+
+	private static boolean isIntegral(Object value) {
+		return (value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte);
+	}
+
+	private static boolean isExactDouble(long value) {
+		return (value <= MAX_EXACT_LONG && value >= -MAX_EXACT_LONG);
+	}
+
+	private static byte boxOf(Object value) {
+		if (value instanceof Integer) {
+			return BOX_INTEGER;
+		} else if (value instanceof Short) {
+			return BOX_SHORT;
+		} else if (value instanceof Byte) {
+			return BOX_BYTE;
+		} else if (value instanceof Double) {
+			return BOX_DOUBLE;
+		} else if (value instanceof Float) {
+			return BOX_FLOAT;
+		}
+		return BOX_LONG;
+	}
+
+	private void addBox(Object value) {
+		byte valueBox = boxOf(value);
+		if (boxes == null && (size == 0 || valueBox == box)) {
+			box = valueBox;
+			return;
+		}
+
+		if (boxes == null) {
+			boxes = new byte[Math.max(capacity, size + 1)];
+			Arrays.fill(boxes, 0, size, box);
+		} else if (boxes.length <= size) {
+			boxes = Arrays.copyOf(boxes, newCapacity(size + 1));
+		}
+		boxes[size] = valueBox;
+	}
+
+	private Object getNumber(int index, long value) {
+		switch (boxes != null ? boxes[index] : box) {
+		case BOX_INTEGER:
+			return (int) value;
+		case BOX_SHORT:
+			return (short) value;
+		case BOX_BYTE:
+			return (byte) value;
+		default:
+			return value;
+		}
+	}
+
+	private Object getNumber(int index, double value) {
+		switch (boxes != null ? boxes[index] : box) {
+		case BOX_DOUBLE:
+			return value;
+		case BOX_FLOAT:
+			return (float) value;
+		default:
+			return getNumber(index, (long) value);
+		}
+	}
+
+	private static int typeOf(Object value) {
+		if (isIntegral(value)) {
+			return LONG;
+		} else if (value instanceof Double) {
+			return DOUBLE;
+		} else if (value instanceof Float) {
+			return FLOAT;
+		}
+		return OBJECT;
+	}
+
+	private int newCapacity(int minCapacity) {
+		int length = size == 0 ? capacity : size + (size >> 1) + 1;
+		return Math.max(length, minCapacity);
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		switch (type) {
+		case LONG:
+			if (longs.length < minCapacity) {
+				longs = Arrays.copyOf(longs, newCapacity(minCapacity));
+			}
+			break;
+		case DOUBLE:
+		case FLOAT:
+			if (doubles.length < minCapacity) {
+				doubles = Arrays.copyOf(doubles, newCapacity(minCapacity));
+			}
+			break;
+		case OBJECT:
+			if (objects.length < minCapacity) {
+				objects = Arrays.copyOf(objects, newCapacity(minCapacity));
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void initialize(int type) {
+		this.type = type;
+		switch (type) {
+		case LONG:
+			longs = new long[capacity];
+			break;
+		case DOUBLE:
+		case FLOAT:
+			doubles = new double[capacity];
+			break;
+		default:
+			objects = new Object[capacity];
+			break;
+		}
+	}
+
+	private void convertToDoubles(int type) {
+		doubles = new double[Math.max(capacity, longs.length)];
+		integrals = new BitSet();
+		for (int i = 0; i < size; i++) {
+			doubles[i] = longs[i];
+		}
+		integrals.set(0, size);
+		longs = null;
+		this.type = type;
+	}
+
+	private void convertToObjects() {
+		Object[] values = new Object[Math.max(capacity, size)];
+		for (int i = 0; i < size; i++) {
+			values[i] = get(i);
+		}
+		objects = values;
+		longs = null;
+		doubles = null;
+		integrals = null;
+		boxes = null;
+		type = OBJECT;
+	}
+
+	private boolean isCompatible(Object value) {
+		int valueType = typeOf(value);
+		switch (type) {
+		case LONG:
+			if (valueType == LONG) {
+				return true;
+			} else if (valueType == DOUBLE || valueType == FLOAT) {
+				for (int i = 0; i < size; i++) {
+					if (!isExactDouble(longs[i])) {
+						return false;
+					}
+				}
+				convertToDoubles(valueType);
+				return true;
+			}
+			return false;
+		case DOUBLE:
+		case FLOAT:
+			return (valueType == type || (valueType == LONG && isExactDouble(((Number) value)
+					.longValue())));
+		default:
+			return (type == OBJECT);
+		}
+	}
+
+	public DataColumn add(Object value) {
+		if (type == EMPTY) {
+			initialize(typeOf(value));
+		} else if (type != OBJECT && !isCompatible(value)) {
+			convertToObjects();
+		}
+
+		ensureCapacity(size + 1);
+		if (type != OBJECT) {
+			addBox(value);
+		}
+		switch (type) {
+		case LONG:
+			longs[size] = ((Number) value).longValue();
+			break;
+		case DOUBLE:
+		case FLOAT:
+			if (isIntegral(value)) {
+				if (integrals == null) {
+					integrals = new BitSet();
+				}
+				integrals.set(size);
+			}
+			doubles[size] = ((Number) value).doubleValue();
+			break;
+		default:
+			objects[size] = value;
+			break;
+		}
+		size++;
+		return this;
+	}
+
+	public Object get(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+
+		switch (type) {
+		case LONG:
+			return getNumber(index, longs[index]);
+		case DOUBLE:
+		case FLOAT:
+			return getNumber(index, doubles[index]);
+		default:
+			return objects[index];
+		}
+	}
+
+	public boolean isNumeric() {
+		return (type == LONG || type == DOUBLE || type == FLOAT);
+	}
+
+	public double getDouble(int index) {
+		switch (type) {
+		case LONG:
+			return longs[index];
+		case DOUBLE:
+		case FLOAT:
+			return doubles[index];
+		default:
+			Object value = objects[index];
+			return value instanceof Number ? ((Number) value).doubleValue()
+					: Double.NaN;
+		}
+	}
+
+	public boolean isNull(int index) {
+		return (type == OBJECT && objects[index] == null);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public DataColumn clear() {
+		type = EMPTY;
+		size = 0;
+		longs = null;
+		doubles = null;
+		objects = null;
+		integrals = null;
+		box = BOX_LONG;
+		boxes = null;
+		return this;
+	}
+
+	public boolean writeBinaryTo(StringBuilder builder) {
+		if (!isNumeric()) {
+			return false;
+		}
+
+		// integral values of a float column do not always fit into float32
+		boolean isFloat = (type == FLOAT && integrals == null);
+		ByteBuffer buffer = ByteBuffer.allocate(size * (isFloat ? 4 : 8))
+				.order(ByteOrder.LITTLE_ENDIAN);
+		String binaryType = "f64";
+		if (type == LONG) {
+			binaryType = "i64";
+			buffer.asLongBuffer().put(longs, 0, size);
+		} else if (isFloat) {
+			binaryType = "f32";
+			for (int i = 0; i < size; i++) {
+				buffer.putFloat((float) doubles[i]);
+			}
+		} else {
+			buffer.asDoubleBuffer().put(doubles, 0, size);
+		}
+
+		builder.append("{\"type\": \"").append(binaryType)
+				.append("\", \"data\": \"");
+		builder.append(Base64.encodeBase64String(buffer.array()));
+		builder.append("\"}");
+		return true;
+	}
+
+	public void appendTo(StringBuilder builder, int index) {
+		switch (type) {
+		case LONG:
+			builder.append(longs[index]);
+			break;
+		case DOUBLE:
+		case FLOAT:
+			double value = doubles[index];
+			if (integrals != null && integrals.get(index)) {
+				builder.append((long) value);
+			} else if (Double.isNaN(value) || Double.isInfinite(value)) {
+				// not supported by json
+				builder.append("null");
+			} else if (type == FLOAT) {
+				builder.append((float) value);
+			} else {
+				builder.append(value);
+			}
+			break;
+		default:
+			ObjectHelper.writeValue(builder, objects[index]);
+			break;
+		}
+	}
+
+}
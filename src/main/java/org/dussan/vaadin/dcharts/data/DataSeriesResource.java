@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import org.apache.commons.codec.binary.Hex;
+
+import com.vaadin.server.ConnectorResource;
+import com.vaadin.server.DownloadStream;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinResponse;
+
+public class DataSeriesResource implements ConnectorResource {
+
+	private static final long serialVersionUID = 3215364932788424126L;
+	private static final String MIME_TYPE = "application/json";
+	private static final String CHARSET = "UTF-8";
+	// content of the url never changes, it is named by its hash
+	private static final String CACHE_CONTROL = "private, max-age=86400";
+	private static final int NOT_MODIFIED = 304;
+	private byte[] content = null;
+	private String hash = null;
+
+	public DataSeriesResource(CharSequence value) {
+		ByteBuffer buffer = Charset.forName(CHARSET).encode(
+				CharBuffer.wrap(value));
+		// encoder buffer is usually larger than the encoded value
+		content = buffer.array().length == buffer.limit() ? buffer.array()
+				: Arrays.copyOf(buffer.array(), buffer.limit());
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(content);
+			hash = Hex.encodeHexString(digest.digest());
+		} catch (Exception e) {
+			hash = Integer.toHexString(value.toString().hashCode());
+		}
+	}
+
+	// number of bytes the value has when it is served, without encoding it
+	public static int getEncodedLength(CharSequence value) {
+		int length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				length += 1;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (c >= Character.MIN_SURROGATE
+					&& c <= Character.MAX_SURROGATE) {
+				// unpaired surrogate is replaced by '?'
+				length += 1;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public int getLength() {
+		return content.length;
+	}
+
+	@Override
+	public String getMIMEType() {
+		return MIME_TYPE;
+	}
+
+	@Override
+	public String getFilename() {
+		return hash + ".json";
+	}
+
+	@Override
+	public DownloadStream getStream() {
+		DownloadStream stream = new DownloadStream(new ByteArrayInputStream(
+				content), MIME_TYPE, getFilename());
+		stream.setParameter("ETag", "\"" + hash + "\"");
+		return stream;
+	}
+
+	public void writeResponse(VaadinRequest request, VaadinResponse response)
+			throws IOException {
+		String eTag = "\"" + hash + "\"";
+		response.setHeader("ETag", eTag);
+		response.setHeader("Cache-Control", CACHE_CONTROL);
+		if (eTag.equals(request.getHeader("If-None-Match"))) {
+			response.setStatus(NOT_MODIFIED);
+			return;
+		}
+
+		response.setContentType(MIME_TYPE + "; charset=" + CHARSET);
+		response.setHeader("Content-Length", String.valueOf(content.length));
+		OutputStream output = response.getOutputStream();
+		output.write(content);
+		output.flush();
+	}
+
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dussan.vaadin.dcharts.helpers.BinaryDataHelper;
+import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
+
+public class RingDataSeries extends DataSeries implements Serializable {
+
+	private static final long serialVersionUID = -3140575870468720139L;
+	private static final int INITIAL_CAPACITY = 16;
+	private boolean hasSubSeries = false;
+	private int capacity = 0;
+	private List<Ring> series = null;
+	private Ring currentSerie = null;
+
+	private static class Ring implements Serializable {
+
+		private static final long serialVersionUID = 6102964361592480413L;
+		private Object[] points = null;
+		private int capacity = 0;
+		private int head = 0;
+		private int size = 0;
+
+		private Ring(int capacity) {
+			this.capacity = capacity;
+			points = new Object[Math.min(capacity, INITIAL_CAPACITY)];
+		}
+
+		private void add(Object point) {
+			if (size < capacity) {
+				// head stays at zero until the ring is full
+				if (size == points.length) {
+					points = Arrays.copyOf(points,
+							Math.min(capacity, size + (size >> 1) + 1));
+				}
+				points[size++] = point;
+			} else {
+				// oldest point is replaced by the new one
+				points[head] = point;
+				head = (head + 1) % capacity;
+			}
+		}
+
+		private Object get(int index) {
+			return points[(head + index) % points.length];
+		}
+
+		private Object[] toArray() {
+			Object[] values = new Object[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = get(i);
+			}
+			return values;
+		}
+
+	}
+
+	public RingDataSeries(int capacity) {
+		series = new ArrayList<Ring>();
+		this.capacity = Math.max(1, capacity);
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	protected RingDataSeries clean() {
+		series = new ArrayList<Ring>();
+		currentSerie = null;
+		return this;
+	}
+
+	@Override
+	public RingDataSeries newSeries() {
+		if (!hasSubSeries) {
+			hasSubSeries = true;
+			clean();
+		}
+		currentSerie = null;
+		return this;
+	}
+
+	@Override
+	public RingDataSeries add(Object... data) {
+		if (data == null || data.length == 0) {
+			return this;
+		}
+
+		if (hasSubSeries()) {
+			if (currentSerie == null) {
+				currentSerie = new Ring(capacity);
+				series.add(currentSerie);
+			}
+			currentSerie.add(data);
+		} else {
+			Ring serie = new Ring(capacity);
+			for (Object value : data) {
+				serie.add(value);
+			}
+			series.add(serie);
+		}
+		return this;
+	}
+
+	@Override
+	public RingDataSeries addPoints(int seriesIndex, Object... points) {
+		if (points == null || seriesIndex < 0 || seriesIndex >= series.size()) {
+			return this;
+		}
+
+		Ring serie = series.get(seriesIndex);
+		for (Object point : toPoints(points)) {
+			serie.add(point);
+		}
+		return this;
+	}
+
+	@Override
+	public int getSeriesCount() {
+		return series.size();
+	}
+
+	@Override
+	public int getPointCount(int seriesIndex) {
+		if (seriesIndex < 0 || seriesIndex >= series.size()) {
+			return 0;
+		}
+		return series.get(seriesIndex).size;
+	}
+
+	@Override
+	public Object getSeriesValue(int seriesIndex, int pointIndex) {
+		try {
+			Ring serie = series.get(seriesIndex);
+			if (pointIndex < 0 || pointIndex >= serie.size) {
+				return null;
+			}
+			return serie.get(pointIndex);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		value.append("[");
+		for (int i = 0; i < series.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			Object[] data = series.get(i).toArray();
+			boolean written = hasSubSeries() ? ObjectHelper.writeArrayString(
+					value, Arrays.copyOf(data, data.length, Object[][].class))
+					: ObjectHelper.writeArrayString(value, data);
+			if (!written) {
+				value.append("null");
+			}
+		}
+		value.append("]");
+	}
+
+	@Override
+	public void writeBinaryTo(StringBuilder value) {
+		value.append("[");
+		for (int i = 0; i < series.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			Object[] data = series.get(i).toArray();
+			if (!BinaryDataHelper.writeSerie(value, data, hasSubSeries())) {
+				boolean written = hasSubSeries() ? ObjectHelper
+						.writeArrayString(value, Arrays.copyOf(data,
+								data.length, Object[][].class)) : ObjectHelper
+						.writeArrayString(value, data);
+				if (!written) {
+					value.append("null");
+				}
+			}
+		}
+		value.append("]");
+	}
+
+	@Override
+	public String getValue() {
+		StringBuilder value = new StringBuilder(series.size() * 16 + 2);
+		writeTo(value);
+		return value.toString();
+	}
+
+	@Override
+	public boolean hasSubSeries() {
+		return hasSubSeries;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return series.isEmpty();
+	}
+
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dussan.vaadin.dcharts.helpers.BinaryDataHelper;
+
+public class SharedXDataSeries extends DataSeries implements Serializable {
+
+	private static final long serialVersionUID = 7342258145406921753L;
+	private int capacity = 0;
+	private DataColumn x = null;
+	// rows with a null y value are not part of the serie
+	private List<DataColumn> y = null;
+
+	public SharedXDataSeries() {
+		clean();
+	}
+
+	public SharedXDataSeries(int capacity) {
+		this.capacity = Math.max(0, capacity);
+		clean();
+	}
+
+	private DataColumn newColumn(int rows) {
+		DataColumn column = capacity > 0 ? new DataColumn(capacity)
+				: new DataColumn();
+		for (int i = 0; i < rows; i++) {
+			column.add(null);
+		}
+		return column;
+	}
+
+	private void addRow(Object xValue, Object[] yValues, int offset) {
+		int series = yValues.length - offset;
+		for (int i = y.size(); i < series; i++) {
+			y.add(newColumn(x.size()));
+		}
+		x.add(xValue);
+		for (int i = 0; i < y.size(); i++) {
+			y.get(i).add(i < series ? yValues[offset + i] : null);
+		}
+	}
+
+	private int getRow(DataColumn column, int pointIndex) {
+		if (!column.isNumeric()) {
+			for (int i = 0; i < column.size(); i++) {
+				if (!column.isNull(i) && pointIndex-- == 0) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		return pointIndex < column.size() ? pointIndex : -1;
+	}
+
+	@Override
+	protected SharedXDataSeries clean() {
+		x = newColumn(0);
+		y = new ArrayList<DataColumn>();
+		return this;
+	}
+
+	@Override
+	public SharedXDataSeries newSeries() {
+		// every y value of a row belongs to its own serie
+		return this;
+	}
+
+	@Override
+	public SharedXDataSeries add(Object... data) {
+		if (data == null || data.length == 0) {
+			return this;
+		}
+		addRow(data[0], data, 1);
+		return this;
+	}
+
+	@Override
+	public SharedXDataSeries addPoints(int seriesIndex, Object... points) {
+		if (points == null || seriesIndex < 0 || seriesIndex >= y.size()) {
+			return this;
+		}
+
+		for (Object point : toPoints(points)) {
+			Object[] values = (Object[]) point;
+			if (values.length == 2) {
+				// other series get no point for the new x value
+				Object[] yValues = new Object[seriesIndex + 1];
+				yValues[seriesIndex] = values[1];
+				addRow(values[0], yValues, 0);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public int getSeriesCount() {
+		return y.size();
+	}
+
+	@Override
+	public int getPointCount(int seriesIndex) {
+		if (seriesIndex < 0 || seriesIndex >= y.size()) {
+			return 0;
+		}
+
+		DataColumn column = y.get(seriesIndex);
+		if (column.isNumeric()) {
+			return column.size();
+		}
+		int count = 0;
+		for (int i = 0; i < column.size(); i++) {
+			count += column.isNull(i) ? 0 : 1;
+		}
+		return count;
+	}
+
+	public DataColumn getXColumn() {
+		return x;
+	}
+
+	public DataColumn getYColumn(int seriesIndex) {
+		try {
+			return y.get(seriesIndex);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Object getSeriesValue(int seriesIndex, int pointIndex) {
+		try {
+			DataColumn column = y.get(seriesIndex);
+			int row = pointIndex < 0 ? -1 : getRow(column, pointIndex);
+			if (row < 0) {
+				return null;
+			}
+			return new Object[] { x.get(row), column.get(row) };
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private void appendColumn(StringBuilder builder, DataColumn column) {
+		builder.append("[");
+		for (int i = 0; i < column.size(); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			column.appendTo(builder, i);
+		}
+		builder.append("]");
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		// x values are sent once and expanded to points by the client
+		value.append("{\"x\": ");
+		appendColumn(value, x);
+		value.append(", \"y\": [");
+		for (int i = 0; i < y.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			appendColumn(value, y.get(i));
+		}
+		value.append("]}");
+	}
+
+	@Override
+	public void writeBinaryTo(StringBuilder value) {
+		value.append("{\"x\": ");
+		BinaryDataHelper.writeColumn(value, x);
+		value.append(", \"y\": [");
+		for (int i = 0; i < y.size(); i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			BinaryDataHelper.writeColumn(value, y.get(i));
+		}
+		value.append("]}");
+	}
+
+	@Override
+	public String getValue() {
+		long length = 16 + (long) x.size() * (y.size() + 1) * 12;
+		StringBuilder value = new StringBuilder((int) Math.min(length,
+				Integer.MAX_VALUE - 8));
+		writeTo(value);
+		return value.toString();
+	}
+
+	@Override
+	public boolean hasSubSeries() {
+		return true;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return y.isEmpty();
+	}
+
+}
@@ -19,6 +19,12 @@ public enum ChartEventType {
 
 	NOT_DEFINED("notDefined"), //
 	RAW_IMAGE_DATA("rawImageData"), //
+	REQUESTED_IMAGE_DATA("requestedImageData"), //
+	DOWNLOAD_IMAGE_DATA("downloadImageData"), //
+	IMAGE_HASH("imageHash"), //
+	CHART_WIDTH("chartWidth"), //
+	OPTIONS_TEMPLATE("optionsTemplate"), //
+	FUNCTIONS("functions"), //
 	BAR_MOUSE_ENTER("barMouseEnter"), //
 	BAR_MOUSE_LEAVE("barMouseLeave"), //
 	BAR_CLICK("barClick"), //
@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.events.chartImageHash;
+
+import com.google.gwt.event.shared.GwtEvent;
+
+public class ChartImageHashEvent extends GwtEvent<ChartImageHashHandler> {
+
+	private String chartImageHash = null;
+	public static final Type<ChartImageHashHandler> TYPE = new Type<ChartImageHashHandler>();
+
+	public ChartImageHashEvent(String chartImageHash) {
+		this.chartImageHash = chartImageHash;
+	}
+
+	public String getChartImageHash() {
+		return chartImageHash;
+	}
+
+	@Override
+	public Type<ChartImageHashHandler> getAssociatedType() {
+		return TYPE;
+	}
+
+	@Override
+	protected void dispatch(ChartImageHashHandler handler) {
+		handler.onChartImageHash(this);
+	}
+
+	public static Type<ChartImageHashHandler> getType() {
+		return TYPE;
+	}
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import org.dussan.vaadin.dcharts.data.DataColumn;
+
+public class BinaryDataHelper {
+
+	private static boolean isColumnValue(Object value) {
+		return (value instanceof Number || ObjectHelper.isString(value));
+	}
+
+	private static DataColumn[] toColumns(Object[] data, boolean points) {
+		if (data == null || data.length == 0) {
+			return null;
+		}
+
+		int width = 1;
+		if (points) {
+			width = data[0] instanceof Object[] ? ((Object[]) data[0]).length
+					: 0;
+		}
+		if (width == 0) {
+			return null;
+		}
+		DataColumn[] columns = new DataColumn[width];
+		for (int i = 0; i < width; i++) {
+			columns[i] = new DataColumn(data.length);
+		}
+
+		for (Object point : data) {
+			if (!points) {
+				if (!isColumnValue(point)) {
+					return null;
+				}
+				columns[0].add(point);
+			} else if (point instanceof Object[]
+					&& ((Object[]) point).length == width) {
+				for (int i = 0; i < width; i++) {
+					Object value = ((Object[]) point)[i];
+					if (!isColumnValue(value)) {
+						return null;
+					}
+					columns[i].add(value);
+				}
+			} else {
+				// points with different lengths or null points
+				return null;
+			}
+		}
+		return columns;
+	}
+
+	public static void writeColumn(StringBuilder value, DataColumn column) {
+		if (!column.writeBinaryTo(value)) {
+			value.append("[");
+			for (int i = 0; i < column.size(); i++) {
+				if (i > 0) {
+					value.append(", ");
+				}
+				column.appendTo(value, i);
+			}
+			value.append("]");
+		}
+	}
+
+	public static void writeColumns(StringBuilder value, DataColumn[] columns,
+			boolean points) {
+		if (!points) {
+			value.append("{\"column\": ");
+			writeColumn(value, columns[0]);
+			value.append("}");
+			return;
+		}
+
+		value.append("{\"columns\": [");
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				value.append(", ");
+			}
+			writeColumn(value, columns[i]);
+		}
+		value.append("]}");
+	}
+
+	public static boolean writeSerie(StringBuilder value, Object[] data,
+			boolean points) {
+		DataColumn[] columns = toColumns(data, points);
+		if (columns == null) {
+			return false;
+		}
+		writeColumns(value, columns, points);
+		return true;
+	}
+
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.codec.binary.Base64;
+import org.dussan.vaadin.dcharts.ChartImageFormat;
+
+public class ChartImageHelper {
+
+	private static final String DATA_URL_PREFIX = "data:image/png;base64,";
+	private static final int QUEUE_CAPACITY = 64;
+	private static final AtomicLong CALLER_RUNS = new AtomicLong();
+	private static ThreadPoolExecutor executor = null;
+
+	public ChartImageHelper() {
+	}
+
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime()
+					.availableProcessors() / 2));
+			final AtomicInteger count = new AtomicInteger();
+			executor = new ThreadPoolExecutor(threads, threads, 60,
+					TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(
+							QUEUE_CAPACITY), new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable,
+									"dcharts-image-" + count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					}, new RejectedExecutionHandler() {
+						@Override
+						public void rejectedExecution(Runnable runnable,
+								ThreadPoolExecutor executor) {
+							// full queue slows down the request which adds more
+							CALLER_RUNS.incrementAndGet();
+							runnable.run();
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	public static void execute(Runnable task) {
+		getExecutor().execute(task);
+	}
+
+	public static int getQueueDepth() {
+		return getExecutor().getQueue().size();
+	}
+
+	public static int getQueueCapacity() {
+		return QUEUE_CAPACITY;
+	}
+
+	public static int getActiveCount() {
+		return getExecutor().getActiveCount();
+	}
+
+	public static long getCompletedCount() {
+		return getExecutor().getCompletedTaskCount();
+	}
+
+	public static long getCallerRunsCount() {
+		return CALLER_RUNS.get();
+	}
+
+	public static byte[] decodeDataUrl(String data) {
+		if (data == null || !data.startsWith(DATA_URL_PREFIX)) {
+			return null;
+		}
+		return Base64.decodeBase64(data.substring(DATA_URL_PREFIX.length()));
+	}
+
+	public static BufferedImage read(byte[] image) {
+		if (image != null && image.length > 0) {
+			try {
+				return ImageIO.read(new ByteArrayInputStream(image));
+			} catch (Exception e) {
+				// not catch any error
+			}
+		}
+		return null;
+	}
+
+	public static byte[] write(BufferedImage image, ChartImageFormat format) {
+		if (image != null && format != null) {
+			try {
+				ByteArrayOutputStream output = new ByteArrayOutputStream();
+				if (ImageIO.write(image, format.getFormat(), output)) {
+					return output.toByteArray();
+				}
+			} catch (Exception e) {
+				// not catch any error
+			}
+		}
+		return null;
+	}
+
+}
@@ -16,11 +16,81 @@
 package org.dussan.vaadin.dcharts.helpers;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ClassHelper {
 
+	private static final Map<Class<?>, ClassFields> CLASS_FIELDS = new ConcurrentHashMap<Class<?>, ClassFields>();
+	// default values are shared by all instances, so they are read only
+	private static final Map<Class<?>, Map<String, Object>> STATIC_FIELD_VALUES = new ConcurrentHashMap<Class<?>, Map<String, Object>>();
+
+	private static class ClassFields {
+
+		// fields in declaration order, class fields before superclass fields
+		private final Field[] values;
+		private final Map<String, Field> fields;
+
+		private ClassFields(Class<?> type) {
+			List<Field> values = new ArrayList<Field>();
+			Map<String, Field> fields = new HashMap<String, Field>();
+			Class<?> superType = type.getSuperclass();
+			Field[] typeFields = type.getDeclaredFields();
+			Field[] superTypeFields = superType != null ? superType
+					.getDeclaredFields() : new Field[0];
+
+			for (Field field : superTypeFields) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					field.setAccessible(true);
+					fields.put(field.getName(), field);
+				}
+			}
+			for (Field field : typeFields) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					field.setAccessible(true);
+					fields.put(field.getName(), field);
+				}
+			}
+
+			for (Field field : typeFields) {
+				if (isValueField(field) && !field.getType().equals(type)) {
+					values.add(field);
+				}
+			}
+			for (Field field : superTypeFields) {
+				if (isValueField(field)) {
+					values.add(field);
+				}
+			}
+
+			this.values = values.toArray(new Field[values.size()]);
+			this.fields = fields;
+		}
+
+		private static boolean isValueField(Field field) {
+			int modifiers = field.getModifiers();
+			return (!Modifier.isStatic(modifiers)
+					&& !Modifier.isTransient(modifiers) && !"defaultValues"
+						.equals(field.getName()));
+		}
+
+	}
+
+	private static ClassFields getClassFields(Class<?> type) {
+		ClassFields classFields = CLASS_FIELDS.get(type);
+		if (classFields == null) {
+			classFields = new ClassFields(type);
+			CLASS_FIELDS.put(type, classFields);
+		}
+		return classFields;
+	}
+
 	private static String convert2fieldName(String fieldName) {
 		String[] values = fieldName.split("_");
 		StringBuilder name = new StringBuilder(values[0].toLowerCase());
@@ -31,103 +101,59 @@ public class ClassHelper {
 		return name.toString();
 	}
 
-	public static Map<String, Object> getStaticFieldValues(Object object) {
-		Map<String, Object> values = new HashMap<String, Object>();
-		Field[] fields = object.getClass().getDeclaredFields();
+	private static void putStaticFieldValues(Map<String, Object> values,
+			Field[] fields, Class<?> type) {
 		for (Field field : fields) {
 			String fieldName = convert2fieldName(field.getName());
 			if (!fieldName.equals("serialVersionUID")
-					&& !field.getType().equals(object.getClass())) {
+					&& (type == null || !field.getType().equals(type))) {
 				field.setAccessible(true);
 				try {
 					values.put(fieldName, field.get(null));
 				} catch (Exception e) {
 					values.put(fieldName, null);
 				}
-				field.setAccessible(false);
 			}
 		}
+	}
 
-		if (object.getClass().getSuperclass() != null
-				&& object.getClass().getSuperclass().getDeclaredFields() != null
-				&& object.getClass().getSuperclass().getDeclaredFields().length > 0) {
-			fields = object.getClass().getSuperclass().getDeclaredFields();
-			for (Field field : fields) {
-				String fieldName = convert2fieldName(field.getName());
-				if (!fieldName.equals("serialVersionUID")) {
-					field.setAccessible(true);
-					try {
-						values.put(fieldName, field.get(null));
-					} catch (Exception e) {
-						values.put(fieldName, null);
-					}
-					field.setAccessible(false);
-				}
+	public static Map<String, Object> getStaticFieldValues(Object object) {
+		Class<?> type = object.getClass();
+		Map<String, Object> values = STATIC_FIELD_VALUES.get(type);
+		if (values == null) {
+			values = new HashMap<String, Object>();
+			putStaticFieldValues(values, type.getDeclaredFields(), type);
+			if (type.getSuperclass() != null) {
+				putStaticFieldValues(values, type.getSuperclass()
+						.getDeclaredFields(), null);
 			}
+			values = Collections.unmodifiableMap(values);
+			STATIC_FIELD_VALUES.put(type, values);
 		}
-
 		return values;
 	}
 
 	public static Map<String, Object> getFieldValues(Object object) {
-		Map<String, Object> values = new HashMap<String, Object>();
-		Field[] fields = object.getClass().getDeclaredFields();
+		Field[] fields = getClassFields(object.getClass()).values;
+		Map<String, Object> values = new LinkedHashMap<String, Object>(
+				fields.length * 2);
 		for (Field field : fields) {
-			String fieldName = field.getName();
-			if (!"serialVersionUID".equals(fieldName)
-					&& !"defaultValues".equals(fieldName)
-					&& !field.getType().equals(object.getClass())) {
-				field.setAccessible(true);
-				try {
-					values.put(fieldName, field.get(object));
-				} catch (Exception e) {
-					values.put(fieldName, null);
-				}
-				field.setAccessible(false);
-			}
-		}
-
-		if (object.getClass().getSuperclass() != null
-				&& object.getClass().getSuperclass().getDeclaredFields() != null
-				&& object.getClass().getSuperclass().getDeclaredFields().length > 0) {
-			fields = object.getClass().getSuperclass().getDeclaredFields();
-			for (Field field : fields) {
-				String fieldName = field.getName();
-				if (!"serialVersionUID".equals(fieldName)
-						&& !"defaultValues".equals(fieldName)) {
-					field.setAccessible(true);
-					try {
-						values.put(
-								fieldName,
-								field.get(object.getClass().getSuperclass()
-										.cast(object)));
-					} catch (Exception e) {
-						values.put(fieldName, null);
-					}
-					field.setAccessible(false);
-				}
+			try {
+				values.put(field.getName(), field.get(object));
+			} catch (Exception e) {
+				values.put(field.getName(), null);
 			}
 		}
-
 		return values;
 	}
 
 	public static void setFieldValue(Object object, String fieldName,
 			Object fieldValue) {
-		try {
-			Field field = object.getClass().getDeclaredField(fieldName);
-			field.setAccessible(true);
-			field.set(object, fieldValue);
-			field.setAccessible(false);
-		} catch (Exception e) {
+		Field field = getClassFields(object.getClass()).fields.get(fieldName);
+		if (field != null) {
 			try {
-				Field field = object.getClass().getSuperclass()
-						.getDeclaredField(fieldName);
-				field.setAccessible(true);
-				field.set(object.getClass().getSuperclass().cast(object),
-						fieldValue);
-				field.setAccessible(false);
-			} catch (Exception ex) {
+				field.set(object, fieldValue);
+			} catch (Exception e) {
 			}
 		}
 	}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import org.dussan.vaadin.dcharts.data.DataSeries;
+
+public class DownsamplingHelper {
+
+	private static final int MIN_THRESHOLD = 3;
+
+	public DownsamplingHelper() {
+	}
+
+	private static Double getNumber(Object value) {
+		return value instanceof Number ? ((Number) value).doubleValue() : null;
+	}
+
+	// largest triangle three buckets, returns indexes of kept points or null
+	// when the serie is already small enough or has non numeric values
+	public static int[] getLttbIndexes(DataSeries dataSeries, int seriesIndex,
+			int threshold) {
+		int length = dataSeries.getPointCount(seriesIndex);
+		if (threshold < MIN_THRESHOLD || length <= threshold) {
+			return null;
+		}
+
+		double[] x = new double[length];
+		double[] y = new double[length];
+		for (int i = 0; i < length; i++) {
+			Object value = dataSeries.getSeriesValue(seriesIndex, i);
+			Double pointX = (double) i;
+			Double pointY = null;
+			if (value instanceof Object[]) {
+				Object[] point = (Object[]) value;
+				if (point.length != 2) {
+					return null;
+				}
+				// non numeric x values (dates, categories) are evenly spaced
+				pointX = point[0] instanceof Number ? getNumber(point[0])
+						: pointX;
+				pointY = getNumber(point[1]);
+			} else {
+				pointY = getNumber(value);
+			}
+			if (pointY == null) {
+				return null;
+			}
+			x[i] = pointX;
+			y[i] = pointY;
+		}
+
+		int[] indexes = new int[threshold];
+		double every = (double) (length - 2) / (threshold - 2);
+		int a = 0;
+		int count = 0;
+		indexes[count++] = a;
+		for (int i = 0; i < threshold - 2; i++) {
+			// average point of the next bucket
+			int averageStart = (int) Math.floor((i + 1) * every) + 1;
+			int averageEnd = Math.min((int) Math.floor((i + 2) * every) + 1,
+					length);
+			double averageX = 0;
+			double averageY = 0;
+			for (int j = averageStart; j < averageEnd; j++) {
+				averageX += x[j];
+				averageY += y[j];
+			}
+			averageX /= Math.max(1, averageEnd - averageStart);
+			averageY /= Math.max(1, averageEnd - averageStart);
+
+			// point of the current bucket with the largest triangle
+			int rangeStart = (int) Math.floor(i * every) + 1;
+			int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+			double maxArea = -1;
+			int maxIndex = rangeStart;
+			for (int j = rangeStart; j < rangeEnd; j++) {
+				double area = Math.abs((x[a] - averageX) * (y[j] - y[a])
+						- (x[a] - x[j]) * (averageY - y[a]));
+				if (area > maxArea) {
+					maxArea = area;
+					maxIndex = j;
+				}
+			}
+			indexes[count++] = maxIndex;
+			a = maxIndex;
+		}
+		indexes[count++] = length - 1;
+		return indexes;
+	}
+
+	public static DataSeries sample(DataSeries dataSeries, int[][] indexes) {
+		DataSeries samples = new DataSeries();
+		for (int i = 0; i < dataSeries.getSeriesCount(); i++) {
+			int length = indexes[i] != null ? indexes[i].length : dataSeries
+					.getPointCount(i);
+			Object[] values = new Object[length];
+			for (int j = 0; j < length; j++) {
+				values[j] = dataSeries.getSeriesValue(i,
+						indexes[i] != null ? indexes[i][j] : j);
+			}
+
+			if (dataSeries.hasSubSeries()) {
+				samples.newSeries();
+				for (Object value : values) {
+					samples.add((Object[]) value);
+				}
+			} else {
+				samples.add(values);
+			}
+		}
+		return samples;
+	}
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.vaadin.ui.UI;
+
+public class FunctionHelper {
+
+	// functions are resolved by the client like other javascript references
+	private static final String REFERENCE = "$wnd.dcharts.functions.";
+	private static final String TOKEN = "{\"$js\": \"" + REFERENCE;
+	private static final String EXPRESSION_PREFIX = "js_";
+	private static final Map<String, Function> FUNCTIONS = new HashMap<String, Function>();
+	// ids of functions which were already sent to the client of each ui
+	private static final Map<UI, Set<String>> SENT_FUNCTIONS = new WeakHashMap<UI, Set<String>>();
+	private static long version = 0;
+
+	private static class Function {
+
+		private final String id;
+		private final String source;
+
+		private Function(String id, String source) {
+			this.id = id;
+			this.source = source;
+		}
+
+	}
+
+	public static synchronized String register(String name, String source) {
+		if (name != null && name.matches("[A-Za-z_$][\\w$]*")
+				&& source != null) {
+			FUNCTIONS.put(name, new Function(name + ":" + (++version), source));
+			return getReference(name);
+		}
+		return null;
+	}
+
+	// other javascript expressions are shared like registered functions,
+	// so the client only resolves references and never evaluates code
+	public static synchronized String registerExpression(String source) {
+		String name = EXPRESSION_PREFIX
+				+ DigestUtils.sha1Hex(source).substring(0, 16);
+		Function function = FUNCTIONS.get(name);
+		if (function == null || !function.source.equals(source)) {
+			FUNCTIONS.put(name, new Function(name + ":" + (++version), source));
+		}
+		return getReference(name);
+	}
+
+	public static synchronized void unregister(String name) {
+		FUNCTIONS.remove(name);
+	}
+
+	public static synchronized boolean isRegistered(String name) {
+		return FUNCTIONS.containsKey(name);
+	}
+
+	public static String getReference(String name) {
+		return REFERENCE + name;
+	}
+
+	private static void addNames(Set<String> names, String value) {
+		if (value == null) {
+			return;
+		}
+		int index = value.indexOf(TOKEN);
+		while (index >= 0) {
+			int start = index + TOKEN.length();
+			int end = value.indexOf('"', start);
+			names.add(value.substring(start, end));
+			index = value.indexOf(TOKEN, end);
+		}
+	}
+
+	public static synchronized String getValue(UI ui, String... values) {
+		Set<String> names = new TreeSet<String>();
+		for (String value : values) {
+			addNames(names, value);
+		}
+
+		Set<String> sentFunctions = ui != null ? SENT_FUNCTIONS.get(ui) : null;
+		if (ui != null && sentFunctions == null) {
+			sentFunctions = new HashSet<String>();
+			SENT_FUNCTIONS.put(ui, sentFunctions);
+		}
+		StringBuilder value = new StringBuilder();
+		for (String name : names) {
+			Function function = FUNCTIONS.get(name);
+			if (function != null) {
+				value.append(value.length() > 0 ? ", " : "[");
+				value.append("{\"name\": ");
+				ObjectHelper.writeString(value, name);
+				value.append(", \"id\": ");
+				ObjectHelper.writeString(value, function.id);
+				// source is sent only once to each ui
+				if (sentFunctions == null || sentFunctions.add(function.id)) {
+					value.append(", \"source\": ");
+					ObjectHelper.writeString(value, function.source);
+				}
+				value.append("}");
+			}
+		}
+		return value.length() > 0 ? value.append("]").toString() : "";
+	}
+
+	public static synchronized void setNotSent(UI ui, String... ids) {
+		Set<String> sentFunctions = SENT_FUNCTIONS.get(ui);
+		if (sentFunctions != null) {
+			for (String id : ids) {
+				sentFunctions.remove(id);
+			}
+		}
+	}
+
+}
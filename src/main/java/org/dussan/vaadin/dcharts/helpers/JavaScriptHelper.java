@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class JavaScriptHelper {
+
+	private static final String TOKEN = "$js";
+	private static final Pattern REFERENCE = Pattern
+			.compile("\\$wnd(\\.[A-Za-z_$][\\w$]*)+");
+	private static final Pattern IDENTIFIER = Pattern
+			.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+	private static final Pattern NUMBER = Pattern
+			.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+	private static final String PUNCTUATORS = "{}[]:";
+	private static final String ESCAPES = "\"\\/bfnrtu";
+
+	private static int skipWhitespaces(String literal, int index) {
+		while (index < literal.length()
+				&& Character.isWhitespace(literal.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static boolean isFollowedBy(String literal, int index,
+			String characters) {
+		index = skipWhitespaces(literal, index);
+		return (index < literal.length() && characters.indexOf(literal
+				.charAt(index)) >= 0);
+	}
+
+	private static int writeString(StringBuilder value, String literal,
+			int index) {
+		char quote = literal.charAt(index++);
+		value.append("\"");
+		while (index < literal.length() && literal.charAt(index) != quote) {
+			char c = literal.charAt(index++);
+			if (c == '\\' && index < literal.length()) {
+				char escaped = literal.charAt(index++);
+				if (escaped == '\'') {
+					value.append(escaped);
+				} else if (ESCAPES.indexOf(escaped) >= 0) {
+					value.append(c).append(escaped);
+				} else {
+					return -1;
+				}
+			} else if (c == '"') {
+				value.append("\\\"");
+			} else if (c < 0x20 || c == '\\') {
+				return -1;
+			} else {
+				value.append(c);
+			}
+		}
+		value.append("\"");
+		return index < literal.length() ? index + 1 : -1;
+	}
+
+	private static boolean writeLiteral(StringBuilder value, String literal) {
+		Matcher number = NUMBER.matcher(literal);
+		Matcher identifier = IDENTIFIER.matcher(literal);
+		int index = skipWhitespaces(literal, 0);
+		while (index < literal.length()) {
+			char c = literal.charAt(index);
+			if (PUNCTUATORS.indexOf(c) >= 0) {
+				value.append(c);
+				index++;
+			} else if (c == ',') {
+				// trailing commas are not allowed in json
+				if (!isFollowedBy(literal, index + 1, "}]")) {
+					value.append(c);
+				}
+				index++;
+			} else if (c == '"' || c == '\'') {
+				index = writeString(value, literal, index);
+				if (index < 0) {
+					return false;
+				}
+			} else if (number.region(index, literal.length()).lookingAt()) {
+				index = number.end();
+				String text = new BigDecimal(number.group().replace("+", ""))
+						.toString();
+				if (isFollowedBy(literal, index, ":")) {
+					value.append("\"").append(text).append("\"");
+				} else {
+					value.append(text);
+				}
+			} else if (identifier.region(index, literal.length()).lookingAt()) {
+				index = identifier.end();
+				String name = identifier.group();
+				if (isFollowedBy(literal, index, ":")) {
+					value.append("\"").append(name).append("\"");
+				} else if (name.equals("true") || name.equals("false")
+						|| name.equals("null")) {
+					value.append(name);
+				} else if (REFERENCE.matcher(name).matches()) {
+					writeToken(value, name);
+				} else {
+					return false;
+				}
+			} else {
+				return false;
+			}
+			index = skipWhitespaces(literal, index);
+		}
+		return true;
+	}
+
+	public static void writeToken(StringBuilder value, String expression) {
+		value.append("{\"").append(TOKEN).append("\": ");
+		ObjectHelper.writeString(value, expression);
+		value.append("}");
+	}
+
+	public static void writeExpression(StringBuilder value, String expression) {
+		String literal = expression.trim();
+		if (literal.startsWith("{") || literal.startsWith("[")) {
+			// object and array literals are converted to json
+			int length = value.length();
+			if (writeLiteral(value, literal)) {
+				return;
+			}
+			value.setLength(length);
+		}
+		writeToken(value, REFERENCE.matcher(literal).matches() ? literal
+				: FunctionHelper.registerExpression(expression));
+	}
+
+}
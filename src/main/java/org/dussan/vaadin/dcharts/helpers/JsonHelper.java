@@ -17,45 +17,82 @@ package org.dussan.vaadin.dcharts.helpers;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JsonHelper {
 
+	private static final String SERIALIZER_SUFFIX = "JsonSerializer";
+	private static final Map<Class<?>, JsonSerializer> SERIALIZERS = new ConcurrentHashMap<Class<?>, JsonSerializer>();
+	// placeholder for classes without generated serializer
+	private static final JsonSerializer REFLECTION_SERIALIZER = new JsonSerializer() {
+		@Override
+		public void writeTo(StringBuilder value, Object object) {
+			Map<String, Object> values = ClassHelper.getFieldValues(object);
+			value.append("{");
+			int start = value.length();
+			for (Entry<String, Object> entry : values.entrySet()) {
+				writeField(value, start, entry.getKey(), entry.getValue());
+			}
+			value.append("}");
+		}
+	};
+
 	public JsonHelper() {
 	}
 
+	private static JsonSerializer getSerializer(Class<?> type) {
+		JsonSerializer serializer = SERIALIZERS.get(type);
+		if (serializer == null) {
+			try {
+				serializer = (JsonSerializer) Class.forName(
+						type.getName() + SERIALIZER_SUFFIX, true,
+						type.getClassLoader()).getDeclaredConstructor()
+						.newInstance();
+			} catch (Exception e) {
+				serializer = REFLECTION_SERIALIZER;
+			}
+			SERIALIZERS.put(type, serializer);
+		}
+		return serializer;
+	}
+
 	public static String toJsonString(Object object) {
+		StringBuilder value = new StringBuilder();
+		return writeJsonString(value, object) ? value.toString() : null;
+	}
+
+	public static boolean writeJsonString(StringBuilder value, Object object) {
+		int length = value.length();
 		try {
-			Map<String, Object> values = ClassHelper.getFieldValues(object);
-			StringBuilder builder = new StringBuilder();
-			for (Entry<String, Object> entry : values.entrySet()) {
-				String fieldName = entry.getKey();
-				Object fieldValue = entry.getValue();
-
-				if (ObjectHelper.isArray(fieldValue)) {
-					if (fieldValue instanceof Object[][]) {
-						fieldValue = ObjectHelper
-								.toArrayString((Object[][]) fieldValue);
-					} else {
-						fieldValue = ObjectHelper
-								.toArrayString((Object[]) fieldValue);
-					}
-				}
-
-				if (fieldValue != null) {
-					fieldValue = !ObjectHelper.isString(fieldValue) ? fieldValue
-							: fieldValue.toString().replaceAll("\"", "'");
-					builder.append(builder.length() > 0 ? ", " : "");
-					builder.append(fieldName + ": ");
-					builder.append(ObjectHelper.isString(fieldValue) ? "\""
-							: "");
-					builder.append(fieldValue);
-					builder.append(ObjectHelper.isString(fieldValue) ? "\""
-							: "");
-				}
-			}
-			return builder.insert(0, "{").append("}").toString();
+			getSerializer(object.getClass()).writeTo(value, object);
+			return true;
 		} catch (Exception e) {
-			return null;
+			value.setLength(length);
+			return false;
+		}
+	}
+
+	public static void writeField(StringBuilder value, int start,
+			String fieldName, Object fieldValue) {
+		if (fieldValue == null) {
+			return;
+		}
+
+		int mark = value.length();
+		value.append(value.length() > start ? ", " : "");
+		value.append("\"").append(fieldName).append("\": ");
+		if (ObjectHelper.isArray(fieldValue)) {
+			boolean written = fieldValue instanceof Object[][] ? ObjectHelper
+					.writeArrayString(value, (Object[][]) fieldValue)
+					: ObjectHelper.writeArrayString(value, (Object[]) fieldValue);
+			if (!written) {
+				value.setLength(mark);
+			}
+		} else if (ObjectHelper.isString(fieldValue)) {
+			ObjectHelper.writeString(value,
+					fieldValue.toString().replaceAll("\"", "'"));
+		} else {
+			ObjectHelper.writeValue(value, fieldValue);
 		}
 	}
 
@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+public class JsonPatchHelper {
+
+	private static final String SCRIPT = "$js";
+
+	private static int skipWhitespace(String json, int index) {
+		while (index < json.length()
+				&& Character.isWhitespace(json.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	// index of the first character after the value
+	private static int skipValue(String json, int index) {
+		int depth = 0;
+		boolean inString = false;
+		for (int i = index; i < json.length(); i++) {
+			char c = json.charAt(i);
+			if (inString) {
+				if (c == '\\') {
+					i++;
+				} else if (c == '"') {
+					inString = false;
+					if (depth == 0) {
+						return i + 1;
+					}
+				}
+			} else if (c == '"') {
+				inString = true;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				if (--depth <= 0) {
+					return depth == 0 ? i + 1 : i;
+				}
+			} else if (depth == 0 && (c == ',' || Character.isWhitespace(c))) {
+				return i;
+			}
+		}
+		return json.length();
+	}
+
+	private static String readString(String json) {
+		StringBuilder value = new StringBuilder();
+		for (int i = 1; i < json.length() - 1; i++) {
+			char c = json.charAt(i);
+			if (c == '\\') {
+				c = json.charAt(++i);
+				switch (c) {
+				case 'b':
+					c = '\b';
+					break;
+				case 'f':
+					c = '\f';
+					break;
+				case 'n':
+					c = '\n';
+					break;
+				case 'r':
+					c = '\r';
+					break;
+				case 't':
+					c = '\t';
+					break;
+				case 'u':
+					c = (char) Integer.parseInt(json.substring(i + 1, i + 5), 16);
+					i += 4;
+					break;
+				default:
+					break;
+				}
+			}
+			value.append(c);
+		}
+		return value.toString();
+	}
+
+	// members of a json object, or null for other values
+	private static Map<String, String> getMembers(String json) {
+		if (!json.startsWith("{")) {
+			return null;
+		}
+
+		Map<String, String> members = new LinkedHashMap<String, String>();
+		int index = skipWhitespace(json, 1);
+		while (index < json.length() && json.charAt(index) != '}') {
+			int keyEnd = skipValue(json, index);
+			String key = readString(json.substring(index, keyEnd));
+			index = skipWhitespace(json, keyEnd);
+			if (json.charAt(index) != ':') {
+				throw new IllegalArgumentException(json);
+			}
+			index = skipWhitespace(json, index + 1);
+			int valueEnd = skipValue(json, index);
+			members.put(key, json.substring(index, valueEnd));
+			index = skipWhitespace(json, valueEnd);
+			if (index < json.length() && json.charAt(index) == ',') {
+				index = skipWhitespace(json, index + 1);
+			}
+		}
+		return members;
+	}
+
+	private static String getPath(String path, String key) {
+		return path + "/" + key.replace("~", "~0").replace("/", "~1");
+	}
+
+	private static void addOperation(StringBuilder patch, String operation,
+			String path, String value) {
+		patch.append(patch.length() > 1 ? ", " : "");
+		patch.append("{\"op\": \"").append(operation).append("\", \"path\": ");
+		ObjectHelper.writeString(patch, path);
+		if (value != null) {
+			patch.append(", \"value\": ").append(value);
+		}
+		patch.append("}");
+	}
+
+	private static void addDifferences(StringBuilder patch, String path,
+			Map<String, String> source, Map<String, String> target) {
+		for (String key : source.keySet()) {
+			if (!target.containsKey(key)) {
+				addOperation(patch, "remove", getPath(path, key), null);
+			}
+		}
+
+		for (Entry<String, String> member : target.entrySet()) {
+			String memberPath = getPath(path, member.getKey());
+			String sourceValue = source.get(member.getKey());
+			if (sourceValue == null) {
+				addOperation(patch, "add", memberPath, member.getValue());
+			} else if (!sourceValue.equals(member.getValue())) {
+				Map<String, String> sourceMembers = getMembers(sourceValue);
+				Map<String, String> targetMembers = getMembers(member
+						.getValue());
+				// arrays and javascript references are replaced as a whole
+				if (sourceMembers == null || targetMembers == null
+						|| sourceMembers.containsKey(SCRIPT)
+						|| targetMembers.containsKey(SCRIPT)) {
+					addOperation(patch, "replace", memberPath,
+							member.getValue());
+				} else {
+					addDifferences(patch, memberPath, sourceMembers,
+							targetMembers);
+				}
+			}
+		}
+	}
+
+	public static String createPatch(String source, String target) {
+		try {
+			Map<String, String> sourceMembers = getMembers(source.trim());
+			Map<String, String> targetMembers = getMembers(target.trim());
+			if (sourceMembers == null || targetMembers == null) {
+				return null;
+			}
+
+			StringBuilder patch = new StringBuilder("[");
+			addDifferences(patch, "", sourceMembers, targetMembers);
+			return patch.append("]").toString();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+}
@@ -15,6 +15,9 @@
  */
 package org.dussan.vaadin.dcharts.helpers;
 
+import org.dussan.vaadin.dcharts.base.BaseData;
+import org.dussan.vaadin.dcharts.base.BaseElement;
+
 public class ObjectHelper {
 
 	private static boolean areAllObjectsNull(Object... objects) {
@@ -31,44 +34,118 @@ public class ObjectHelper {
 	}
 
 	public static boolean isString(Object object) {
-		String string = object == null ? null : object.toString();
-		return (object != null
-				&& (object.getClass().isEnum() || object.getClass().equals(
-						String.class)) //
-				&& !string.startsWith("{") && !string.startsWith("[")
+		if (object == null
+				|| !(object.getClass().isEnum() || object.getClass().equals(
+						String.class))) {
+			return false;
+		}
+		String string = object.toString();
+		return (!string.startsWith("{") && !string.startsWith("[")
 				&& !string.startsWith("$w") && !string.startsWith("new $"));
 	}
 
-	public static String toArrayString(Object... objects) {
+	private static boolean isScript(Object object) {
+		return (object instanceof String || (object != null && object
+				.getClass().isEnum()));
+	}
+
+	private static boolean isFinite(Object object) {
+		if (object instanceof Double || object instanceof Float) {
+			double number = ((Number) object).doubleValue();
+			return !(Double.isNaN(number) || Double.isInfinite(number));
+		}
+		return true;
+	}
+
+	public static void writeString(StringBuilder value, String string) {
+		value.append("\"");
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c == '"') {
+				value.append("\\\"");
+			} else if (c == '\\') {
+				value.append("\\\\");
+			} else if (c == '\n') {
+				value.append("\\n");
+			} else if (c == '\r') {
+				value.append("\\r");
+			} else if (c == '\t') {
+				value.append("\\t");
+			} else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+				// line and paragraph separators end a javascript string
+				value.append(String.format("\\u%04x", (int) c));
+			} else {
+				value.append(c);
+			}
+		}
+		value.append("\"");
+	}
+
+	public static void writeValue(StringBuilder value, Object object) {
+		if (object instanceof BaseElement) {
+			String tempValue = ((BaseElement<?>) object).getCachedValue();
+			value.append(tempValue.length() > 0 ? tempValue : "null");
+		} else if (object instanceof BaseData) {
+			((BaseData<?>) object).writeTo(value);
+		} else if (object instanceof Object[]) {
+			if (!writeArrayString(value, (Object[]) object)) {
+				value.append("null");
+			}
+		} else if (isString(object)) {
+			writeString(value, object.toString());
+		} else if (isScript(object)) {
+			// javascript references and literals
+			JavaScriptHelper.writeExpression(value, object.toString());
+		} else if (!isFinite(object)) {
+			value.append("null");
+		} else {
+			value.append(object);
+		}
+	}
+
+	public static boolean writeArrayString(StringBuilder value,
+			Object... objects) {
 		if (objects != null && objects.length > 0
 				&& !areAllObjectsNull(objects)) {
-			StringBuilder value = new StringBuilder();
-			value.append(ObjectHelper.isString(objects[0]) ? "\"" : "");
-			value.append(objects[0]);
-			value.append(ObjectHelper.isString(objects[0]) ? "\"" : "");
-			for (int i = 1; i < objects.length; i++) {
-				value.append(", ");
-				value.append(ObjectHelper.isString(objects[i]) ? "\"" : "");
-				value.append(objects[i]);
-				value.append(ObjectHelper.isString(objects[i]) ? "\"" : "");
+			value.append("[");
+			for (int i = 0; i < objects.length; i++) {
+				if (i > 0) {
+					value.append(", ");
+				}
+				writeValue(value, objects[i]);
 			}
-			return value.insert(0, "[").append("]").toString();
+			value.append("]");
+			return true;
 		}
-		return null;
+		return false;
 	}
 
-	public static String toArrayString(Object[][] objects) {
+	public static boolean writeArrayString(StringBuilder value,
+			Object[][] objects) {
 		if (objects != null && objects.length > 0) {
-			StringBuilder value = new StringBuilder();
+			value.append("[");
 			for (int i = 0; i < objects.length; i++) {
-				if (value.length() > 0) {
+				if (i > 0) {
 					value.append(", ");
 				}
-				value.append(toArrayString(objects[i]));
+				if (!writeArrayString(value, objects[i])) {
+					value.append("null");
+				}
 			}
-			return value.insert(0, "[").append("]").toString();
+			value.append("]");
+			return true;
 		}
-		return null;
+		return false;
+	}
+
+	public static String toArrayString(Object... objects) {
+		StringBuilder value = new StringBuilder();
+		return writeArrayString(value, objects) ? value.toString() : null;
+	}
+
+	public static String toArrayString(Object[][] objects) {
+		StringBuilder value = new StringBuilder();
+		return writeArrayString(value, objects) ? value.toString() : null;
 	}
 
 }
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PayloadCache {
+
+	private static final Map<Key, Value> VALUES = new LinkedHashMap<Key, Value>(
+			16, 0.75f, true);
+	private static final ReferenceQueue<Object> COLLECTED_VALUES = new ReferenceQueue<Object>();
+	private static volatile long maximumSize = 0;
+	private static long size = 0;
+
+	public static class Key {
+
+		private final String variant;
+		private final long hash;
+		private final long secondHash;
+
+		private Key(String variant, long hash, long secondHash) {
+			this.variant = variant;
+			this.hash = hash;
+			this.secondHash = secondHash;
+		}
+
+		public Key getVariant(String variant) {
+			return new Key(variant, hash, secondHash);
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (hash ^ (hash >>> 32)) * 31 + variant.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) object;
+			return (hash == key.hash && secondHash == key.secondHash && variant
+					.equals(key.variant));
+		}
+
+	}
+
+	private static class Value extends WeakReference<Object> {
+
+		private final Key key;
+		private final long size;
+
+		private Value(Key key, Object value, long size) {
+			super(value, COLLECTED_VALUES);
+			this.key = key;
+			this.size = size;
+		}
+
+	}
+
+	public PayloadCache() {
+	}
+
+	private static void removeCollectedValues() {
+		Value value = null;
+		while ((value = (Value) COLLECTED_VALUES.poll()) != null) {
+			if (VALUES.get(value.key) == value) {
+				VALUES.remove(value.key);
+				size -= value.size;
+			}
+		}
+	}
+
+	private static void removeEldestValues() {
+		Iterator<Value> values = VALUES.values().iterator();
+		while (size > maximumSize && values.hasNext()) {
+			size -= values.next().size;
+			values.remove();
+		}
+	}
+
+	public static long getMaximumSize() {
+		return maximumSize;
+	}
+
+	public static synchronized void setMaximumSize(long maximumSize) {
+		PayloadCache.maximumSize = Math.max(0, maximumSize);
+		removeEldestValues();
+	}
+
+	public static boolean isEnabled() {
+		return maximumSize > 0;
+	}
+
+	// key is made of two independent 64 bit hashes of the serialized
+	// payload, so equal payloads of all sessions share one copy
+	public static Key createKey(CharSequence payload, String variant) {
+		if (!isEnabled() || payload == null) {
+			return null;
+		}
+		long hash = 0xcbf29ce484222325L;
+		long secondHash = 0x6a09e667f3bcc909L;
+		for (int i = 0; i < payload.length(); i++) {
+			char c = payload.charAt(i);
+			hash = (hash ^ c) * 0x100000001b3L;
+			secondHash = Long.rotateLeft(secondHash
+					^ (c * 0x9e3779b97f4a7c15L), 29) * 0xbf58476d1ce4e5b9L;
+		}
+		return new Key(variant, hash ^ payload.length(), secondHash);
+	}
+
+	public static synchronized Object get(Key key) {
+		if (key == null) {
+			return null;
+		}
+		removeCollectedValues();
+		Value value = VALUES.get(key);
+		return value != null ? value.get() : null;
+	}
+
+	public static synchronized Object put(Key key, Object value, long size) {
+		if (key == null || value == null || size > maximumSize) {
+			return value;
+		}
+		removeCollectedValues();
+
+		// the first cached value is shared by all sessions
+		Value cachedValue = VALUES.get(key);
+		Object sharedValue = cachedValue != null ? cachedValue.get() : null;
+		if (sharedValue != null) {
+			return sharedValue;
+		} else if (cachedValue != null) {
+			VALUES.remove(key);
+			PayloadCache.size -= cachedValue.size;
+		}
+		VALUES.put(key, new Value(key, value, size));
+		PayloadCache.size += size;
+		removeEldestValues();
+		return value;
+	}
+
+	public static synchronized void clear() {
+		VALUES.clear();
+		size = 0;
+	}
+
+}
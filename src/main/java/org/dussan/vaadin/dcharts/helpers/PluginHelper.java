@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.dussan.vaadin.dcharts.base.BaseElement;
+import org.dussan.vaadin.dcharts.base.elements.PointLabels;
+import org.dussan.vaadin.dcharts.base.elements.Trendline;
+import org.dussan.vaadin.dcharts.options.CanvasOverlay;
+import org.dussan.vaadin.dcharts.options.Cursor;
+import org.dussan.vaadin.dcharts.options.Highlighter;
+
+public class PluginHelper {
+
+	private static final String JQPLOT = "$wnd.jQuery.jqplot.";
+	// jqPlot objects which are not part of jqPlot core, with their plugins
+	private static final Map<String, String[]> PLUGINS = new HashMap<String, String[]>();
+
+	static {
+		PLUGINS.put("BarRenderer", new String[] { "barRenderer" });
+		PLUGINS.put("BlockRenderer", new String[] { "blockRenderer" });
+		PLUGINS.put("BubbleRenderer", new String[] { "bubbleRenderer" });
+		PLUGINS.put("CanvasAxisLabelRenderer",
+				new String[] { "canvasAxisLabelRenderer" });
+		PLUGINS.put("CanvasAxisTickRenderer",
+				new String[] { "canvasAxisTickRenderer" });
+		PLUGINS.put("CanvasOverlay", new String[] { "canvasOverlay" });
+		PLUGINS.put("CategoryAxisRenderer",
+				new String[] { "categoryAxisRenderer" });
+		PLUGINS.put("Cursor", new String[] { "cursor" });
+		PLUGINS.put("DateAxisRenderer", new String[] { "dateAxisRenderer" });
+		PLUGINS.put("DonutRenderer", new String[] { "donutRenderer" });
+		PLUGINS.put("EnhancedLegendRenderer",
+				new String[] { "enhancedLegendRenderer" });
+		PLUGINS.put("Highlighter", new String[] { "highlighter",
+				"bubbleRenderer" });
+		PLUGINS.put("LogAxisRenderer", new String[] { "logAxisRenderer" });
+		PLUGINS.put("MeterGaugeRenderer", new String[] { "meterGaugeRenderer" });
+		PLUGINS.put("MeterGaugeTickRenderer",
+				new String[] { "meterGaugeRenderer" });
+		PLUGINS.put("OHLCRenderer", new String[] { "ohlcRenderer" });
+		PLUGINS.put("PieRenderer", new String[] { "pieRenderer" });
+		PLUGINS.put("PointLabels", new String[] { "pointLabels" });
+		PLUGINS.put("PyramidAxisRenderer",
+				new String[] { "pyramidAxisRenderer" });
+		PLUGINS.put("PyramidGridRenderer",
+				new String[] { "pyramidGridRenderer" });
+		PLUGINS.put("PyramidRenderer", new String[] { "pyramidRenderer" });
+		PLUGINS.put("Trendline", new String[] { "trendline" });
+	}
+
+	private static void addPlugins(Set<String> plugins, String name) {
+		if (PLUGINS.containsKey(name)) {
+			for (String plugin : PLUGINS.get(name)) {
+				plugins.add(plugin);
+			}
+		}
+	}
+
+	private static void addPlugins(Set<String> plugins, Object value) {
+		if (value == null) {
+			return;
+		} else if (value instanceof String || value.getClass().isEnum()) {
+			// renderers are written as references to jqPlot objects
+			String reference = value.toString();
+			if (reference.startsWith(JQPLOT)) {
+				addPlugins(plugins, reference.substring(JQPLOT.length()));
+			}
+		} else if (value instanceof Object[]) {
+			for (Object item : (Object[]) value) {
+				addPlugins(plugins, item);
+			}
+		} else if (value instanceof Collection) {
+			for (Object item : (Collection<?>) value) {
+				addPlugins(plugins, item);
+			}
+		} else if (value instanceof Map) {
+			for (Object item : ((Map<?, ?>) value).values()) {
+				addPlugins(plugins, item);
+			}
+		} else if (value instanceof BaseElement) {
+			if (value instanceof CanvasOverlay) {
+				addPlugins(plugins, "CanvasOverlay");
+			} else if (value instanceof Cursor) {
+				addPlugins(plugins, "Cursor");
+			} else if (value instanceof Highlighter) {
+				addPlugins(plugins, "Highlighter");
+			} else if (value instanceof PointLabels) {
+				addPlugins(plugins, "PointLabels");
+			} else if (value instanceof Trendline) {
+				addPlugins(plugins, "Trendline");
+			}
+			for (Object fieldValue : ClassHelper.getFieldValues(value)
+					.values()) {
+				addPlugins(plugins, fieldValue);
+			}
+		}
+	}
+
+	public static String getPlugins(Object... sources) {
+		Set<String> plugins = new TreeSet<String>();
+		for (Object source : sources) {
+			addPlugins(plugins, source);
+		}
+
+		StringBuilder value = new StringBuilder();
+		for (String plugin : plugins) {
+			value.append(value.length() > 0 ? "," : "").append(plugin);
+		}
+		return value.toString();
+	}
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.dussan.vaadin.dcharts.options.Options;
+
+import com.vaadin.ui.UI;
+
+public class TemplateHelper {
+
+	private static final Map<String, Template> TEMPLATES = new HashMap<String, Template>();
+	// ids of templates which were already sent to the client of each ui
+	private static final Map<UI, Set<String>> SENT_TEMPLATES = new WeakHashMap<UI, Set<String>>();
+	private static long version = 0;
+
+	private static class Template {
+
+		private final String id;
+		private final Options options;
+		private final String value;
+
+		private Template(String id, Options options, String value) {
+			this.id = id;
+			this.options = options;
+			this.value = value;
+		}
+
+	}
+
+	public static synchronized void register(String name, Options options) {
+		if (name != null && options != null) {
+			// template is serialized once, later changes of options are ignored
+			TEMPLATES.put(name, new Template(name + ":" + (++version), options,
+					options.getValue()));
+		}
+	}
+
+	public static synchronized void unregister(String name) {
+		TEMPLATES.remove(name);
+	}
+
+	public static synchronized boolean isRegistered(String name) {
+		return TEMPLATES.containsKey(name);
+	}
+
+	public static synchronized Options getOptions(String name) {
+		Template template = TEMPLATES.get(name);
+		return template != null ? template.options : null;
+	}
+
+	public static synchronized String getOptionsValue(String name) {
+		Template template = TEMPLATES.get(name);
+		return template != null ? template.value : null;
+	}
+
+	public static synchronized String getValue(UI ui, String name) {
+		Template template = TEMPLATES.get(name);
+		if (template == null) {
+			return "";
+		}
+
+		StringBuilder value = new StringBuilder();
+		value.append("{\"id\": ");
+		ObjectHelper.writeString(value, template.id);
+		Set<String> sentTemplates = ui != null ? SENT_TEMPLATES.get(ui) : null;
+		if (ui != null && sentTemplates == null) {
+			sentTemplates = new HashSet<String>();
+			SENT_TEMPLATES.put(ui, sentTemplates);
+		}
+		if (sentTemplates == null || sentTemplates.add(template.id)) {
+			value.append(", \"options\": ").append(template.value);
+		}
+		value.append("}");
+		return value.toString();
+	}
+
+	public static synchronized void setNotSent(UI ui, String id) {
+		Set<String> sentTemplates = SENT_TEMPLATES.get(ui);
+		if (sentTemplates != null) {
+			sentTemplates.remove(id);
+		}
+	}
+
+}
@@ -16,10 +16,12 @@
 package org.dussan.vaadin.dcharts.options;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.dussan.vaadin.dcharts.base.elements.Option;
 import org.dussan.vaadin.dcharts.base.elements.XYaxis;
+import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 
 public class Axes extends Option<Axes> {
@@ -32,7 +34,8 @@ public class Axes extends Option<Axes> {
 	}
 
 	public List<XYaxis> getAxes() {
-		return axes;
+		// changes go through add, so the cached value is invalidated
+		return Collections.unmodifiableList(axes);
 	}
 
 	public XYaxis getAxis(XYaxes axis) {
@@ -46,20 +49,29 @@ public class Axes extends Option<Axes> {
 
 	public Axes addAxis(XYaxis xyAxis) {
 		axes.add(xyAxis);
+		modified();
 		return this;
 	}
 
 	@Override
 	public String getValue() {
 		StringBuilder value = new StringBuilder();
-		for (XYaxis xyAxis : axes) {
-			value.append(value.length() > 0 ? ", " : "");
-			value.append(xyAxis.getName() + ": ");
-			value.append(xyAxis.getValue());
-		}
+		writeTo(value);
+		return (value.length() > 0 ? value.toString() : null);
+	}
 
-		return (value.length() > 0 ? value.insert(0, "{").append("}")
-				.toString() : null);
+	@Override
+	public void writeTo(StringBuilder value) {
+		if (!axes.isEmpty()) {
+			value.append("{");
+			for (int i = 0; i < axes.size(); i++) {
+				XYaxis xyAxis = axes.get(i);
+				value.append(i > 0 ? ", " : "");
+				value.append("\"").append(xyAxis.getName()).append("\": ");
+				ObjectHelper.writeValue(value, xyAxis);
+			}
+			value.append("}");
+		}
 	}
 
 }
@@ -28,6 +28,7 @@ import org.dussan.vaadin.dcharts.metadata.renderers.AxisRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.LabelRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.TickRenderers;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.axis.CategoryAxisRenderer;
 import org.dussan.vaadin.dcharts.renderers.axis.DateAxisRenderer;
 import org.dussan.vaadin.dcharts.renderers.axis.LinearAxisRenderer;
@@ -38,40 +39,41 @@ import org.dussan.vaadin.dcharts.renderers.label.CanvasAxisLabelRenderer;
 import org.dussan.vaadin.dcharts.renderers.tick.AxisTickRenderer;
 import org.dussan.vaadin.dcharts.renderers.tick.CanvasAxisTickRenderer;
 
+@JsonSerializable
 public class AxesDefaults extends Option<AxesDefaults> {
 
 	private static final long serialVersionUID = 5922536734600790267L;
-	private Boolean show = null;
-	private XYaxes name = null;
-	private TickRenderers tickRenderer = null;
-	private TickRenderer<?> tickOptions = null;
-	private LabelRenderers labelRenderer = null;
-	private LabelRenderer<?> labelOptions = null;
-	private String label = null;
-	private Boolean showLabel = null;
-	private Object min = null;
-	private Object max = null;
-	private Boolean autoscale = null;
-	private Float pad = null;
-	private Float padMax = null;
-	private Float padMin = null;
-	private Ticks ticks = null;
-	private Integer numberTicks = null;
-	private Float tickInterval = null;
-	private AxisRenderers renderer = null;
-	private AxisRenderer<?> rendererOptions = null;
-	private Boolean showTicks = null;
-	private Boolean showTickMarks = null;
-	private Boolean showMinorTicks = null;
-	private Boolean drawMajorGridlines = null;
-	private Boolean drawMinorGridlines = null;
-	private Boolean drawMajorTickMarks = null;
-	private Boolean drawMinorTickMarks = null;
-	private Boolean useSeriesColor = null;
-	private Float borderWidth = null;
-	private String borderColor = null;
-	private Boolean syncTicks = null;
-	private Integer tickSpacing = null;
+	Boolean show = null;
+	XYaxes name = null;
+	TickRenderers tickRenderer = null;
+	TickRenderer<?> tickOptions = null;
+	LabelRenderers labelRenderer = null;
+	LabelRenderer<?> labelOptions = null;
+	String label = null;
+	Boolean showLabel = null;
+	Object min = null;
+	Object max = null;
+	Boolean autoscale = null;
+	Float pad = null;
+	Float padMax = null;
+	Float padMin = null;
+	Ticks ticks = null;
+	Integer numberTicks = null;
+	Float tickInterval = null;
+	AxisRenderers renderer = null;
+	AxisRenderer<?> rendererOptions = null;
+	Boolean showTicks = null;
+	Boolean showTickMarks = null;
+	Boolean showMinorTicks = null;
+	Boolean drawMajorGridlines = null;
+	Boolean drawMinorGridlines = null;
+	Boolean drawMajorTickMarks = null;
+	Boolean drawMinorTickMarks = null;
+	Boolean useSeriesColor = null;
+	Float borderWidth = null;
+	String borderColor = null;
+	Boolean syncTicks = null;
+	Integer tickSpacing = null;
 
 	public AxesDefaults() {
 		super(new DefaultAxisDefaults());
@@ -134,6 +136,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setAxis(XYaxes xyAxes) {
 		this.name = xyAxes;
+		modified();
 		return this;
 	}
 
@@ -143,6 +146,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -155,6 +159,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 			this.tickOptions = DefaultXYaxis.TICK_OPTIONS;
 		}
 		this.tickRenderer = tickRenderers;
+		modified();
 		return this;
 	}
 
@@ -169,6 +174,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 			setTickRenderer(TickRenderers.CANVAS);
 		}
 		this.tickOptions = tickRenderer;
+		modified();
 		return this;
 	}
 
@@ -181,6 +187,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 			this.labelOptions = DefaultXYaxis.LABEL_OPTIONS;
 		}
 		this.labelRenderer = labelRenderers;
+		modified();
 		return this;
 	}
 
@@ -195,6 +202,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 			setLabelRenderer(LabelRenderers.CANVAS);
 		}
 		this.labelOptions = labelRenderer;
+		modified();
 		return this;
 	}
 
@@ -204,6 +212,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -213,6 +222,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -222,6 +232,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setMin(Object min) {
 		this.min = min;
+		modified();
 		return this;
 	}
 
@@ -231,6 +242,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setMax(Object max) {
 		this.max = max;
+		modified();
 		return this;
 	}
 
@@ -240,6 +252,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setAutoscale(boolean autoscale) {
 		this.autoscale = autoscale;
+		modified();
 		return this;
 	}
 
@@ -249,6 +262,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setPad(float pad) {
 		this.pad = pad;
+		modified();
 		return this;
 	}
 
@@ -258,6 +272,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setPadMax(float padMax) {
 		this.padMax = padMax;
+		modified();
 		return this;
 	}
 
@@ -267,6 +282,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setPadMin(float padMin) {
 		this.padMin = padMin;
+		modified();
 		return this;
 	}
 
@@ -276,6 +292,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setTicks(Ticks ticks) {
 		this.ticks = ticks;
+		modified();
 		return this;
 	}
 
@@ -285,6 +302,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setNumberTicks(int numberTicks) {
 		this.numberTicks = numberTicks;
+		modified();
 		return this;
 	}
 
@@ -294,6 +312,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setTickInterval(float tickInterval) {
 		this.tickInterval = tickInterval;
+		modified();
 		return this;
 	}
 
@@ -317,6 +336,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 		}
 
 		this.renderer = axisRenderers;
+		modified();
 		return this;
 	}
 
@@ -337,6 +357,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 			setRenderer(AxisRenderers.PYRAMID);
 		}
 		this.rendererOptions = axisRenderer;
+		modified();
 		return this;
 	}
 
@@ -346,6 +367,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setShowTicks(boolean showTicks) {
 		this.showTicks = showTicks;
+		modified();
 		return this;
 	}
 
@@ -355,6 +377,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setShowTickMarks(boolean showTickMarks) {
 		this.showTickMarks = showTickMarks;
+		modified();
 		return this;
 	}
 
@@ -364,6 +387,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setShowMinorTicks(boolean showMinorTicks) {
 		this.showMinorTicks = showMinorTicks;
+		modified();
 		return this;
 	}
 
@@ -373,6 +397,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setDrawMajorGridlines(boolean drawMajorGridlines) {
 		this.drawMajorGridlines = drawMajorGridlines;
+		modified();
 		return this;
 	}
 
@@ -382,6 +407,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setDrawMinorGridlines(boolean drawMinorGridlines) {
 		this.drawMinorGridlines = drawMinorGridlines;
+		modified();
 		return this;
 	}
 
@@ -391,6 +417,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setDrawMajorTickMarks(boolean drawMajorTickMarks) {
 		this.drawMajorTickMarks = drawMajorTickMarks;
+		modified();
 		return this;
 	}
 
@@ -400,6 +427,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setDrawMinorTickMarks(boolean drawMinorTickMarks) {
 		this.drawMinorTickMarks = drawMinorTickMarks;
+		modified();
 		return this;
 	}
 
@@ -409,6 +437,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setUseSeriesColor(boolean useSeriesColor) {
 		this.useSeriesColor = useSeriesColor;
+		modified();
 		return this;
 	}
 
@@ -418,6 +447,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setBorderWidth(float borderWidth) {
 		this.borderWidth = borderWidth;
+		modified();
 		return this;
 	}
 
@@ -427,6 +457,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setBorderColor(String borderColor) {
 		this.borderColor = borderColor;
+		modified();
 		return this;
 	}
 
@@ -436,6 +467,7 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setSyncTicks(boolean syncTicks) {
 		this.syncTicks = syncTicks;
+		modified();
 		return this;
 	}
 
@@ -445,13 +477,24 @@ public class AxesDefaults extends Option<AxesDefaults> {
 
 	public AxesDefaults setTickSpacing(int tickSpacing) {
 		this.tickSpacing = tickSpacing;
+		modified();
 		return this;
 	}
 
 	@Override
 	public String getValue() {
-		String jsonString = JsonHelper.toJsonString(this);
-		return (jsonString.contains(",") ? jsonString : null);
+		StringBuilder value = new StringBuilder();
+		writeTo(value);
+		return (value.length() > 0 ? value.toString() : null);
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		int length = value.length();
+		if (JsonHelper.writeJsonString(value, this)
+				&& value.indexOf(",", length) < 0) {
+			value.setLength(length);
+		}
 	}
 
 }
@@ -53,6 +53,7 @@ public class CanvasOverlay extends Option<CanvasOverlay> {
 
 	public CanvasOverlay setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -62,6 +63,7 @@ public class CanvasOverlay extends Option<CanvasOverlay> {
 
 	public CanvasOverlay setDeferDraw(boolean deferDraw) {
 		this.deferDraw = deferDraw;
+		modified();
 		return this;
 	}
 
@@ -71,38 +73,52 @@ public class CanvasOverlay extends Option<CanvasOverlay> {
 
 	public CanvasOverlay setObject(CanvasOverlayObject<?> object) {
 		this.objects.add(object);
+		modified();
 		return this;
 	}
 
 	@Override
 	public String getValue() {
 		StringBuilder value = new StringBuilder();
-		value.append(show != null ? "show: " + show + ", " : "");
-		value.append(deferDraw != null ? "deferDraw: " + deferDraw + ", " : "");
-		value.append("objects: [");
+		writeTo(value);
+		return value.toString();
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		value.append("{");
+		int start = value.length();
+		JsonHelper.writeField(value, start, "show", show);
+		JsonHelper.writeField(value, start, "deferDraw", deferDraw);
+		value.append(value.length() > start ? ", " : "");
+		value.append("\"objects\": [");
+		int length = value.length();
 		for (CanvasOverlayObject<?> object : this.objects) {
 			if (object != null) {
+				value.append(value.length() > length ? ", " : "");
+				value.append("{\"");
 				if (object instanceof DashedHorizontalLine) {
-					value.append("{"
-							+ CanvasOverlayObjects.DASHED_HORIZONTAL_LINE
-									.getObject());
+					value.append(CanvasOverlayObjects.DASHED_HORIZONTAL_LINE
+							.getObject());
 				} else if (object instanceof DashedVerticalLine) {
-					value.append("{"
-							+ CanvasOverlayObjects.DASHED_VERTICAL_LINE
-									.getObject());
+					value.append(CanvasOverlayObjects.DASHED_VERTICAL_LINE
+							.getObject());
 				} else if (object instanceof HorizontalLine) {
-					value.append("{"
-							+ CanvasOverlayObjects.HORIZONTAL_LINE.getObject());
+					value.append(CanvasOverlayObjects.HORIZONTAL_LINE
+							.getObject());
 				} else if (object instanceof Line) {
-					value.append("{" + CanvasOverlayObjects.LINE.getObject());
+					value.append(CanvasOverlayObjects.LINE.getObject());
 				} else if (object instanceof VerticalLine) {
-					value.append("{"
-							+ CanvasOverlayObjects.VERTICAL_LINE.getObject());
+					value.append(CanvasOverlayObjects.VERTICAL_LINE.getObject());
+				}
+				value.append("\": ");
+				if (!JsonHelper.writeJsonString(value, object)) {
+					value.append("null");
 				}
-				value.append(": " + JsonHelper.toJsonString(object) + "},");
+				value.append("}");
 			}
 		}
-		return "{" + value.substring(0, value.length() - 1) + "]}";
+		value.append("]}");
 	}
 
 }
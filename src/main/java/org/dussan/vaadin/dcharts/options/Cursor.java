@@ -24,36 +24,38 @@ import org.dussan.vaadin.dcharts.metadata.ConstrainZoomTo;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
 import org.dussan.vaadin.dcharts.metadata.styles.CursorStyles;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Cursor extends Option<Cursor> {
 
 	private static final long serialVersionUID = -1513551683522022L;
-	private CursorStyles style = null;
-	private Boolean show = null;
-	private Boolean showTooltip = null;
-	private Boolean followMouse = null;
-	private TooltipLocations tooltipLocation = null;
-	private Integer tooltipOffset = null;
-	private Boolean showTooltipGridPosition = null;
-	private Boolean showTooltipUnitPosition = null;
-	private Boolean showTooltipDataPosition = null;
-	private String tooltipFormatString = null;
-	private Boolean useAxesFormatters = null;
-	private Object tooltipAxisGroups = null;
-	private Boolean zoom = null;
-	private Boolean looseZoom = null;
-	private Boolean clickReset = null;
-	private Boolean dblClickReset = null;
-	private Boolean showVerticalLine = null;
-	private Boolean showHorizontalLine = null;
-	private ConstrainZoomTo constrainZoomTo = null;
-	private ShapeRenderer shapeRenderer = null;
-	private Integer intersectionThreshold = null;
-	private Boolean showCursorLegend = null;
-	private String cursorLegendFormatString = null;
-	private Boolean constrainOutsideZoom = null;
-	private Boolean showTooltipOutsideZoom = null;
-	private Boolean onGrid = null;
+	CursorStyles style = null;
+	Boolean show = null;
+	Boolean showTooltip = null;
+	Boolean followMouse = null;
+	TooltipLocations tooltipLocation = null;
+	Integer tooltipOffset = null;
+	Boolean showTooltipGridPosition = null;
+	Boolean showTooltipUnitPosition = null;
+	Boolean showTooltipDataPosition = null;
+	String tooltipFormatString = null;
+	Boolean useAxesFormatters = null;
+	Object tooltipAxisGroups = null;
+	Boolean zoom = null;
+	Boolean looseZoom = null;
+	Boolean clickReset = null;
+	Boolean dblClickReset = null;
+	Boolean showVerticalLine = null;
+	Boolean showHorizontalLine = null;
+	ConstrainZoomTo constrainZoomTo = null;
+	ShapeRenderer shapeRenderer = null;
+	Integer intersectionThreshold = null;
+	Boolean showCursorLegend = null;
+	String cursorLegendFormatString = null;
+	Boolean constrainOutsideZoom = null;
+	Boolean showTooltipOutsideZoom = null;
+	Boolean onGrid = null;
 
 	public Cursor() {
 		super(new DefaultCursor());
@@ -109,6 +111,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setStyle(CursorStyles cursorStyles) {
 		this.style = cursorStyles;
+		modified();
 		return this;
 	}
 
@@ -118,6 +121,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -127,6 +131,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowTooltip(boolean showTooltip) {
 		this.showTooltip = showTooltip;
+		modified();
 		return this;
 	}
 
@@ -136,6 +141,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setFollowMouse(boolean followMouse) {
 		this.followMouse = followMouse;
+		modified();
 		return this;
 	}
 
@@ -145,6 +151,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setTooltipLocation(TooltipLocations tooltipLocations) {
 		this.tooltipLocation = tooltipLocations;
+		modified();
 		return this;
 	}
 
@@ -154,6 +161,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setTooltipOffset(int tooltipOffset) {
 		this.tooltipOffset = tooltipOffset;
+		modified();
 		return this;
 	}
 
@@ -163,6 +171,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowTooltipGridPosition(boolean showTooltipGridPosition) {
 		this.showTooltipGridPosition = showTooltipGridPosition;
+		modified();
 		return this;
 	}
 
@@ -172,6 +181,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowTooltipUnitPosition(boolean showTooltipUnitPosition) {
 		this.showTooltipUnitPosition = showTooltipUnitPosition;
+		modified();
 		return this;
 	}
 
@@ -181,6 +191,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowTooltipDataPosition(boolean showTooltipDataPosition) {
 		this.showTooltipDataPosition = showTooltipDataPosition;
+		modified();
 		return this;
 	}
 
@@ -190,6 +201,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setTooltipFormatString(String tooltipFormatString) {
 		this.tooltipFormatString = tooltipFormatString;
+		modified();
 		return this;
 	}
 
@@ -199,6 +211,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setUseAxesFormatters(boolean useAxesFormatters) {
 		this.useAxesFormatters = useAxesFormatters;
+		modified();
 		return this;
 	}
 
@@ -209,6 +222,7 @@ public class Cursor extends Option<Cursor> {
 	public Cursor setTooltipAxisGroups(TooltipAxisGroups tooltipAxisGroups) {
 		this.tooltipAxisGroups = tooltipAxisGroups == null ? DefaultCursor.TOOLTIP_AXIS_GROUPS
 				: tooltipAxisGroups;
+		modified();
 		return this;
 	}
 
@@ -218,6 +232,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setZoom(boolean zoom) {
 		this.zoom = zoom;
+		modified();
 		return this;
 	}
 
@@ -227,6 +242,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setLooseZoom(boolean looseZoom) {
 		this.looseZoom = looseZoom;
+		modified();
 		return this;
 	}
 
@@ -236,6 +252,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setClickReset(boolean clickReset) {
 		this.clickReset = clickReset;
+		modified();
 		return this;
 	}
 
@@ -245,6 +262,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setDblClickReset(boolean dblClickReset) {
 		this.dblClickReset = dblClickReset;
+		modified();
 		return this;
 	}
 
@@ -254,6 +272,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowVerticalLine(boolean showVerticalLine) {
 		this.showVerticalLine = showVerticalLine;
+		modified();
 		return this;
 	}
 
@@ -263,6 +282,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowHorizontalLine(boolean showHorizontalLine) {
 		this.showHorizontalLine = showHorizontalLine;
+		modified();
 		return this;
 	}
 
@@ -272,6 +292,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setConstrainZoomTo(ConstrainZoomTo constrainZoomTo) {
 		this.constrainZoomTo = constrainZoomTo;
+		modified();
 		return this;
 	}
 
@@ -281,6 +302,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShapeRenderer(ShapeRenderer shapeRenderer) {
 		this.shapeRenderer = shapeRenderer;
+		modified();
 		return this;
 	}
 
@@ -290,6 +312,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setIntersectionThreshold(int intersectionThreshold) {
 		this.intersectionThreshold = intersectionThreshold;
+		modified();
 		return this;
 	}
 
@@ -299,6 +322,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowCursorLegend(boolean showCursorLegend) {
 		this.showCursorLegend = showCursorLegend;
+		modified();
 		return this;
 	}
 
@@ -308,6 +332,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setCursorLegendFormatString(String cursorLegendFormatString) {
 		this.cursorLegendFormatString = cursorLegendFormatString;
+		modified();
 		return this;
 	}
 
@@ -317,6 +342,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setConstrainOutsideZoom(boolean constrainOutsideZoom) {
 		this.constrainOutsideZoom = constrainOutsideZoom;
+		modified();
 		return this;
 	}
 
@@ -326,6 +352,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setShowTooltipOutsideZoom(boolean showTooltipOutsideZoom) {
 		this.showTooltipOutsideZoom = showTooltipOutsideZoom;
+		modified();
 		return this;
 	}
 
@@ -335,6 +362,7 @@ public class Cursor extends Option<Cursor> {
 
 	public Cursor setOnGrid(boolean onGrid) {
 		this.onGrid = onGrid;
+		modified();
 		return this;
 	}
 
@@ -343,4 +371,9 @@ public class Cursor extends Option<Cursor> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
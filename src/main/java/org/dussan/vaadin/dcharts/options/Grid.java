@@ -20,28 +20,30 @@ import org.dussan.vaadin.dcharts.base.renderers.GridRenderer;
 import org.dussan.vaadin.dcharts.defaults.DefaultGrid;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.renderers.GridRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.grid.CanvasGridRenderer;
 import org.dussan.vaadin.dcharts.renderers.grid.PyramidGridRenderer;
 
+@JsonSerializable
 public class Grid extends Option<Grid> {
 
 	private static final long serialVersionUID = 6861879150602910337L;
-	private Boolean drawGridlines = null;
-	private String gridLineColor = null;
-	private Float gridLineWidth = null;
-	private String background = null;
-	private String borderColor = null;
-	private Float borderWidth = null;
-	private Boolean drawBorder = null;
-	private Boolean shadow = null;
-	private Integer shadowAngle = null;
-	private Float shadowOffset = null;
-	private Integer shadowWidth = null;
-	private Integer shadowDepth = null;
-	private String shadowColor = null;
-	private Float shadowAlpha = null;
-	private GridRenderers renderer = null;
-	private GridRenderer<?> rendererOptions = null;
+	Boolean drawGridlines = null;
+	String gridLineColor = null;
+	Float gridLineWidth = null;
+	String background = null;
+	String borderColor = null;
+	Float borderWidth = null;
+	Boolean drawBorder = null;
+	Boolean shadow = null;
+	Integer shadowAngle = null;
+	Float shadowOffset = null;
+	Integer shadowWidth = null;
+	Integer shadowDepth = null;
+	String shadowColor = null;
+	Float shadowAlpha = null;
+	GridRenderers renderer = null;
+	GridRenderer<?> rendererOptions = null;
 
 	public Grid() {
 		super(new DefaultGrid());
@@ -83,6 +85,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setDrawGridlines(boolean drawGridlines) {
 		this.drawGridlines = drawGridlines;
+		modified();
 		return this;
 	}
 
@@ -92,6 +95,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setGridLineColor(String gridLineColor) {
 		this.gridLineColor = gridLineColor;
+		modified();
 		return this;
 	}
 
@@ -101,6 +105,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setGridLineWidth(float gridLineWidth) {
 		this.gridLineWidth = gridLineWidth;
+		modified();
 		return this;
 	}
 
@@ -110,6 +115,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setBackground(String background) {
 		this.background = background;
+		modified();
 		return this;
 	}
 
@@ -119,6 +125,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setBorderColor(String borderColor) {
 		this.borderColor = borderColor;
+		modified();
 		return this;
 	}
 
@@ -128,6 +135,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setBorderWidth(float borderWidth) {
 		this.borderWidth = borderWidth;
+		modified();
 		return this;
 	}
 
@@ -137,6 +145,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setDrawBorder(boolean drawBorder) {
 		this.drawBorder = drawBorder;
+		modified();
 		return this;
 	}
 
@@ -146,6 +155,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return this;
 	}
 
@@ -155,6 +165,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return this;
 	}
 
@@ -164,6 +175,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowOffset(float shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -173,6 +185,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowWidth(int shadowWidth) {
 		this.shadowWidth = shadowWidth;
+		modified();
 		return this;
 	}
 
@@ -182,6 +195,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -191,6 +205,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowColor(String shadowColor) {
 		this.shadowColor = shadowColor;
+		modified();
 		return this;
 	}
 
@@ -200,6 +215,7 @@ public class Grid extends Option<Grid> {
 
 	public Grid setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -212,6 +228,7 @@ public class Grid extends Option<Grid> {
 			rendererOptions = DefaultGrid.RENDERER_OPTIONS;
 		}
 		this.renderer = gridRenderers;
+		modified();
 		return this;
 	}
 
@@ -226,6 +243,7 @@ public class Grid extends Option<Grid> {
 			setRenderer(GridRenderers.PYRAMID);
 		}
 		this.rendererOptions = gridRenderer;
+		modified();
 		return this;
 	}
 
@@ -234,4 +252,9 @@ public class Grid extends Option<Grid> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -23,32 +23,34 @@ import org.dussan.vaadin.dcharts.metadata.TooltipAxes;
 import org.dussan.vaadin.dcharts.metadata.TooltipFadeSpeeds;
 import org.dussan.vaadin.dcharts.metadata.TooltipMoveSpeeds;
 import org.dussan.vaadin.dcharts.metadata.locations.TooltipLocations;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Highlighter extends Option<Highlighter> {
 
 	private static final long serialVersionUID = 8085712463377681548L;
-	private Boolean show = null;
-	private MarkerRenderer markerRenderer = null;
-	private Boolean showMarker = null;
-	private Float lineWidthAdjust = null;
-	private Integer sizeAdjust = null;
-	private Boolean showTooltip = null;
-	private Boolean keepTooltipInsideChart = null;
-	private Boolean tooltipAlwaysVisible = null;
-	private Object tooltipMoveSpeed = null;
-	private TooltipLocations tooltipLocation = null;
-	private Boolean fadeTooltip = null;
-	private Object tooltipFadeSpeed = null;
-	private Integer tooltipOffset = null;
-	private TooltipAxes tooltipAxes = null;
-	private String tooltipSeparator = null;
+	Boolean show = null;
+	MarkerRenderer markerRenderer = null;
+	Boolean showMarker = null;
+	Float lineWidthAdjust = null;
+	Integer sizeAdjust = null;
+	Boolean showTooltip = null;
+	Boolean keepTooltipInsideChart = null;
+	Boolean tooltipAlwaysVisible = null;
+	Object tooltipMoveSpeed = null;
+	TooltipLocations tooltipLocation = null;
+	Boolean fadeTooltip = null;
+	Object tooltipFadeSpeed = null;
+	Integer tooltipOffset = null;
+	TooltipAxes tooltipAxes = null;
+	String tooltipSeparator = null;
 	// TODO: to be done
-	private String tooltipContentEditor = null;
-	private Boolean useAxesFormatters = null;
-	private String tooltipFormatString = null;
-	private String formatString = null;
-	private Integer yvalues = null;
-	private Boolean bringSeriesToFront = null;
+	String tooltipContentEditor = null;
+	Boolean useAxesFormatters = null;
+	String tooltipFormatString = null;
+	String formatString = null;
+	Integer yvalues = null;
+	Boolean bringSeriesToFront = null;
 
 	public Highlighter() {
 		super(new DefaultHighlighter());
@@ -194,6 +196,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -203,6 +206,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setMarkerRenderer(MarkerRenderer markerRenderer) {
 		this.markerRenderer = markerRenderer;
+		modified();
 		return this;
 	}
 
@@ -212,6 +216,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setShowMarker(boolean showMarker) {
 		this.showMarker = showMarker;
+		modified();
 		return this;
 	}
 
@@ -221,6 +226,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setLineWidthAdjust(float lineWidthAdjust) {
 		this.lineWidthAdjust = lineWidthAdjust;
+		modified();
 		return this;
 	}
 
@@ -230,6 +236,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setSizeAdjust(int sizeAdjust) {
 		this.sizeAdjust = sizeAdjust;
+		modified();
 		return this;
 	}
 
@@ -239,6 +246,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setShowTooltip(boolean showTooltip) {
 		this.showTooltip = showTooltip;
+		modified();
 		return this;
 	}
 
@@ -248,6 +256,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setKeepTooltipInsideChart(boolean keepTooltipInsideChart) {
 		this.keepTooltipInsideChart = keepTooltipInsideChart;
+		modified();
 		return this;
 	}
 
@@ -257,6 +266,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipAlwaysVisible(boolean tooltipAlwaysVisible) {
 		this.tooltipAlwaysVisible = tooltipAlwaysVisible;
+		modified();
 		return this;
 	}
 
@@ -267,11 +277,13 @@ public class Highlighter extends Option<Highlighter> {
 	public Highlighter setTooltipMoveSpeed(int tooltipMoveSpeed) {
 		this.tooltipMoveSpeed = tooltipMoveSpeed < 0 ? DefaultHighlighter.TOOLTIP_MOVE_SPEED
 				: Integer.valueOf(tooltipMoveSpeed);
+		modified();
 		return this;
 	}
 
 	public Highlighter setTooltipMoveSpeed(TooltipMoveSpeeds tooltipMoveSpeed) {
 		this.tooltipMoveSpeed = tooltipMoveSpeed;
+		modified();
 		return this;
 	}
 
@@ -281,6 +293,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipLocation(TooltipLocations tooltipLocation) {
 		this.tooltipLocation = tooltipLocation;
+		modified();
 		return this;
 	}
 
@@ -290,6 +303,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setFadeTooltip(boolean fadeTooltip) {
 		this.fadeTooltip = fadeTooltip;
+		modified();
 		return this;
 	}
 
@@ -300,11 +314,13 @@ public class Highlighter extends Option<Highlighter> {
 	public Highlighter setTooltipFadeSpeed(int tooltipFadeSpeed) {
 		this.tooltipFadeSpeed = Integer.valueOf(tooltipFadeSpeed < 0 ? 50
 				: tooltipFadeSpeed);
+		modified();
 		return this;
 	}
 
 	public Highlighter setTooltipFadeSpeed(TooltipFadeSpeeds tooltipFadeSpeeds) {
 		this.tooltipFadeSpeed = tooltipFadeSpeeds;
+		modified();
 		return this;
 	}
 
@@ -314,6 +330,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipOffset(int tooltipOffset) {
 		this.tooltipOffset = tooltipOffset;
+		modified();
 		return this;
 	}
 
@@ -323,6 +340,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipAxes(TooltipAxes tooltipAxes) {
 		this.tooltipAxes = tooltipAxes;
+		modified();
 		return this;
 	}
 
@@ -332,6 +350,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipSeparator(String tooltipSeparator) {
 		this.tooltipSeparator = tooltipSeparator;
+		modified();
 		return this;
 	}
 
@@ -341,6 +360,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipContentEditor(String tooltipContentEditor) {
 		this.tooltipContentEditor = tooltipContentEditor;
+		modified();
 		return this;
 	}
 
@@ -350,6 +370,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setUseAxesFormatters(boolean useAxesFormatters) {
 		this.useAxesFormatters = useAxesFormatters;
+		modified();
 		return this;
 	}
 
@@ -359,6 +380,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setTooltipFormatString(String tooltipFormatString) {
 		this.tooltipFormatString = tooltipFormatString;
+		modified();
 		return this;
 	}
 
@@ -368,6 +390,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setFormatString(String formatString) {
 		this.formatString = formatString;
+		modified();
 		return this;
 	}
 
@@ -377,6 +400,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setYvalues(int yvalues) {
 		this.yvalues = yvalues;
+		modified();
 		return this;
 	}
 
@@ -386,6 +410,7 @@ public class Highlighter extends Option<Highlighter> {
 
 	public Highlighter setBringSeriesToFront(boolean bringSeriesToFront) {
 		this.bringSeriesToFront = bringSeriesToFront;
+		modified();
 		return this;
 	}
 
@@ -394,4 +419,9 @@ public class Highlighter extends Option<Highlighter> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -22,31 +22,33 @@ import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.LegendPlacements;
 import org.dussan.vaadin.dcharts.metadata.locations.LegendLocations;
 import org.dussan.vaadin.dcharts.metadata.renderers.LegendRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.legend.EnhancedLegendRenderer;
 
+@JsonSerializable
 public class Legend extends Option<Legend> {
 
 	private static final long serialVersionUID = -7371728655049614842L;
-	private Boolean show = null;
-	private LegendLocations location = null;
-	private String[] labels = null;
-	private Boolean showLabels = null;
-	private Boolean showSwatches = null;
-	private LegendPlacements placement = null;
-	private String border = null;
-	private String background = null;
-	private String textColor = null;
-	private String fontFamily = null;
-	private String fontSize = null;
-	private String rowSpacing = null;
-	private LegendRenderers renderer = null;
-	private LegendRenderer<?> rendererOptions = null;
-	private Boolean preDraw = null;
-	private String marginTop = null;
-	private String marginRight = null;
-	private String marginBottom = null;
-	private String marginLeft = null;
-	private Boolean escapeHtml = null;
+	Boolean show = null;
+	LegendLocations location = null;
+	String[] labels = null;
+	Boolean showLabels = null;
+	Boolean showSwatches = null;
+	LegendPlacements placement = null;
+	String border = null;
+	String background = null;
+	String textColor = null;
+	String fontFamily = null;
+	String fontSize = null;
+	String rowSpacing = null;
+	LegendRenderers renderer = null;
+	LegendRenderer<?> rendererOptions = null;
+	Boolean preDraw = null;
+	String marginTop = null;
+	String marginRight = null;
+	String marginBottom = null;
+	String marginLeft = null;
+	Boolean escapeHtml = null;
 
 	public Legend() {
 		super(new DefaultLegend());
@@ -89,6 +91,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -98,6 +101,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setLocation(LegendLocations location) {
 		this.location = location;
+		modified();
 		return this;
 	}
 
@@ -107,6 +111,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setLabels(String... labels) {
 		this.labels = labels;
+		modified();
 		return this;
 	}
 
@@ -116,6 +121,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setShowLabels(boolean showLabels) {
 		this.showLabels = showLabels;
+		modified();
 		return this;
 	}
 
@@ -125,6 +131,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setShowSwatches(boolean showSwatches) {
 		this.showSwatches = showSwatches;
+		modified();
 		return this;
 	}
 
@@ -134,6 +141,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setPlacement(LegendPlacements legendPlacements) {
 		this.placement = legendPlacements;
+		modified();
 		return this;
 	}
 
@@ -143,6 +151,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setBorder(String border) {
 		this.border = border;
+		modified();
 		return this;
 	}
 
@@ -152,6 +161,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setBackground(String background) {
 		this.background = background;
+		modified();
 		return this;
 	}
 
@@ -161,6 +171,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setTextColor(String textColor) {
 		this.textColor = textColor;
+		modified();
 		return this;
 	}
 
@@ -170,6 +181,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setFontFamily(String fontFamily) {
 		this.fontFamily = fontFamily;
+		modified();
 		return this;
 	}
 
@@ -179,6 +191,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setFontSize(String fontSize) {
 		this.fontSize = fontSize;
+		modified();
 		return this;
 	}
 
@@ -188,6 +201,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setRowSpacing(String rowSpacing) {
 		this.rowSpacing = rowSpacing;
+		modified();
 		return this;
 	}
 
@@ -200,6 +214,7 @@ public class Legend extends Option<Legend> {
 			this.rendererOptions = DefaultLegend.RENDERER_OPTIONS;
 		}
 		this.renderer = legendRenderers;
+		modified();
 		return this;
 	}
 
@@ -212,6 +227,7 @@ public class Legend extends Option<Legend> {
 			setRenderer(LegendRenderers.ENHANCED);
 		}
 		this.rendererOptions = legendRenderer;
+		modified();
 		return this;
 	}
 
@@ -221,6 +237,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setPreDraw(boolean preDraw) {
 		this.preDraw = preDraw;
+		modified();
 		return this;
 	}
 
@@ -230,6 +247,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setMarginTop(String marginTop) {
 		this.marginTop = marginTop;
+		modified();
 		return this;
 	}
 
@@ -239,6 +257,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setMarginRight(String marginRight) {
 		this.marginRight = marginRight;
+		modified();
 		return this;
 	}
 
@@ -248,6 +267,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setMarginBottom(String marginBottom) {
 		this.marginBottom = marginBottom;
+		modified();
 		return this;
 	}
 
@@ -257,6 +277,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setMarginLeft(String marginLeft) {
 		this.marginLeft = marginLeft;
+		modified();
 		return this;
 	}
 
@@ -266,6 +287,7 @@ public class Legend extends Option<Legend> {
 
 	public Legend setEscapeHtml(boolean escapeHtml) {
 		this.escapeHtml = escapeHtml;
+		modified();
 		return this;
 	}
 
@@ -277,4 +299,12 @@ public class Legend extends Option<Legend> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		if (LegendRenderers.TABLE.equals(renderer)) {
+			rendererOptions = DefaultLegend.RENDERER_OPTIONS;
+		}
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -57,6 +57,8 @@ public class Options extends Option<Options> {
 		options = new HashMap<String, Option<?>>();
 	}
 
+	// pyramid renderer needs pyramid renderers for axes and grid too, user
+	// options are changed in place
 	private void checkOptionsForPyramidRenderer() {
 		if ((options.containsKey("series") && getSeries()
 				.seriesContainsPyramidRenderer())
@@ -64,54 +66,45 @@ public class Options extends Option<Options> {
 						.seriesContainsPyramidRenderer())) {
 			if (options.containsKey("seriesDefaults")
 					&& !getSeriesDefaults().seriesContainsPyramidRenderer()) {
-				SeriesDefaults seriesDefaults = getSeriesDefaults();
-				seriesDefaults.setRendererOptions(new PyramidRenderer());
-				addOption(seriesDefaults);
+				getSeriesDefaults().setRendererOptions(new PyramidRenderer());
 			}
 
 			if (options.containsKey("series")) {
-				Series series = new Series();
 				for (XYseries xySeries : getSeries().getSeries()) {
 					if (!SeriesRenderers.PYRAMID.equals(xySeries.getRenderer())) {
 						xySeries.setRendererOptions(new PyramidRenderer());
 					}
-					series.addSeries(xySeries);
 				}
-				setSeries(series);
 			}
 
 			if (options.containsKey("axesDefaults")) {
 				if (!AxisRenderers.PYRAMID.equals(getAxesDefaults()
 						.getRenderer())) {
-					AxesDefaults axesDefaults = getAxesDefaults();
-					axesDefaults.setRendererOptions(new PyramidAxisRenderer());
-					addOption(axesDefaults);
+					getAxesDefaults().setRendererOptions(
+							new PyramidAxisRenderer());
 				}
 			} else {
-				addOption(new AxesDefaults()
-						.setRendererOptions(new PyramidAxisRenderer()));
+				AxesDefaults axesDefaults = new AxesDefaults()
+						.setRendererOptions(new PyramidAxisRenderer());
+				options.put(axesDefaults.getName(), axesDefaults);
 			}
 
 			if (options.containsKey("axes")) {
-				Axes axes = new Axes();
 				for (XYaxis xyAxis : getAxes().getAxes()) {
 					if (!AxisRenderers.PYRAMID.equals(xyAxis.getRenderer())) {
 						xyAxis.setRendererOptions(new PyramidAxisRenderer());
 					}
-					axes.addAxis(xyAxis);
 				}
-				setAxes(axes);
 			}
 
 			if (options.containsKey("grid")) {
 				if (!GridRenderers.PYRAMID.equals(getGrid().getRenderer())) {
-					Grid grid = getGrid();
-					grid.setRendererOptions(new PyramidGridRenderer());
-					addOption(grid);
+					getGrid().setRendererOptions(new PyramidGridRenderer());
 				}
 			} else {
-				addOption(new Grid()
-						.setRendererOptions(new PyramidGridRenderer()));
+				Grid grid = new Grid()
+						.setRendererOptions(new PyramidGridRenderer());
+				options.put(grid.getName(), grid);
 			}
 		}
 	}
@@ -122,6 +115,7 @@ public class Options extends Option<Options> {
 
 	public Options setAnimate(boolean animate) {
 		this.animate = animate;
+		modified();
 		return this;
 	}
 
@@ -131,6 +125,7 @@ public class Options extends Option<Options> {
 
 	public Options setAnimateReplot(boolean animateReplot) {
 		this.animateReplot = animateReplot;
+		modified();
 		return this;
 	}
 
@@ -140,6 +135,7 @@ public class Options extends Option<Options> {
 
 	public Options setCaptureRightClick(boolean captureRightClick) {
 		this.captureRightClick = captureRightClick;
+		modified();
 		return this;
 	}
 
@@ -149,6 +145,7 @@ public class Options extends Option<Options> {
 
 	public Options setDefaultAxisStart(int defaultAxisStart) {
 		this.defaultAxisStart = defaultAxisStart;
+		modified();
 		return this;
 	}
 
@@ -158,6 +155,7 @@ public class Options extends Option<Options> {
 
 	public Options setDrawIfHidden(boolean drawIfHidden) {
 		this.drawIfHidden = drawIfHidden;
+		modified();
 		return this;
 	}
 
@@ -167,6 +165,7 @@ public class Options extends Option<Options> {
 
 	public Options setFontFamily(String fontFamily) {
 		this.fontFamily = fontFamily;
+		modified();
 		return this;
 	}
 
@@ -176,6 +175,7 @@ public class Options extends Option<Options> {
 
 	public Options setFontSize(String fontSize) {
 		this.fontSize = fontSize;
+		modified();
 		return this;
 	}
 
@@ -185,6 +185,7 @@ public class Options extends Option<Options> {
 
 	public Options setNegativeSeriesColors(String... negativeSeriesColors) {
 		this.negativeSeriesColors = negativeSeriesColors;
+		modified();
 		return this;
 	}
 
@@ -194,6 +195,7 @@ public class Options extends Option<Options> {
 
 	public Options setSeriesColors(String... seriesColors) {
 		this.seriesColors = seriesColors;
+		modified();
 		return this;
 	}
 
@@ -203,6 +205,7 @@ public class Options extends Option<Options> {
 
 	public Options setSortData(boolean sortData) {
 		this.sortData = sortData;
+		modified();
 		return this;
 	}
 
@@ -212,6 +215,7 @@ public class Options extends Option<Options> {
 
 	public Options setStackSeries(boolean stackSeries) {
 		this.stackSeries = stackSeries;
+		modified();
 		return this;
 	}
 
@@ -221,6 +225,7 @@ public class Options extends Option<Options> {
 
 	public Options setSyncXTicks(boolean syncXTicks) {
 		this.syncXTicks = syncXTicks;
+		modified();
 		return this;
 	}
 
@@ -230,6 +235,7 @@ public class Options extends Option<Options> {
 
 	public Options setSyncYTicks(boolean syncYTicks) {
 		this.syncYTicks = syncYTicks;
+		modified();
 		return this;
 	}
 
@@ -239,6 +245,7 @@ public class Options extends Option<Options> {
 
 	public Options setTarget(String target) {
 		this.target = target;
+		modified();
 		return this;
 	}
 
@@ -248,6 +255,7 @@ public class Options extends Option<Options> {
 
 	public Options setTargetId(String targetId) {
 		this.targetId = targetId;
+		modified();
 		return this;
 	}
 
@@ -257,6 +265,7 @@ public class Options extends Option<Options> {
 
 	public Options setTextColor(String textColor) {
 		this.textColor = textColor;
+		modified();
 		return this;
 	}
 
@@ -270,6 +279,8 @@ public class Options extends Option<Options> {
 
 	public Options addOption(Option<?> option) {
 		options.put(option.getName(), option);
+		checkOptionsForPyramidRenderer();
+		modified();
 		return this;
 	}
 
@@ -365,6 +376,7 @@ public class Options extends Option<Options> {
 		}
 		tempTitle.setText(title);
 		addOption(tempTitle);
+		modified();
 		return this;
 	}
 
@@ -375,6 +387,11 @@ public class Options extends Option<Options> {
 
 	@Override
 	public String getValue() {
+		return getCachedValue();
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
 		// preparing variables
 		Map<String, Object> tempValues = new HashMap<String, Object>();
 		tempValues.put("animate", animate);
@@ -384,10 +401,8 @@ public class Options extends Option<Options> {
 		tempValues.put("drawIfHidden", drawIfHidden);
 		tempValues.put("fontFamily", fontFamily);
 		tempValues.put("fontSize", fontSize);
-		tempValues.put("negativeSeriesColors",
-				ObjectHelper.toArrayString((Object[]) negativeSeriesColors));
-		tempValues.put("seriesColors",
-				ObjectHelper.toArrayString((Object[]) seriesColors));
+		tempValues.put("negativeSeriesColors", negativeSeriesColors);
+		tempValues.put("seriesColors", seriesColors);
 		tempValues.put("sortData", sortData);
 		tempValues.put("stackSeries", stackSeries);
 		tempValues.put("syncXTicks", syncXTicks);
@@ -396,43 +411,43 @@ public class Options extends Option<Options> {
 		tempValues.put("targetId", targetId);
 		tempValues.put("textColor", textColor);
 
-		// if using pyramid renderer then have to activate/load
-		// pyramid renderer for axes and grid
-		checkOptionsForPyramidRenderer();
-
-		// preparing option objects
-		StringBuilder options = new StringBuilder();
-		for (Entry<String, Option<?>> entry : this.options.entrySet()) {
-			String name = entry.getKey();
-			String tempValue = entry.getValue().getValue();
-			if (tempValue != null) {
-				options.append(options.length() > 0 ? ", " : "");
-				options.append(name + ": ");
-				options.append(tempValue);
-			}
-		}
+		value.append("{");
+		int start = value.length();
 
 		// adding variables
-		StringBuilder value = new StringBuilder();
 		for (Entry<String, Object> entry : tempValues.entrySet()) {
 			String name = entry.getKey();
 			Object tempValue = entry.getValue();
 			if (tempValue != null) {
-				value.append(value.length() > 0 ? ", " : "");
-				value.append(name + ": ");
-				value.append(ObjectHelper.isString(tempValue) ? "\"" : "");
-				value.append(tempValue);
-				value.append(ObjectHelper.isString(tempValue) ? "\"" : "");
+				int mark = value.length();
+				value.append(value.length() > start ? ", " : "");
+				value.append("\"").append(name).append("\": ");
+				if (ObjectHelper.isArray(tempValue)) {
+					if (!ObjectHelper.writeArrayString(value,
+							(Object[]) tempValue)) {
+						value.setLength(mark);
+					}
+				} else {
+					ObjectHelper.writeValue(value, tempValue);
+				}
 			}
 		}
 
 		// adding option objects
-		if (options.length() > 0) {
-			value.append(value.length() > 0 ? ", " : "");
-			value.append(options);
+		for (Entry<String, Option<?>> entry : this.options.entrySet()) {
+			int mark = value.length();
+			value.append(value.length() > start ? ", " : "");
+			value.append("\"").append(entry.getKey()).append("\": ");
+			// cached, so option objects report their changes to the options
+			String tempValue = entry.getValue().getCachedValue();
+			if (tempValue.length() > 0) {
+				value.append(tempValue);
+			} else {
+				value.setLength(mark);
+			}
 		}
 
-		return value.insert(0, "{").append("}").toString();
+		value.append("}");
 	}
 
 }
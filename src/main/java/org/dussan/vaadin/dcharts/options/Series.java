@@ -16,10 +16,12 @@
 package org.dussan.vaadin.dcharts.options;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.dussan.vaadin.dcharts.base.elements.Option;
 import org.dussan.vaadin.dcharts.base.elements.XYseries;
+import org.dussan.vaadin.dcharts.helpers.ObjectHelper;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.renderers.SeriesRenderers;
 
@@ -33,7 +35,8 @@ public class Series extends Option<Series> {
 	}
 
 	public List<XYseries> getSeries() {
-		return series;
+		// changes go through add, so the cached value is invalidated
+		return Collections.unmodifiableList(series);
 	}
 
 	public XYseries getSeries(XYaxes xAxis, XYaxes yAxis) {
@@ -47,6 +50,7 @@ public class Series extends Option<Series> {
 
 	public Series addSeries(XYseries series) {
 		this.series.add(series);
+		modified();
 		return this;
 	}
 
@@ -62,15 +66,26 @@ public class Series extends Option<Series> {
 	@Override
 	public String getValue() {
 		StringBuilder value = new StringBuilder();
+		writeTo(value);
+		return (value.length() > 0 ? value.toString() : null);
+	}
+
+	@Override
+	public void writeTo(StringBuilder value) {
+		int length = value.length();
+		value.append("[");
 		for (XYseries series : this.series) {
 			if (series != null) {
-				value.append(value.length() > 0 ? "," : "");
-				value.append(series.getValue());
+				value.append(value.length() > length + 1 ? "," : "");
+				ObjectHelper.writeValue(value, series);
 			}
 		}
 
-		return (value.length() > 0 ? value.insert(0, "[").append("]")
-				.toString() : null);
+		if (value.length() > length + 1) {
+			value.append("]");
+		} else {
+			value.setLength(length);
+		}
 	}
 
 }
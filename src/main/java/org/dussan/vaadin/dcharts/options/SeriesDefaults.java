@@ -32,6 +32,7 @@ import org.dussan.vaadin.dcharts.metadata.lines.LineJoins;
 import org.dussan.vaadin.dcharts.metadata.lines.LinePatterns;
 import org.dussan.vaadin.dcharts.metadata.renderers.MarkerRenderers;
 import org.dussan.vaadin.dcharts.metadata.renderers.SeriesRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.series.BarRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.BubbleRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.DonutRenderer;
@@ -40,46 +41,47 @@ import org.dussan.vaadin.dcharts.renderers.series.MeterGaugeRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.PieRenderer;
 import org.dussan.vaadin.dcharts.renderers.series.PyramidRenderer;
 
+@JsonSerializable
 public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	private static final long serialVersionUID = -1376522709943323624L;
-	private Boolean show = null;
-	private Xaxes xaxis = null;
-	private Yaxes yaxis = null;
-	private Float gridBorderWidth = null;
-	private SeriesRenderers renderer = null;
-	private SeriesRenderer<?> rendererOptions = null;
-	private String label = null;
-	private Boolean showLabel = null;
-	private String color = null;
-	private String negativeColor = null;
-	private Float lineWidth = null;
-	private LineJoins lineJoin = null;
-	private LineCaps lineCap = null;
-	private Object linePattern = null;
-	private Boolean shadow = null;
-	private Integer shadowAngle = null;
-	private Float shadowOffset = null;
-	private Integer shadowDepth = null;
-	private Float shadowAlpha = null;
-	private Boolean breakOnNull = null;
-	private MarkerRenderers markerRenderer = null;
-	private MarkerRenderer markerOptions = null;
-	private Boolean showLine = null;
-	private Boolean showMarker = null;
-	private Integer index = null;
-	private Boolean fill = null;
-	private String fillColor = null;
-	private String fillAlpha = null;
-	private Boolean fillAndStroke = null;
-	private Boolean disableStack = null;
-	private Integer neighborThreshold = null;
-	private Boolean fillToZero = null;
-	private Integer fillToValue = null;
-	private FillAxes fillAxis = null;
-	private Boolean useNegativeColors = null;
-	private PointLabels pointLabels = null;
-	private Trendline trendline = null;
+	Boolean show = null;
+	Xaxes xaxis = null;
+	Yaxes yaxis = null;
+	Float gridBorderWidth = null;
+	SeriesRenderers renderer = null;
+	SeriesRenderer<?> rendererOptions = null;
+	String label = null;
+	Boolean showLabel = null;
+	String color = null;
+	String negativeColor = null;
+	Float lineWidth = null;
+	LineJoins lineJoin = null;
+	LineCaps lineCap = null;
+	Object linePattern = null;
+	Boolean shadow = null;
+	Integer shadowAngle = null;
+	Float shadowOffset = null;
+	Integer shadowDepth = null;
+	Float shadowAlpha = null;
+	Boolean breakOnNull = null;
+	MarkerRenderers markerRenderer = null;
+	MarkerRenderer markerOptions = null;
+	Boolean showLine = null;
+	Boolean showMarker = null;
+	Integer index = null;
+	Boolean fill = null;
+	String fillColor = null;
+	String fillAlpha = null;
+	Boolean fillAndStroke = null;
+	Boolean disableStack = null;
+	Integer neighborThreshold = null;
+	Boolean fillToZero = null;
+	Integer fillToValue = null;
+	FillAxes fillAxis = null;
+	Boolean useNegativeColors = null;
+	PointLabels pointLabels = null;
+	Trendline trendline = null;
 
 	public SeriesDefaults() {
 		super(new DefaultSeriesDefaults());
@@ -257,6 +259,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -266,6 +269,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setXaxis(Xaxes xaxes) {
 		this.xaxis = xaxes;
+		modified();
 		return this;
 	}
 
@@ -275,6 +279,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setYaxis(Yaxes yaxes) {
 		this.yaxis = yaxes;
+		modified();
 		return this;
 	}
 
@@ -284,6 +289,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setGridBorderWidth(float gridBorderWidth) {
 		this.gridBorderWidth = gridBorderWidth;
+		modified();
 		return this;
 	}
 
@@ -296,6 +302,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 			rendererOptions = DefaultXYseries.RENDERER_OPTIONS;
 		}
 		this.renderer = seriesRenderers;
+		modified();
 		return this;
 	}
 
@@ -320,6 +327,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 			setRenderer(SeriesRenderers.PYRAMID);
 		}
 		this.rendererOptions = seriesRenderer;
+		modified();
 		return this;
 	}
 
@@ -329,6 +337,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -338,6 +347,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -347,6 +357,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setColor(String color) {
 		this.color = color;
+		modified();
 		return this;
 	}
 
@@ -356,6 +367,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setNegativeColor(String negativeColor) {
 		this.negativeColor = negativeColor;
+		modified();
 		return this;
 	}
 
@@ -365,6 +377,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -374,6 +387,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setLineJoin(LineJoins lineJoin) {
 		this.lineJoin = lineJoin;
+		modified();
 		return this;
 	}
 
@@ -383,6 +397,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setLineCap(LineCaps lineCap) {
 		this.lineCap = lineCap;
+		modified();
 		return this;
 	}
 
@@ -392,16 +407,19 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setLinePattern(LinePatterns linePattern) {
 		this.linePattern = linePattern;
+		modified();
 		return this;
 	}
 
 	public SeriesDefaults setLinePattern(String linePattern) {
 		this.linePattern = linePattern;
+		modified();
 		return this;
 	}
 
 	public SeriesDefaults setLinePattern(int... linePattern) {
 		this.linePattern = ArrayUtils.toObject(linePattern);
+		modified();
 		return this;
 	}
 
@@ -411,6 +429,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShadow(boolean shadow) {
 		this.shadow = shadow;
+		modified();
 		return this;
 	}
 
@@ -420,6 +439,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShadowAngle(int shadowAngle) {
 		this.shadowAngle = shadowAngle;
+		modified();
 		return this;
 	}
 
@@ -429,6 +449,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShadowOffset(float shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -438,6 +459,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -447,6 +469,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -456,6 +479,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setBreakOnNull(boolean breakOnNull) {
 		this.breakOnNull = breakOnNull;
+		modified();
 		return this;
 	}
 
@@ -465,6 +489,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setMarkerRenderer(MarkerRenderers markerRenderers) {
 		this.markerRenderer = markerRenderers;
+		modified();
 		return this;
 	}
 
@@ -474,6 +499,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setMarkerOptions(MarkerRenderer markerRenderer) {
 		this.markerOptions = markerRenderer;
+		modified();
 		return this;
 	}
 
@@ -483,6 +509,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShowLine(boolean showLine) {
 		this.showLine = showLine;
+		modified();
 		return this;
 	}
 
@@ -492,6 +519,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setShowMarker(boolean showMarker) {
 		this.showMarker = showMarker;
+		modified();
 		return this;
 	}
 
@@ -501,6 +529,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setIndex(int index) {
 		this.index = index;
+		modified();
 		return this;
 	}
 
@@ -510,6 +539,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -519,6 +549,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillColor(String fillColor) {
 		this.fillColor = fillColor;
+		modified();
 		return this;
 	}
 
@@ -528,6 +559,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillAlpha(String fillAlpha) {
 		this.fillAlpha = fillAlpha;
+		modified();
 		return this;
 	}
 
@@ -537,6 +569,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillAndStroke(boolean fillAndStroke) {
 		this.fillAndStroke = fillAndStroke;
+		modified();
 		return this;
 	}
 
@@ -546,6 +579,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setDisableStack(boolean disableStack) {
 		this.disableStack = disableStack;
+		modified();
 		return this;
 	}
 
@@ -555,6 +589,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setNeighborThreshold(int neighborThreshold) {
 		this.neighborThreshold = neighborThreshold;
+		modified();
 		return this;
 	}
 
@@ -564,6 +599,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillToZero(boolean fillToZero) {
 		this.fillToZero = fillToZero;
+		modified();
 		return this;
 	}
 
@@ -573,6 +609,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillToValue(int fillToValue) {
 		this.fillToValue = fillToValue;
+		modified();
 		return this;
 	}
 
@@ -582,6 +619,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setFillAxis(FillAxes fillAxis) {
 		this.fillAxis = fillAxis;
+		modified();
 		return this;
 	}
 
@@ -591,6 +629,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setUseNegativeColors(boolean useNegativeColors) {
 		this.useNegativeColors = useNegativeColors;
+		modified();
 		return this;
 	}
 
@@ -600,6 +639,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setPointLabels(PointLabels pointLabels) {
 		this.pointLabels = pointLabels;
+		modified();
 		return this;
 	}
 
@@ -609,6 +649,7 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 
 	public SeriesDefaults setTrendline(Trendline trendline) {
 		this.trendline = trendline;
+		modified();
 		return this;
 	}
 
@@ -624,4 +665,9 @@ public class SeriesDefaults extends Option<SeriesDefaults> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
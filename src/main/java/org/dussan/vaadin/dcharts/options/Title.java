@@ -20,19 +20,21 @@ import org.dussan.vaadin.dcharts.defaults.DefaultTitle;
 import org.dussan.vaadin.dcharts.helpers.JsonHelper;
 import org.dussan.vaadin.dcharts.metadata.TextAligns;
 import org.dussan.vaadin.dcharts.metadata.renderers.TitleRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class Title extends Option<Title> {
 
 	private static final long serialVersionUID = -8998312544602992463L;
-	private String text = null;
-	private Boolean show = null;
-	private String fontFamily = null;
-	private String fontSize = null;
-	private String textAlign = null;
-	private String textColor = null;
-	private TitleRenderers renderer = null;
-	private String rendererOptions = null;
-	private Boolean escapeHtml = null;
+	String text = null;
+	Boolean show = null;
+	String fontFamily = null;
+	String fontSize = null;
+	String textAlign = null;
+	String textColor = null;
+	TitleRenderers renderer = null;
+	String rendererOptions = null;
+	Boolean escapeHtml = null;
 
 	public Title() {
 		super(new DefaultTitle());
@@ -64,6 +66,7 @@ public class Title extends Option<Title> {
 
 	public Title setText(String text) {
 		this.text = text;
+		modified();
 		return this;
 	}
 
@@ -73,6 +76,7 @@ public class Title extends Option<Title> {
 
 	public Title setShow(boolean show) {
 		this.show = show;
+		modified();
 		return this;
 	}
 
@@ -82,6 +86,7 @@ public class Title extends Option<Title> {
 
 	public Title setFontFamily(String fontFamily) {
 		this.fontFamily = fontFamily;
+		modified();
 		return this;
 	}
 
@@ -91,6 +96,7 @@ public class Title extends Option<Title> {
 
 	public Title setFontSize(String fontSize) {
 		this.fontSize = fontSize;
+		modified();
 		return this;
 	}
 
@@ -100,6 +106,7 @@ public class Title extends Option<Title> {
 
 	public Title setTextAlign(TextAligns textAlign) {
 		this.textAlign = textAlign.getAlign();
+		modified();
 		return this;
 	}
 
@@ -109,6 +116,7 @@ public class Title extends Option<Title> {
 
 	public Title setTextColor(String textColor) {
 		this.textColor = textColor;
+		modified();
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class Title extends Option<Title> {
 			rendererOptions = DefaultTitle.RENDERER_OPTIONS;
 		}
 		this.renderer = renderer;
+		modified();
 		return this;
 	}
 
@@ -130,6 +139,7 @@ public class Title extends Option<Title> {
 
 	public Title setRendererOptions(String rendererOptions) {
 		this.rendererOptions = rendererOptions;
+		modified();
 		return this;
 	}
 
@@ -139,6 +149,7 @@ public class Title extends Option<Title> {
 
 	public Title setEscapeHtml(boolean escapeHtml) {
 		this.escapeHtml = escapeHtml;
+		modified();
 		return this;
 	}
 
@@ -147,4 +158,9 @@ public class Title extends Option<Title> {
 		return JsonHelper.toJsonString(this);
 	}
 
+	@Override
+	public void writeTo(StringBuilder value) {
+		JsonHelper.writeJsonString(value, this);
+	}
+
 }
@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+@SupportedAnnotationTypes("org.dussan.vaadin.dcharts.processor.JsonSerializable")
+public class JsonSerializerProcessor extends AbstractProcessor {
+
+	private static final String SUFFIX = "JsonSerializer";
+	private static final String BASE_ELEMENT = "org.dussan.vaadin.dcharts.base.BaseElement";
+	private static final String OPTION = "org.dussan.vaadin.dcharts.base.elements.Option";
+	private static final String REFLECTION = "java.lang.reflect";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	private static boolean isValueField(VariableElement field) {
+		Set<Modifier> modifiers = field.getModifiers();
+		return (!modifiers.contains(Modifier.STATIC)
+				&& !modifiers.contains(Modifier.TRANSIENT) && !"defaultValues"
+					.equals(field.getSimpleName().toString()));
+	}
+
+	private static String getTypeName(TypeElement type) {
+		StringBuilder name = new StringBuilder(type.getQualifiedName());
+		int parameters = type.getTypeParameters().size();
+		for (int i = 0; i < parameters; i++) {
+			name.append(i == 0 ? "<" : ", ").append("?");
+		}
+		return name.append(parameters > 0 ? ">" : "").toString();
+	}
+
+	private TypeElement getSuperType(TypeElement type) {
+		TypeMirror superType = type.getSuperclass();
+		if (superType.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement element = (TypeElement) ((DeclaredType) superType)
+				.asElement();
+		String name = element.getQualifiedName().toString();
+		if (BASE_ELEMENT.equals(name) || OPTION.equals(name)
+				|| Object.class.getName().equals(name)) {
+			return null;
+		}
+		return element;
+	}
+
+	private List<VariableElement> getValueFields(TypeElement type,
+			boolean ownType) {
+		List<VariableElement> fields = new ArrayList<VariableElement>();
+		for (VariableElement field : ElementFilter.fieldsIn(type
+				.getEnclosedElements())) {
+			if (isValueField(field)
+					&& !(ownType && processingEnv.getTypeUtils().isSameType(
+							processingEnv.getTypeUtils().erasure(
+									field.asType()),
+							processingEnv.getTypeUtils().erasure(
+									type.asType())))) {
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		String packageName = processingEnv.getElementUtils()
+				.getPackageOf(type).getQualifiedName().toString();
+		String className = type.getSimpleName() + SUFFIX;
+		String typeName = getTypeName(type);
+
+		TypeElement superType = getSuperType(type);
+		if (superType != null && superType.getAnnotation(JsonSerializable.class) == null
+				&& !getValueFields(superType, false).isEmpty()) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Superclass with fields must be @JsonSerializable", type);
+			return;
+		}
+
+		// generated code reads the fields directly, it never uses reflection
+		List<VariableElement> fields = getValueFields(type, true);
+		for (VariableElement field : fields) {
+			if (field.getModifiers().contains(Modifier.PRIVATE)) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"Serialized field must not be private", field);
+				return;
+			}
+		}
+
+		StringWriter source = new StringWriter();
+		PrintWriter writer = new PrintWriter(source);
+		try {
+			writer.println("package " + packageName + ";");
+			writer.println();
+			writer.println("import org.dussan.vaadin.dcharts.helpers.JsonHelper;");
+			writer.println("import org.dussan.vaadin.dcharts.helpers.JsonSerializer;");
+			writer.println();
+			writer.println("// generated by " + getClass().getName());
+			writer.println("public final class " + className
+					+ " implements JsonSerializer {");
+			writer.println();
+			writer.println("\tpublic static void writeFields(StringBuilder value, int start,");
+			writer.println("\t\t\t" + typeName + " object) {");
+			for (VariableElement field : fields) {
+				String name = field.getSimpleName().toString();
+				writer.println("\t\tJsonHelper.writeField(value, start, \""
+						+ name + "\", object." + name + ");");
+			}
+			if (superType != null
+					&& superType.getAnnotation(JsonSerializable.class) != null) {
+				writer.println("\t\t" + superType.getQualifiedName() + SUFFIX
+						+ ".writeFields(value, start, object);");
+			}
+			writer.println("\t}");
+			writer.println();
+			writer.println("\t@Override");
+			writer.println("\tpublic void writeTo(StringBuilder value, Object object) {");
+			writer.println("\t\tvalue.append(\"{\");");
+			writer.println("\t\twriteFields(value, value.length(), (" + typeName
+					+ ") object);");
+			writer.println("\t\tvalue.append(\"}\");");
+			writer.println("\t}");
+			writer.println();
+			writer.println("}");
+		} finally {
+			writer.close();
+		}
+
+		if (source.toString().contains(REFLECTION)) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Generated serializer must not use " + REFLECTION, type);
+			return;
+		}
+		Writer file = processingEnv.getFiler()
+				.createSourceFile(packageName + "." + className, type)
+				.openWriter();
+		try {
+			file.write(source.toString());
+		} finally {
+			file.close();
+		}
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+		for (Element element : roundEnv
+				.getElementsAnnotatedWith(JsonSerializable.class)) {
+			if (element.getKind() == ElementKind.CLASS) {
+				try {
+					generate((TypeElement) element);
+				} catch (IOException e) {
+					processingEnv.getMessager().printMessage(Kind.ERROR,
+							e.getMessage(), element);
+				}
+			}
+		}
+		return true;
+	}
+
+}
@@ -17,11 +17,13 @@ package org.dussan.vaadin.dcharts.renderers.axis;
 
 import org.dussan.vaadin.dcharts.base.renderers.AxisRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.axis.DefaultCategoryAxisRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class CategoryAxisRenderer extends AxisRenderer<CategoryAxisRenderer> {
 
 	private static final long serialVersionUID = -4169594015833650244L;
-	private Boolean sortMergedLabels = null;
+	Boolean sortMergedLabels = null;
 
 	public CategoryAxisRenderer() {
 		super(new DefaultCategoryAxisRenderer());
@@ -38,6 +40,7 @@ public class CategoryAxisRenderer extends AxisRenderer<CategoryAxisRenderer> {
 
 	public CategoryAxisRenderer setSortMergedLabels(boolean sortMergedLabels) {
 		this.sortMergedLabels = sortMergedLabels;
+		modified();
 		return this;
 	}
 
@@ -17,14 +17,16 @@ package org.dussan.vaadin.dcharts.renderers.axis;
 
 import org.dussan.vaadin.dcharts.base.renderers.AxisRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.axis.DefaultDateAxisRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class DateAxisRenderer extends AxisRenderer<DateAxisRenderer> {
 
 	private static final long serialVersionUID = -5712747379326317060L;
-	private Float tickInset = null;
-	private Boolean drawBaseline = null;
-	private Integer baselineWidth = null;
-	private String baselineColor = null;
+	Float tickInset = null;
+	Boolean drawBaseline = null;
+	Integer baselineWidth = null;
+	String baselineColor = null;
 
 	public DateAxisRenderer() {
 		super(new DefaultDateAxisRenderer());
@@ -45,6 +47,7 @@ public class DateAxisRenderer extends AxisRenderer<DateAxisRenderer> {
 
 	public DateAxisRenderer setTickInset(float tickInset) {
 		this.tickInset = tickInset;
+		modified();
 		return this;
 	}
 
@@ -54,6 +57,7 @@ public class DateAxisRenderer extends AxisRenderer<DateAxisRenderer> {
 
 	public DateAxisRenderer setDrawBaseline(boolean drawBaseline) {
 		this.drawBaseline = drawBaseline;
+		modified();
 		return this;
 	}
 
@@ -63,6 +67,7 @@ public class DateAxisRenderer extends AxisRenderer<DateAxisRenderer> {
 
 	public DateAxisRenderer setBaselineWidth(int baselineWidth) {
 		this.baselineWidth = baselineWidth;
+		modified();
 		return this;
 	}
 
@@ -72,6 +77,7 @@ public class DateAxisRenderer extends AxisRenderer<DateAxisRenderer> {
 
 	public DateAxisRenderer setBaselineColor(String baselineColor) {
 		this.baselineColor = baselineColor;
+		modified();
 		return this;
 	}
 
@@ -17,7 +17,9 @@ package org.dussan.vaadin.dcharts.renderers.axis;
 
 import org.dussan.vaadin.dcharts.base.renderers.AxisRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.axis.DefaultLinearAxisRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 
 	private static final long serialVersionUID = -7815871683617633916L;
@@ -25,14 +27,14 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	// private Integer[] breakPoints = null;
 	// EXPERIMENTAL
 	// private String breakTickLabel = null;
-	private Boolean drawBaseline = null;
-	private Integer baselineWidth = null;
-	private String baselineColor = null;
-	private Boolean forceTickAt0 = null;
-	private Boolean forceTickAt100 = null;
-	private Float tickInset = null;
-	private Integer minorTicks = null;
-	private Boolean alignTicks = null;
+	Boolean drawBaseline = null;
+	Integer baselineWidth = null;
+	String baselineColor = null;
+	Boolean forceTickAt0 = null;
+	Boolean forceTickAt100 = null;
+	Float tickInset = null;
+	Integer minorTicks = null;
+	Boolean alignTicks = null;
 
 	public LinearAxisRenderer() {
 		super(new DefaultLinearAxisRenderer());
@@ -57,7 +59,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setDrawBaseline(boolean drawBaseline) {
-		this.drawBaseline = drawBaseline;return this;
+		this.drawBaseline = drawBaseline;
+		modified();
+		return this;
 	}
 
 	public int getBaselineWidth() {
@@ -65,7 +69,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setBaselineWidth(int baselineWidth) {
-		this.baselineWidth = baselineWidth;return this;
+		this.baselineWidth = baselineWidth;
+		modified();
+		return this;
 	}
 
 	public String getBaselineColor() {
@@ -73,7 +79,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setBaselineColor(String baselineColor) {
-		this.baselineColor = baselineColor;return this;
+		this.baselineColor = baselineColor;
+		modified();
+		return this;
 	}
 
 	public boolean getForceTickAt0() {
@@ -81,7 +89,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setForceTickAt0(boolean forceTickAt0) {
-		this.forceTickAt0 = forceTickAt0;return this;
+		this.forceTickAt0 = forceTickAt0;
+		modified();
+		return this;
 	}
 
 	public boolean getForceTickAt100() {
@@ -89,7 +99,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setForceTickAt100(boolean forceTickAt100) {
-		this.forceTickAt100 = forceTickAt100;return this;
+		this.forceTickAt100 = forceTickAt100;
+		modified();
+		return this;
 	}
 
 	public float getTickInset() {
@@ -97,7 +109,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setTickInset(float tickInset) {
-		this.tickInset = tickInset;return this;
+		this.tickInset = tickInset;
+		modified();
+		return this;
 	}
 
 	public int getMinorTicks() {
@@ -105,7 +119,9 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 	}
 
 	public LinearAxisRenderer setMinorTicks(int minorTicks) {
-		this.minorTicks = minorTicks;return this;
+		this.minorTicks = minorTicks;
+		modified();
+		return this;
 	}
 
 	public boolean getAlignTicks() {
@@ -114,6 +130,7 @@ public class LinearAxisRenderer extends AxisRenderer<LinearAxisRenderer> {
 
 	public LinearAxisRenderer setAlignTicks(boolean alignTicks) {
 		this.alignTicks = alignTicks;
+		modified();
 		return this;
 	}
 
@@ -17,12 +17,14 @@ package org.dussan.vaadin.dcharts.renderers.axis;
 
 import org.dussan.vaadin.dcharts.base.renderers.AxisRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.axis.DefaultLogAxisRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class LogAxisRenderer extends AxisRenderer<LogAxisRenderer> {
 
 	private static final long serialVersionUID = -2244104113932175933L;
-	private Boolean drawBaseline = null;
-	private Object minorTicks = null;
+	Boolean drawBaseline = null;
+	Object minorTicks = null;
 
 	public LogAxisRenderer() {
 		super(new DefaultLogAxisRenderer());
@@ -40,6 +42,7 @@ public class LogAxisRenderer extends AxisRenderer<LogAxisRenderer> {
 
 	public LogAxisRenderer setDrawBaseline(boolean drawBaseline) {
 		this.drawBaseline = drawBaseline;
+		modified();
 		return this;
 	}
 
@@ -49,6 +52,7 @@ public class LogAxisRenderer extends AxisRenderer<LogAxisRenderer> {
 
 	public LogAxisRenderer setMinorTicks(int minorTicks) {
 		this.minorTicks = minorTicks;
+		modified();
 		return this;
 	}
 
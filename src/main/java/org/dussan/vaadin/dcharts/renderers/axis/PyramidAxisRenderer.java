@@ -18,25 +18,27 @@ package org.dussan.vaadin.dcharts.renderers.axis;
 import org.dussan.vaadin.dcharts.base.renderers.AxisRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.axis.DefaultPyramidAxisRenderer;
 import org.dussan.vaadin.dcharts.metadata.PyramidAxesPositions;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	private static final long serialVersionUID = 3775035905006841263L;
-	private PyramidAxesPositions position = null;
+	PyramidAxesPositions position = null;
 	// EXPERIMENTAL
 	// private Integer[] breakPoints = null;
 	// EXPERIMENTAL
 	// private String breakTickLabel = null;
-	private Boolean drawBaseline = null;
-	private Integer baselineWidth = null;
-	private String baselineColor = null;
-	private Boolean forceTickAt0 = null;
-	private Boolean forceTickAt100 = null;
-	private Float tickInset = null;
-	private Integer minorTicks = null;
-	private Boolean alignTicks = null;
-	private Integer tickSpacingFactor = null;
-	private Boolean category = null;
+	Boolean drawBaseline = null;
+	Integer baselineWidth = null;
+	String baselineColor = null;
+	Boolean forceTickAt0 = null;
+	Boolean forceTickAt100 = null;
+	Float tickInset = null;
+	Integer minorTicks = null;
+	Boolean alignTicks = null;
+	Integer tickSpacingFactor = null;
+	Boolean category = null;
 
 	public PyramidAxisRenderer() {
 		super(new DefaultPyramidAxisRenderer());
@@ -66,6 +68,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 	public PyramidAxisRenderer setPosition(
 			PyramidAxesPositions pyramidAxesPositions) {
 		this.position = pyramidAxesPositions;
+		modified();
 		return this;
 	}
 
@@ -75,6 +78,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setDrawBaseline(boolean drawBaseline) {
 		this.drawBaseline = drawBaseline;
+		modified();
 		return this;
 	}
 
@@ -84,6 +88,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setBaselineWidth(int baselineWidth) {
 		this.baselineWidth = baselineWidth;
+		modified();
 		return this;
 	}
 
@@ -93,6 +98,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setBaselineColor(String baselineColor) {
 		this.baselineColor = baselineColor;
+		modified();
 		return this;
 	}
 
@@ -102,6 +108,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setForceTickAt0(boolean forceTickAt0) {
 		this.forceTickAt0 = forceTickAt0;
+		modified();
 		return this;
 	}
 
@@ -111,6 +118,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setForceTickAt100(boolean forceTickAt100) {
 		this.forceTickAt100 = forceTickAt100;
+		modified();
 		return this;
 	}
 
@@ -120,6 +128,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setTickInset(float tickInset) {
 		this.tickInset = tickInset;
+		modified();
 		return this;
 	}
 
@@ -129,6 +138,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setMinorTicks(int minorTicks) {
 		this.minorTicks = minorTicks;
+		modified();
 		return this;
 	}
 
@@ -138,6 +148,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setAlignTicks(boolean alignTicks) {
 		this.alignTicks = alignTicks;
+		modified();
 		return this;
 	}
 
@@ -147,6 +158,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setTickSpacingFactor(Integer tickSpacingFactor) {
 		this.tickSpacingFactor = tickSpacingFactor;
+		modified();
 		return this;
 	}
 
@@ -156,6 +168,7 @@ public class PyramidAxisRenderer extends AxisRenderer<PyramidAxisRenderer> {
 
 	public PyramidAxisRenderer setCategory(boolean category) {
 		this.category = category;
+		modified();
 		return this;
 	}
 
@@ -18,7 +18,9 @@ package org.dussan.vaadin.dcharts.renderers.grid;
 import org.dussan.vaadin.dcharts.base.renderers.GridRenderer;
 import org.dussan.vaadin.dcharts.base.renderers.ShadowRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.grid.DefaultCanvasGridRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class CanvasGridRenderer extends GridRenderer<CanvasGridRenderer> {
 
 	private static final long serialVersionUID = 7423766409788871695L;
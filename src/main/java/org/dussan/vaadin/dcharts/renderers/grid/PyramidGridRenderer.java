@@ -19,11 +19,13 @@ import org.dussan.vaadin.dcharts.base.renderers.GridRenderer;
 import org.dussan.vaadin.dcharts.base.renderers.PlotBands;
 import org.dussan.vaadin.dcharts.base.renderers.ShadowRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.grid.DefaultPyramidGridRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PyramidGridRenderer extends GridRenderer<PyramidGridRenderer> {
 
 	private static final long serialVersionUID = 2418221612221921529L;
-	private PlotBands plotBands = null;
+	PlotBands plotBands = null;
 
 	public PyramidGridRenderer() {
 		super(new DefaultPyramidGridRenderer());
@@ -42,6 +44,7 @@ public class PyramidGridRenderer extends GridRenderer<PyramidGridRenderer> {
 
 	public PyramidGridRenderer setPlotBands(PlotBands plotBands) {
 		this.plotBands = plotBands;
+		modified();
 		return this;
 	}
 
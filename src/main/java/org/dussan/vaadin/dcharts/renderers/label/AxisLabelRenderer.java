@@ -18,12 +18,14 @@ package org.dussan.vaadin.dcharts.renderers.label;
 import org.dussan.vaadin.dcharts.base.renderers.LabelRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.labels.DefaultAxisLabelRenderer;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class AxisLabelRenderer extends LabelRenderer<AxisLabelRenderer> {
 
 	private static final long serialVersionUID = -380785700518051859L;
-	private XYaxes axis = null;
-	private Boolean escapeHTML = null;
+	XYaxes axis = null;
+	Boolean escapeHTML = null;
 
 	public AxisLabelRenderer() {
 		super(new DefaultAxisLabelRenderer());
@@ -47,6 +49,7 @@ public class AxisLabelRenderer extends LabelRenderer<AxisLabelRenderer> {
 
 	public AxisLabelRenderer setAxis(XYaxes axis) {
 		this.axis = axis;
+		modified();
 		return this;
 	}
 
@@ -56,6 +59,7 @@ public class AxisLabelRenderer extends LabelRenderer<AxisLabelRenderer> {
 
 	public AxisLabelRenderer setEscapeHTML(boolean escapeHTML) {
 		this.escapeHTML = escapeHTML;
+		modified();
 		return this;
 	}
 
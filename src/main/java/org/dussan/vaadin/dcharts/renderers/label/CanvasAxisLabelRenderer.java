@@ -19,18 +19,20 @@ import org.dussan.vaadin.dcharts.base.renderers.LabelRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.labels.DefaultCanvasAxisLabelRenderer;
 import org.dussan.vaadin.dcharts.metadata.FontWeights;
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class CanvasAxisLabelRenderer extends
 		LabelRenderer<CanvasAxisLabelRenderer> {
 
 	private static final long serialVersionUID = 8512250394756937798L;
-	private Integer angle = null;
-	private XYaxes axis = null;
-	private Boolean showLabel = null;
-	private FontWeights fontWeight = null;
-	private Float fontStretch = null;
-	private Boolean enableFontSupport = null;
-	private Float pt2px = null;
+	Integer angle = null;
+	XYaxes axis = null;
+	Boolean showLabel = null;
+	FontWeights fontWeight = null;
+	Float fontStretch = null;
+	Boolean enableFontSupport = null;
+	Float pt2px = null;
 
 	public CanvasAxisLabelRenderer() {
 		super(new DefaultCanvasAxisLabelRenderer());
@@ -61,6 +63,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setAngle(int angle) {
 		this.angle = angle;
+		modified();
 		return this;
 	}
 
@@ -70,6 +73,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setAxis(XYaxes axis) {
 		this.axis = axis;
+		modified();
 		return this;
 	}
 
@@ -79,6 +83,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setShowLabel(boolean showLabel) {
 		this.showLabel = showLabel;
+		modified();
 		return this;
 	}
 
@@ -88,6 +93,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setFontWeight(FontWeights fontWeights) {
 		this.fontWeight = fontWeights;
+		modified();
 		return this;
 	}
 
@@ -97,6 +103,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setFontStretch(float fontStretch) {
 		this.fontStretch = fontStretch;
+		modified();
 		return this;
 	}
 
@@ -107,6 +114,7 @@ public class CanvasAxisLabelRenderer extends
 	public CanvasAxisLabelRenderer setEnableFontSupport(
 			boolean enableFontSupport) {
 		this.enableFontSupport = enableFontSupport;
+		modified();
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class CanvasAxisLabelRenderer extends
 
 	public CanvasAxisLabelRenderer setPt2px(float pt2px) {
 		this.pt2px = pt2px;
+		modified();
 		return this;
 	}
 
@@ -18,16 +18,18 @@ package org.dussan.vaadin.dcharts.renderers.legend;
 import org.dussan.vaadin.dcharts.base.renderers.LegendRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.DefaultEnhancedLegendRenderer;
 import org.dussan.vaadin.dcharts.metadata.SeriesToggles;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class EnhancedLegendRenderer extends
 		LegendRenderer<EnhancedLegendRenderer> {
 
 	private static final long serialVersionUID = -4747614600285420366L;
-	private Integer numberRows = null;
-	private Integer numberColumns = null;
-	private Object seriesToggle = null;
-	private Object seriesToggleReplot = null;
-	private Boolean disableIEFading = null;
+	Integer numberRows = null;
+	Integer numberColumns = null;
+	Object seriesToggle = null;
+	Object seriesToggleReplot = null;
+	Boolean disableIEFading = null;
 
 	public EnhancedLegendRenderer() {
 		super(new DefaultEnhancedLegendRenderer());
@@ -50,6 +52,7 @@ public class EnhancedLegendRenderer extends
 
 	public EnhancedLegendRenderer setNumberRows(int numberRows) {
 		this.numberRows = numberRows;
+		modified();
 		return this;
 	}
 
@@ -59,6 +62,7 @@ public class EnhancedLegendRenderer extends
 
 	public EnhancedLegendRenderer setNumberColumns(int numberColumns) {
 		this.numberColumns = numberColumns;
+		modified();
 		return this;
 	}
 
@@ -68,17 +72,20 @@ public class EnhancedLegendRenderer extends
 
 	public EnhancedLegendRenderer setSeriesToggle(boolean seriesToggle) {
 		this.seriesToggle = Boolean.valueOf(seriesToggle);
+		modified();
 		return this;
 	}
 
 	public EnhancedLegendRenderer setSeriesToggle(int seriesToggle) {
 		this.seriesToggle = Integer.valueOf(seriesToggle < 0 ? 100
 				: seriesToggle);
+		modified();
 		return this;
 	}
 
 	public EnhancedLegendRenderer setSeriesToggle(SeriesToggles seriesToggle) {
 		this.seriesToggle = seriesToggle;
+		modified();
 		return this;
 	}
 
@@ -90,6 +97,7 @@ public class EnhancedLegendRenderer extends
 			boolean seriesToggleReplot) {
 		this.seriesToggleReplot = !seriesToggleReplot ? Boolean
 				.valueOf(seriesToggleReplot) : new String("{resetAxes:true}");
+		modified();
 		return this;
 	}
 
@@ -99,6 +107,7 @@ public class EnhancedLegendRenderer extends
 
 	public EnhancedLegendRenderer setDisableIEFading(boolean disableIEFading) {
 		this.disableIEFading = disableIEFading;
+		modified();
 		return this;
 	}
 
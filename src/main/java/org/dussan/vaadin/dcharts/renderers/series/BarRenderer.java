@@ -18,26 +18,28 @@ package org.dussan.vaadin.dcharts.renderers.series;
 import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultBarRenderer;
 import org.dussan.vaadin.dcharts.metadata.directions.BarDirections;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.series.animations.BarAnimation;
 
+@JsonSerializable
 public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	private static final long serialVersionUID = 8147585643831907847L;
-	private Integer barPadding = null;
-	private Integer barMargin = null;
-	private BarDirections barDirection = null;
-	private Integer barWidth = null;
-	private Integer shadowOffset = null;
-	private Integer shadowDepth = null;
-	private Float shadowAlpha = null;
-	private Boolean waterfall = null;
-	private Integer groups = null;
-	private Boolean varyBarColor = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private Boolean transposedData = null;
-	private BarAnimation animation = null;
+	Integer barPadding = null;
+	Integer barMargin = null;
+	BarDirections barDirection = null;
+	Integer barWidth = null;
+	Integer shadowOffset = null;
+	Integer shadowDepth = null;
+	Float shadowAlpha = null;
+	Boolean waterfall = null;
+	Integer groups = null;
+	Boolean varyBarColor = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	Boolean transposedData = null;
+	BarAnimation animation = null;
 
 	public BarRenderer() {
 		super(new DefaultBarRenderer());
@@ -73,6 +75,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setBarPadding(int barPadding) {
 		this.barPadding = barPadding;
+		modified();
 		return this;
 	}
 
@@ -82,6 +85,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setBarMargin(int barMargin) {
 		this.barMargin = barMargin;
+		modified();
 		return this;
 	}
 
@@ -91,6 +95,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setBarDirection(BarDirections barDirections) {
 		this.barDirection = barDirections;
+		modified();
 		return this;
 	}
 
@@ -100,6 +105,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setBarWidth(int barWidth) {
 		this.barWidth = barWidth;
+		modified();
 		return this;
 	}
 
@@ -109,6 +115,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setShadowOffset(int shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -118,6 +125,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -127,6 +135,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -136,6 +145,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setWaterfall(boolean waterfall) {
 		this.waterfall = waterfall;
+		modified();
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setGroups(int groups) {
 		this.groups = groups;
+		modified();
 		return this;
 	}
 
@@ -154,6 +165,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setVaryBarColor(boolean varyBarColor) {
 		this.varyBarColor = varyBarColor;
+		modified();
 		return this;
 	}
 
@@ -163,6 +175,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -172,6 +185,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -181,6 +195,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setHighlightColors(String... highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -190,6 +205,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setTransposedData(boolean transposedData) {
 		this.transposedData = transposedData;
+		modified();
 		return this;
 	}
 
@@ -199,6 +215,7 @@ public class BarRenderer extends SeriesRenderer<BarRenderer> {
 
 	public BarRenderer setAnimation(BarAnimation barAnimation) {
 		this.animation = barAnimation;
+		modified();
 		return this;
 	}
 
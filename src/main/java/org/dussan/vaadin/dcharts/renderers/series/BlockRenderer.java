@@ -17,14 +17,16 @@ package org.dussan.vaadin.dcharts.renderers.series;
 
 import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultBlockRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class BlockRenderer extends SeriesRenderer<BlockRenderer> {
 
 	private static final long serialVersionUID = 5231093434453162096L;
-	private String css = null;
-	private Boolean escapeHtml = null;
-	private Boolean insertBreaks = null;
-	private Boolean varyBlockColors = null;
+	String css = null;
+	Boolean escapeHtml = null;
+	Boolean insertBreaks = null;
+	Boolean varyBlockColors = null;
 
 	public BlockRenderer() {
 		super(new DefaultBlockRenderer());
@@ -45,6 +47,7 @@ public class BlockRenderer extends SeriesRenderer<BlockRenderer> {
 
 	public BlockRenderer setCss(String css) {
 		this.css = "{" + css.replace("{", "").replace("}", "") + "}";
+		modified();
 		return this;
 	}
 
@@ -54,6 +57,7 @@ public class BlockRenderer extends SeriesRenderer<BlockRenderer> {
 
 	public BlockRenderer setEscapeHtml(boolean escapeHtml) {
 		this.escapeHtml = escapeHtml;
+		modified();
 		return this;
 	}
 
@@ -63,6 +67,7 @@ public class BlockRenderer extends SeriesRenderer<BlockRenderer> {
 
 	public BlockRenderer setInsertBreaks(boolean insertBreaks) {
 		this.insertBreaks = insertBreaks;
+		modified();
 		return this;
 	}
 
@@ -72,6 +77,7 @@ public class BlockRenderer extends SeriesRenderer<BlockRenderer> {
 
 	public BlockRenderer setVaryBlockColors(boolean varyBlockColors) {
 		this.varyBlockColors = varyBlockColors;
+		modified();
 		return this;
 	}
 
@@ -18,25 +18,27 @@ package org.dussan.vaadin.dcharts.renderers.series;
 import org.apache.commons.lang3.ArrayUtils;
 import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultBubbleRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	private static final long serialVersionUID = -9032093693015798668L;
-	private Boolean varyBubbleColors = null;
-	private Boolean autoscaleBubbles = null;
-	private Float autoscaleMultiplier = null;
-	private Float autoscalePointsFactor = null;
-	private Boolean escapeHtml = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private Float bubbleAlpha = null;
-	private Float highlightAlpha = null;
-	private Boolean bubbleGradients = null;
-	private Boolean showLabels = null;
-	private Integer[] radii = null;
-	private Integer maxRadius = null;
-	private String[] labels = null;
+	Boolean varyBubbleColors = null;
+	Boolean autoscaleBubbles = null;
+	Float autoscaleMultiplier = null;
+	Float autoscalePointsFactor = null;
+	Boolean escapeHtml = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	Float bubbleAlpha = null;
+	Float highlightAlpha = null;
+	Boolean bubbleGradients = null;
+	Boolean showLabels = null;
+	Integer[] radii = null;
+	Integer maxRadius = null;
+	String[] labels = null;
 
 	public BubbleRenderer() {
 		super(new DefaultBubbleRenderer());
@@ -72,6 +74,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setVaryBubbleColors(boolean varyBubbleColors) {
 		this.varyBubbleColors = varyBubbleColors;
+		modified();
 		return this;
 	}
 
@@ -81,6 +84,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setAutoscaleBubbles(boolean autoscaleBubbles) {
 		this.autoscaleBubbles = autoscaleBubbles;
+		modified();
 		return this;
 	}
 
@@ -90,6 +94,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setAutoscaleMultiplier(float autoscaleMultiplier) {
 		this.autoscaleMultiplier = autoscaleMultiplier;
+		modified();
 		return this;
 	}
 
@@ -99,6 +104,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setAutoscalePointsFactor(float autoscalePointsFactor) {
 		this.autoscalePointsFactor = autoscalePointsFactor;
+		modified();
 		return this;
 	}
 
@@ -108,6 +114,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setEscapeHtml(boolean escapeHtml) {
 		this.escapeHtml = escapeHtml;
+		modified();
 		return this;
 	}
 
@@ -117,6 +124,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -126,6 +134,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -135,6 +144,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setHighlightColors(String... highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -144,6 +154,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setBubbleAlpha(float bubbleAlpha) {
 		this.bubbleAlpha = bubbleAlpha;
+		modified();
 		return this;
 	}
 
@@ -153,6 +164,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setHighlightAlpha(float highlightAlpha) {
 		this.highlightAlpha = highlightAlpha;
+		modified();
 		return this;
 	}
 
@@ -162,6 +174,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setBubbleGradients(boolean bubbleGradients) {
 		this.bubbleGradients = bubbleGradients;
+		modified();
 		return this;
 	}
 
@@ -171,6 +184,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setShowLabels(boolean showLabels) {
 		this.showLabels = showLabels;
+		modified();
 		return this;
 	}
 
@@ -180,6 +194,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setRadii(int... radii) {
 		this.radii = ArrayUtils.toObject(radii);
+		modified();
 		return this;
 	}
 
@@ -189,6 +204,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setMaxRadius(int maxRadius) {
 		this.maxRadius = maxRadius;
+		modified();
 		return this;
 	}
 
@@ -198,6 +214,7 @@ public class BubbleRenderer extends SeriesRenderer<BubbleRenderer> {
 
 	public BubbleRenderer setLabels(String... labels) {
 		this.labels = labels;
+		modified();
 		return this;
 	}
 
@@ -18,30 +18,32 @@ package org.dussan.vaadin.dcharts.renderers.series;
 import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultDonutRenderer;
 import org.dussan.vaadin.dcharts.metadata.DataLabels;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	private static final long serialVersionUID = 2315572308433350776L;
-	private Integer diameter = null;
-	private Integer innerDiameter = null;
-	private Integer thickness = null;
-	private Integer padding = null;
-	private Integer sliceMargin = null;
-	private Integer ringMargin = null;
-	private Boolean fill = null;
-	private Integer shadowOffset = null;
-	private Float shadowAlpha = null;
-	private Integer shadowDepth = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private DataLabels dataLabels = null;
-	private Boolean showDataLabels = null;
-	private String dataLabelFormatString = null;
-	private Integer dataLabelThreshold = null;
-	private Float dataLabelPositionFactor = null;
-	private Integer dataLabelNudge = null;
-	private Integer startAngle = null;
+	Integer diameter = null;
+	Integer innerDiameter = null;
+	Integer thickness = null;
+	Integer padding = null;
+	Integer sliceMargin = null;
+	Integer ringMargin = null;
+	Boolean fill = null;
+	Integer shadowOffset = null;
+	Float shadowAlpha = null;
+	Integer shadowDepth = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	DataLabels dataLabels = null;
+	Boolean showDataLabels = null;
+	String dataLabelFormatString = null;
+	Integer dataLabelThreshold = null;
+	Float dataLabelPositionFactor = null;
+	Integer dataLabelNudge = null;
+	Integer startAngle = null;
 
 	public DonutRenderer() {
 		super(new DefaultDonutRenderer());
@@ -84,6 +86,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setDiameter(int diameter) {
 		this.diameter = diameter;
+		modified();
 		return this;
 	}
 
@@ -93,6 +96,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setInnerDiameter(int innerDiameter) {
 		this.innerDiameter = innerDiameter;
+		modified();
 		return this;
 	}
 
@@ -102,6 +106,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setThickness(int thickness) {
 		this.thickness = thickness;
+		modified();
 		return this;
 	}
 
@@ -111,6 +116,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setPadding(int padding) {
 		this.padding = padding;
+		modified();
 		return this;
 	}
 
@@ -120,6 +126,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setSliceMargin(int sliceMargin) {
 		this.sliceMargin = sliceMargin;
+		modified();
 		return this;
 	}
 
@@ -129,6 +136,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setRingMargin(int ringMargin) {
 		this.ringMargin = ringMargin;
+		modified();
 		return this;
 	}
 
@@ -138,6 +146,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -147,6 +156,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setShadowOffset(int shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -156,6 +166,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -165,6 +176,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -174,6 +186,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -183,6 +196,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -192,6 +206,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setHighlightColors(String... highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -201,6 +216,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setDataLabels(DataLabels dataLabels) {
 		this.dataLabels = dataLabels;
+		modified();
 		return this;
 	}
 
@@ -210,6 +226,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setShowDataLabels(boolean showDataLabels) {
 		this.showDataLabels = showDataLabels;
+		modified();
 		return this;
 	}
 
@@ -219,6 +236,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setDataLabelFormatString(String dataLabelFormatString) {
 		this.dataLabelFormatString = dataLabelFormatString;
+		modified();
 		return this;
 	}
 
@@ -228,6 +246,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setDataLabelThreshold(int dataLabelThreshold) {
 		this.dataLabelThreshold = dataLabelThreshold;
+		modified();
 		return this;
 	}
 
@@ -238,6 +257,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 	public DonutRenderer setDataLabelPositionFactor(
 			float dataLabelPositionFactor) {
 		this.dataLabelPositionFactor = dataLabelPositionFactor;
+		modified();
 		return this;
 	}
 
@@ -247,6 +267,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setDataLabelNudge(int dataLabelNudge) {
 		this.dataLabelNudge = dataLabelNudge;
+		modified();
 		return this;
 	}
 
@@ -256,6 +277,7 @@ public class DonutRenderer extends SeriesRenderer<DonutRenderer> {
 
 	public DonutRenderer setStartAngle(int startAngle) {
 		this.startAngle = startAngle;
+		modified();
 		return this;
 	}
 
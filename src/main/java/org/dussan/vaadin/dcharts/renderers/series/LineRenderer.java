@@ -21,22 +21,24 @@ import org.dussan.vaadin.dcharts.base.renderers.ShadowRenderer;
 import org.dussan.vaadin.dcharts.base.renderers.ShapeRenderer;
 import org.dussan.vaadin.dcharts.data.BandData;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultLineRenderer;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 import org.dussan.vaadin.dcharts.renderers.series.animations.LineAnimation;
 
+@JsonSerializable
 public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	private static final long serialVersionUID = -7770190199911764702L;
-	private LineAnimation animation = null;
-	private Object smooth = null;
-	private Integer tension = null;
-	private Boolean constrainSmoothing = null;
-	private BandData bandData = null;
-	private Bands bands = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private String shapeRenderer = null;
-	private String shadowRenderer = null;
+	LineAnimation animation = null;
+	Object smooth = null;
+	Integer tension = null;
+	Boolean constrainSmoothing = null;
+	BandData bandData = null;
+	Bands bands = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	String shapeRenderer = null;
+	String shadowRenderer = null;
 
 	public LineRenderer() {
 		super(new DefaultLineRenderer());
@@ -80,6 +82,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setAnimation(LineAnimation animation) {
 		this.animation = animation;
+		modified();
 		return this;
 	}
 
@@ -89,11 +92,13 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setSmooth(boolean smooth) {
 		this.smooth = Boolean.valueOf(smooth);
+		modified();
 		return this;
 	}
 
 	public LineRenderer setSmooth(int smooth) {
 		this.smooth = Integer.valueOf(smooth > 2 ? smooth : 3);
+		modified();
 		return this;
 	}
 
@@ -103,6 +108,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setTension(int tension) {
 		this.tension = tension > 6 ? tension : 7;
+		modified();
 		return this;
 	}
 
@@ -112,6 +118,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setConstrainSmoothing(boolean constrainSmoothing) {
 		this.constrainSmoothing = constrainSmoothing;
+		modified();
 		return this;
 	}
 
@@ -121,6 +128,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setBandData(BandData bandData) {
 		this.bandData = bandData;
+		modified();
 		return this;
 	}
 
@@ -130,6 +138,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setBands(Bands bands) {
 		this.bands = bands;
+		modified();
 		return this;
 	}
 
@@ -139,6 +148,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -157,6 +168,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setHighlightColors(String[] highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -166,6 +178,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setShapeRenderer(ShapeRenderer shapeRenderer) {
 		this.shapeRenderer = shapeRenderer.getValue();
+		modified();
 		return this;
 	}
 
@@ -175,6 +188,7 @@ public class LineRenderer extends SeriesRenderer<LineRenderer> {
 
 	public LineRenderer setShadowRenderer(ShadowRenderer shadowRenderer) {
 		this.shadowRenderer = shadowRenderer.getValue();
+		modified();
 		return this;
 	}
 
@@ -20,41 +20,43 @@ import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultMeterGaugeRenderer;
 import org.dussan.vaadin.dcharts.metadata.LabelPositions;
 import org.dussan.vaadin.dcharts.metadata.renderers.TickRenderers;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	private static final long serialVersionUID = -7448206683514604156L;
-	private Float diameter = null;
-	private Integer padding = null;
-	private Float shadowOffset = null;
-	private Float shadowAlpha = null;
-	private Integer shadowDepth = 4;
-	private String background = "#efefef";
-	private String ringColor = "#BBC6D0";
-	private String needleColor = "#C3D3E5";
-	private String tickColor = "989898";
-	private Float ringWidth = null;
-	private Float min = null;
-	private Float max = null;
-	private Float[] ticks = null;
-	private Boolean showTicks = true;
-	private Boolean showTickLabels = true;
-	private String label = null;
-	private Integer labelHeightAdjust = null;
-	private LabelPositions labelPosition = null;
-	private Float[] intervals = null;
-	private String[] intervalColors = null;
-	private Float intervalInnerRadius = null;
-	private Float intervalOuterRadius = null;
-	private TickRenderers tickRenderer = null;
-	private Float[] tickPositions = null;
-	private Integer tickSpacing = null;
-	private Integer numberMinorTicks = null;
-	private Float hubRadius = null;
-	private Float tickPadding = null;
-	private Float needleThickness = null;
-	private Integer needlePad = null;
-	private Boolean pegNeedle = null;
+	Float diameter = null;
+	Integer padding = null;
+	Float shadowOffset = null;
+	Float shadowAlpha = null;
+	Integer shadowDepth = 4;
+	String background = "#efefef";
+	String ringColor = "#BBC6D0";
+	String needleColor = "#C3D3E5";
+	String tickColor = "989898";
+	Float ringWidth = null;
+	Float min = null;
+	Float max = null;
+	Float[] ticks = null;
+	Boolean showTicks = true;
+	Boolean showTickLabels = true;
+	String label = null;
+	Integer labelHeightAdjust = null;
+	LabelPositions labelPosition = null;
+	Float[] intervals = null;
+	String[] intervalColors = null;
+	Float intervalInnerRadius = null;
+	Float intervalOuterRadius = null;
+	TickRenderers tickRenderer = null;
+	Float[] tickPositions = null;
+	Integer tickSpacing = null;
+	Integer numberMinorTicks = null;
+	Float hubRadius = null;
+	Float tickPadding = null;
+	Float needleThickness = null;
+	Integer needlePad = null;
+	Boolean pegNeedle = null;
 
 	public MeterGaugeRenderer() {
 		super(new DefaultMeterGaugeRenderer());
@@ -111,6 +113,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setDiameter(float diameter) {
 		this.diameter = diameter;
+		modified();
 		return this;
 	}
 
@@ -120,6 +123,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setPadding(int padding) {
 		this.padding = padding;
+		modified();
 		return this;
 	}
 
@@ -129,6 +133,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setShadowOffset(float shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -138,6 +143,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -147,6 +153,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -156,6 +163,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setBackground(String background) {
 		this.background = background;
+		modified();
 		return this;
 	}
 
@@ -165,6 +173,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setRingColor(String ringColor) {
 		this.ringColor = ringColor;
+		modified();
 		return this;
 	}
 
@@ -174,6 +183,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setNeedleColor(String needleColor) {
 		this.needleColor = needleColor;
+		modified();
 		return this;
 	}
 
@@ -183,6 +193,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTickColor(String tickColor) {
 		this.tickColor = tickColor;
+		modified();
 		return this;
 	}
 
@@ -192,6 +203,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setRingWidth(float ringWidth) {
 		this.ringWidth = ringWidth;
+		modified();
 		return this;
 	}
 
@@ -201,6 +213,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setMin(float min) {
 		this.min = min;
+		modified();
 		return this;
 	}
 
@@ -210,6 +223,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setMax(float max) {
 		this.max = max;
+		modified();
 		return this;
 	}
 
@@ -219,6 +233,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTicks(float... ticks) {
 		this.ticks = ArrayUtils.toObject(ticks);
+		modified();
 		return this;
 	}
 
@@ -228,6 +243,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setShowTicks(boolean showTicks) {
 		this.showTicks = showTicks;
+		modified();
 		return this;
 	}
 
@@ -237,6 +253,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setShowTickLabels(boolean showTickLabels) {
 		this.showTickLabels = showTickLabels;
+		modified();
 		return this;
 	}
 
@@ -246,6 +263,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setLabel(String label) {
 		this.label = label;
+		modified();
 		return this;
 	}
 
@@ -255,6 +273,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setLabelHeightAdjust(int labelHeightAdjust) {
 		this.labelHeightAdjust = labelHeightAdjust;
+		modified();
 		return this;
 	}
 
@@ -264,6 +283,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setLabelPosition(LabelPositions labelPosition) {
 		this.labelPosition = labelPosition;
+		modified();
 		return this;
 	}
 
@@ -273,6 +293,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setIntervals(float... intervals) {
 		this.intervals = ArrayUtils.toObject(intervals);
+		modified();
 		return this;
 	}
 
@@ -282,6 +303,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setIntervalColors(String... intervalColors) {
 		this.intervalColors = intervalColors;
+		modified();
 		return this;
 	}
 
@@ -291,6 +313,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setIntervalInnerRadius(float intervalInnerRadius) {
 		this.intervalInnerRadius = intervalInnerRadius;
+		modified();
 		return this;
 	}
 
@@ -300,6 +323,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setIntervalOuterRadius(float intervalOuterRadius) {
 		this.intervalOuterRadius = intervalOuterRadius;
+		modified();
 		return this;
 	}
 
@@ -309,6 +333,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTickRenderer(TickRenderers tickRenderer) {
 		this.tickRenderer = tickRenderer;
+		modified();
 		return this;
 	}
 
@@ -318,6 +343,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTickPositions(float... tickPositions) {
 		this.tickPositions = ArrayUtils.toObject(tickPositions);
+		modified();
 		return this;
 	}
 
@@ -327,6 +353,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTickSpacing(int tickSpacing) {
 		this.tickSpacing = tickSpacing;
+		modified();
 		return this;
 	}
 
@@ -336,6 +363,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setNumberMinorTicks(int numberMinorTicks) {
 		this.numberMinorTicks = numberMinorTicks;
+		modified();
 		return this;
 	}
 
@@ -345,6 +373,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setHubRadius(float hubRadius) {
 		this.hubRadius = hubRadius;
+		modified();
 		return this;
 	}
 
@@ -354,6 +383,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setTickPadding(float tickPadding) {
 		this.tickPadding = tickPadding;
+		modified();
 		return this;
 	}
 
@@ -363,6 +393,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setNeedleThickness(float needleThickness) {
 		this.needleThickness = needleThickness;
+		modified();
 		return this;
 	}
 
@@ -372,6 +403,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setNeedlePad(int needlePad) {
 		this.needlePad = needlePad;
+		modified();
 		return this;
 	}
 
@@ -381,6 +413,7 @@ public class MeterGaugeRenderer extends SeriesRenderer<MeterGaugeRenderer> {
 
 	public MeterGaugeRenderer setPegNeedle(boolean pegNeedle) {
 		this.pegNeedle = pegNeedle;
+		modified();
 		return this;
 	}
 
@@ -19,22 +19,24 @@ import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultOhlcRenderer;
 import org.dussan.vaadin.dcharts.metadata.ticks.BodyWidth;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickLength;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	private static final long serialVersionUID = -4181033717501514483L;
-	private Boolean candleStick = null;
-	private Object tickLength = null;
-	private Object bodyWidth = null;
-	private String[] openColor = null;
-	private String[] closeColor = null;
-	private String[] wickColor = null;
-	private Boolean fillUpBody = null;
-	private Boolean fillDownBody = null;
-	private String[] upBodyColor = null;
-	private String[] downBodyColor = null;
-	private Boolean hlc = null;
-	private Float lineWidth = null;
+	Boolean candleStick = null;
+	Object tickLength = null;
+	Object bodyWidth = null;
+	String[] openColor = null;
+	String[] closeColor = null;
+	String[] wickColor = null;
+	Boolean fillUpBody = null;
+	Boolean fillDownBody = null;
+	String[] upBodyColor = null;
+	String[] downBodyColor = null;
+	Boolean hlc = null;
+	Float lineWidth = null;
 
 	public OhlcRenderer() {
 		super(new DefaultOhlcRenderer());
@@ -125,6 +127,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setCandleStick(boolean candleStick) {
 		this.candleStick = candleStick;
+		modified();
 		return this;
 	}
 
@@ -134,11 +137,13 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setTickLength(TickLength tickLength) {
 		this.tickLength = tickLength.getLength();
+		modified();
 		return this;
 	}
 
 	public OhlcRenderer setTickLength(int tickLength) {
 		this.tickLength = Integer.valueOf(tickLength);
+		modified();
 		return this;
 	}
 
@@ -148,11 +153,13 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setBodyWidth(BodyWidth bodyWidth) {
 		this.bodyWidth = bodyWidth.getWidth();
+		modified();
 		return this;
 	}
 
 	public OhlcRenderer setBodyWidth(int bodyWidth) {
 		this.bodyWidth = Integer.valueOf(bodyWidth);
+		modified();
 		return this;
 	}
 
@@ -162,6 +169,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setOpenColor(String... openColor) {
 		this.openColor = openColor;
+		modified();
 		return this;
 	}
 
@@ -171,6 +179,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setCloseColor(String... closeColor) {
 		this.closeColor = closeColor;
+		modified();
 		return this;
 	}
 
@@ -180,6 +189,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setWickColor(String... wickColor) {
 		this.wickColor = wickColor;
+		modified();
 		return this;
 	}
 
@@ -189,6 +199,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setFillUpBody(boolean fillUpBody) {
 		this.fillUpBody = fillUpBody;
+		modified();
 		return this;
 	}
 
@@ -198,6 +209,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setFillDownBody(boolean fillDownBody) {
 		this.fillDownBody = fillDownBody;
+		modified();
 		return this;
 	}
 
@@ -207,6 +219,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setUpBodyColor(String... upBodyColor) {
 		this.upBodyColor = upBodyColor;
+		modified();
 		return this;
 	}
 
@@ -216,6 +229,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setDownBodyColor(String... downBodyColor) {
 		this.downBodyColor = downBodyColor;
+		modified();
 		return this;
 	}
 
@@ -225,6 +239,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setHlc(boolean hlc) {
 		this.hlc = hlc;
+		modified();
 		return this;
 	}
 
@@ -234,6 +249,7 @@ public class OhlcRenderer extends SeriesRenderer<OhlcRenderer> {
 
 	public OhlcRenderer setLineWidth(float lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -18,29 +18,31 @@ package org.dussan.vaadin.dcharts.renderers.series;
 import org.dussan.vaadin.dcharts.base.renderers.SeriesRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultPieRenderer;
 import org.dussan.vaadin.dcharts.metadata.DataLabels;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	private static final long serialVersionUID = 4740029827920236226L;
-	private Integer diameter = null;
-	private Integer padding = null;
-	private Integer sliceMargin = null;
-	private Boolean fill = null;
-	private Integer shadowOffset = null;
-	private Float shadowAlpha = null;
-	private Integer shadowDepth = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private Object dataLabels = null;
-	private Boolean showDataLabels = null;
-	private String dataLabelFormatString = null;
-	private Integer dataLabelThreshold = null;
-	private Float dataLabelPositionFactor = null;
-	private Integer dataLabelNudge = null;
-	private Boolean dataLabelCenterOn = null;
-	private Integer startAngle = null;
-	private Integer lineWidth = null;
+	Integer diameter = null;
+	Integer padding = null;
+	Integer sliceMargin = null;
+	Boolean fill = null;
+	Integer shadowOffset = null;
+	Float shadowAlpha = null;
+	Integer shadowDepth = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	Object dataLabels = null;
+	Boolean showDataLabels = null;
+	String dataLabelFormatString = null;
+	Integer dataLabelThreshold = null;
+	Float dataLabelPositionFactor = null;
+	Integer dataLabelNudge = null;
+	Boolean dataLabelCenterOn = null;
+	Integer startAngle = null;
+	Integer lineWidth = null;
 
 	public PieRenderer() {
 		super(new DefaultPieRenderer());
@@ -112,6 +114,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDiameter(int diameter) {
 		this.diameter = diameter;
+		modified();
 		return this;
 	}
 
@@ -121,6 +124,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setPadding(int padding) {
 		this.padding = padding;
+		modified();
 		return this;
 	}
 
@@ -130,6 +134,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setSliceMargin(int sliceMargin) {
 		this.sliceMargin = sliceMargin;
+		modified();
 		return this;
 	}
 
@@ -139,6 +144,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -148,6 +154,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setShadowOffset(int shadowOffset) {
 		this.shadowOffset = shadowOffset;
+		modified();
 		return this;
 	}
 
@@ -157,6 +164,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setShadowAlpha(float shadowAlpha) {
 		this.shadowAlpha = shadowAlpha;
+		modified();
 		return this;
 	}
 
@@ -166,6 +174,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setShadowDepth(int shadowDepth) {
 		this.shadowDepth = shadowDepth;
+		modified();
 		return this;
 	}
 
@@ -175,6 +184,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -184,6 +194,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -193,6 +204,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setHighlightColors(String... highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -202,11 +214,13 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabels(DataLabels dataLabels) {
 		this.dataLabels = dataLabels;
+		modified();
 		return this;
 	}
 
 	public PieRenderer setDataLabels(String... dataLabels) {
 		this.dataLabels = dataLabels;
+		modified();
 		return this;
 	}
 
@@ -216,6 +230,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setShowDataLabels(boolean showDataLabels) {
 		this.showDataLabels = showDataLabels;
+		modified();
 		return this;
 	}
 
@@ -225,6 +240,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabelFormatString(String dataLabelFormatString) {
 		this.dataLabelFormatString = dataLabelFormatString;
+		modified();
 		return this;
 	}
 
@@ -234,6 +250,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabelThreshold(int dataLabelThreshold) {
 		this.dataLabelThreshold = dataLabelThreshold;
+		modified();
 		return this;
 	}
 
@@ -243,6 +260,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabelPositionFactor(float dataLabelPositionFactor) {
 		this.dataLabelPositionFactor = dataLabelPositionFactor;
+		modified();
 		return this;
 	}
 
@@ -252,6 +270,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabelNudge(int dataLabelNudge) {
 		this.dataLabelNudge = dataLabelNudge;
+		modified();
 		return this;
 	}
 
@@ -261,6 +280,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setDataLabelCenterOn(boolean dataLabelCenterOn) {
 		this.dataLabelCenterOn = dataLabelCenterOn;
+		modified();
 		return this;
 	}
 
@@ -270,6 +290,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setStartAngle(int startAngle) {
 		this.startAngle = startAngle;
+		modified();
 		return this;
 	}
 
@@ -279,6 +300,7 @@ public class PieRenderer extends SeriesRenderer<PieRenderer> {
 
 	public PieRenderer setLineWidth(Integer lineWidth) {
 		this.lineWidth = lineWidth;
+		modified();
 		return this;
 	}
 
@@ -21,21 +21,23 @@ import org.dussan.vaadin.dcharts.base.renderers.ShapeRenderer;
 import org.dussan.vaadin.dcharts.defaults.renderers.series.DefaultPyramidRenderer;
 import org.dussan.vaadin.dcharts.metadata.FillAxes;
 import org.dussan.vaadin.dcharts.metadata.PyramidSides;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	private static final long serialVersionUID = 7312222588231715332L;
-	private Integer barPadding = null;
-	private Integer barWidth = null;
-	private Boolean fill = null;
-	private Boolean highlightMouseOver = null;
-	private Boolean highlightMouseDown = null;
-	private String[] highlightColors = null;
-	private Boolean offsetBars = null;
-	private String side = null;
-	private FillAxes fillAxis = null;
-	private ShapeRenderer shapeRenderer = null;
-	private ShadowRenderer shadowRenderer = null;
+	Integer barPadding = null;
+	Integer barWidth = null;
+	Boolean fill = null;
+	Boolean highlightMouseOver = null;
+	Boolean highlightMouseDown = null;
+	String[] highlightColors = null;
+	Boolean offsetBars = null;
+	String side = null;
+	FillAxes fillAxis = null;
+	ShapeRenderer shapeRenderer = null;
+	ShadowRenderer shadowRenderer = null;
 
 	public PyramidRenderer() {
 		super(new DefaultPyramidRenderer());
@@ -66,6 +68,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setBarPadding(int barPadding) {
 		this.barPadding = barPadding;
+		modified();
 		return this;
 	}
 
@@ -75,6 +78,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setBarWidth(int barWidth) {
 		this.barWidth = barWidth;
+		modified();
 		return this;
 	}
 
@@ -84,6 +88,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setFill(boolean fill) {
 		this.fill = fill;
+		modified();
 		return this;
 	}
 
@@ -93,6 +98,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setHighlightMouseOver(boolean highlightMouseOver) {
 		this.highlightMouseOver = highlightMouseOver;
+		modified();
 		return this;
 	}
 
@@ -102,6 +108,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setHighlightMouseDown(boolean highlightMouseDown) {
 		this.highlightMouseDown = highlightMouseDown;
+		modified();
 		return this;
 	}
 
@@ -111,6 +118,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setHighlightColors(String[] highlightColors) {
 		this.highlightColors = highlightColors;
+		modified();
 		return this;
 	}
 
@@ -120,6 +128,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setOffsetBars(boolean offsetBars) {
 		this.offsetBars = offsetBars;
+		modified();
 		return this;
 	}
 
@@ -129,6 +138,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setSide(PyramidSides side) {
 		this.side = side.getSide();
+		modified();
 		return this;
 	}
 
@@ -138,6 +148,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setFillAxis(FillAxes fillAxis) {
 		this.fillAxis = fillAxis;
+		modified();
 		return this;
 	}
 
@@ -147,6 +158,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setShapeRenderer(ShapeRenderer shapeRenderer) {
 		this.shapeRenderer = shapeRenderer;
+		modified();
 		return this;
 	}
 
@@ -156,6 +168,7 @@ public class PyramidRenderer extends SeriesRenderer<PyramidRenderer> {
 
 	public PyramidRenderer setShadowRenderer(ShadowRenderer shadowRenderer) {
 		this.shadowRenderer = shadowRenderer;
+		modified();
 		return this;
 	}
 
@@ -18,7 +18,9 @@ package org.dussan.vaadin.dcharts.renderers.series.animations;
 import org.dussan.vaadin.dcharts.base.elements.Animation;
 import org.dussan.vaadin.dcharts.defaults.renderers.animations.DefaultLineAnimation;
 import org.dussan.vaadin.dcharts.metadata.directions.AnimationDirections;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class LineAnimation extends Animation<LineAnimation> {
 
 	private static final long serialVersionUID = 8089742669250187604L;
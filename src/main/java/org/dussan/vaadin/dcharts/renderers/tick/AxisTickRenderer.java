@@ -20,13 +20,15 @@ import org.dussan.vaadin.dcharts.defaults.renderers.ticks.DefaultAxisTickRendere
 import org.dussan.vaadin.dcharts.metadata.XYaxes;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickMarks;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class AxisTickRenderer extends TickRenderer<AxisTickRenderer> {
 
 	private static final long serialVersionUID = -6984340001964880243L;
-	private XYaxes axis = null;
-	private Integer size = null;
-	private Boolean escapeHTML = null;
+	XYaxes axis = null;
+	Integer size = null;
+	Boolean escapeHTML = null;
 
 	public AxisTickRenderer() {
 		super(new DefaultAxisTickRenderer());
@@ -62,6 +64,7 @@ public class AxisTickRenderer extends TickRenderer<AxisTickRenderer> {
 
 	public AxisTickRenderer setAxis(XYaxes xyAxes) {
 		this.axis = xyAxes;
+		modified();
 		return this;
 	}
 
@@ -71,6 +74,7 @@ public class AxisTickRenderer extends TickRenderer<AxisTickRenderer> {
 
 	public AxisTickRenderer setSize(int size) {
 		this.size = size;
+		modified();
 		return this;
 	}
 
@@ -80,6 +84,7 @@ public class AxisTickRenderer extends TickRenderer<AxisTickRenderer> {
 
 	public AxisTickRenderer setEscapeHTML(boolean escapeHTML) {
 		this.escapeHTML = escapeHTML;
+		modified();
 		return this;
 	}
 
@@ -21,17 +21,19 @@ import org.dussan.vaadin.dcharts.metadata.FontWeights;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickFormatters;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickLabelPositions;
 import org.dussan.vaadin.dcharts.metadata.ticks.TickMarks;
+import org.dussan.vaadin.dcharts.processor.JsonSerializable;
 
+@JsonSerializable
 public class CanvasAxisTickRenderer extends
 		TickRenderer<CanvasAxisTickRenderer> {
 
 	private static final long serialVersionUID = -6825411106978770368L;
-	private Integer angle = null;
-	private TickLabelPositions labelPosition = null;
-	private FontWeights fontWeight = null;
-	private Float fontStretch = null;
-	private Boolean enableFontSupport = null;
-	private Float pt2px = null;
+	Integer angle = null;
+	TickLabelPositions labelPosition = null;
+	FontWeights fontWeight = null;
+	Float fontStretch = null;
+	Boolean enableFontSupport = null;
+	Float pt2px = null;
 
 	public CanvasAxisTickRenderer() {
 		super(new DefaultCanvasAxisTickRenderer());
@@ -74,6 +76,7 @@ public class CanvasAxisTickRenderer extends
 
 	public CanvasAxisTickRenderer setAngle(int angle) {
 		this.angle = angle;
+		modified();
 		return this;
 	}
 
@@ -84,6 +87,7 @@ public class CanvasAxisTickRenderer extends
 	public CanvasAxisTickRenderer setLabelPosition(
 			TickLabelPositions tickLabelPositions) {
 		this.labelPosition = tickLabelPositions;
+		modified();
 		return this;
 	}
 
@@ -93,6 +97,7 @@ public class CanvasAxisTickRenderer extends
 
 	public CanvasAxisTickRenderer setFontWeight(FontWeights fontWeights) {
 		this.fontWeight = fontWeights;
+		modified();
 		return this;
 	}
 
@@ -102,6 +107,7 @@ public class CanvasAxisTickRenderer extends
 
 	public CanvasAxisTickRenderer setFontStretch(float fontStretch) {
 		this.fontStretch = fontStretch;
+		modified();
 		return this;
 	}
 
@@ -111,6 +117,7 @@ public class CanvasAxisTickRenderer extends
 
 	public CanvasAxisTickRenderer setEnableFontSupport(boolean enableFontSupport) {
 		this.enableFontSupport = enableFontSupport;
+		modified();
 		return this;
 	}
 
@@ -120,6 +127,7 @@ public class CanvasAxisTickRenderer extends
 
 	public CanvasAxisTickRenderer setPt2px(float pt2px) {
 		this.pt2px = pt2px;
+		modified();
 		return this;
 	}
 
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinResponse;
+
+public class ChartImageResourceTest {
+
+	private static int upload(ChartImageResource resource,
+			final String upload, final byte[] image) throws Exception {
+		VaadinRequest request = (VaadinRequest) Proxy.newProxyInstance(
+				VaadinRequest.class.getClassLoader(),
+				new Class<?>[] { VaadinRequest.class },
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method,
+							Object[] args) {
+						if (method.getName().equals("getMethod")) {
+							return "POST";
+						} else if (method.getName().equals("getParameter")) {
+							return "upload".equals(args[0]) ? upload : null;
+						} else if (method.getName().equals("getContentLength")) {
+							return image.length;
+						} else if (method.getName().equals("getInputStream")) {
+							return new ByteArrayInputStream(image);
+						}
+						return null;
+					}
+				});
+		final int[] status = new int[] { 200 };
+		VaadinResponse response = (VaadinResponse) Proxy.newProxyInstance(
+				VaadinResponse.class.getClassLoader(),
+				new Class<?>[] { VaadinResponse.class },
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method,
+							Object[] args) {
+						if (method.getName().equals("setStatus")) {
+							status[0] = (Integer) args[0];
+						}
+						return null;
+					}
+				});
+		resource.writeResponse(request, response);
+		return status[0];
+	}
+
+	@Test
+	public void keepsConcurrentUploadsApart() throws Exception {
+		ChartImageResource resource = new ChartImageResource();
+		byte[] download = new byte[] { 1, 2, 3 };
+		byte[] requested = new byte[] { 4, 5 };
+		assertEquals(200, upload(resource, "1", download));
+		assertEquals(200, upload(resource, "2", requested));
+
+		assertArrayEquals(requested, resource.claimUpload("2"));
+		assertArrayEquals(download, resource.claimUpload("1"));
+		// every upload is claimed once
+		assertNull(resource.claimUpload("1"));
+		assertNull(resource.claimUpload("3"));
+	}
+
+	@Test
+	public void rejectsUploadsWithoutId() throws Exception {
+		ChartImageResource resource = new ChartImageResource();
+		assertEquals(400, upload(resource, null, new byte[] { 1 }));
+		assertEquals(400, upload(resource, "", new byte[] { 1 }));
+	}
+
+	@Test
+	public void dropsUnclaimedUploads() throws Exception {
+		ChartImageResource resource = new ChartImageResource();
+		for (int i = 1; i <= 5; i++) {
+			upload(resource, String.valueOf(i), new byte[] { (byte) i });
+		}
+		assertNull(resource.claimUpload("1"));
+		assertArrayEquals(new byte[] { 5 }, resource.claimUpload("5"));
+	}
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dussan.vaadin.dcharts.events.chartImageChange.ChartImageChangeEvent;
+import org.dussan.vaadin.dcharts.events.chartImageChange.ChartImageChangeHandler;
+import org.dussan.vaadin.dcharts.events.chartImageHash.ChartImageHashEvent;
+import org.dussan.vaadin.dcharts.events.chartImageHash.ChartImageHashHandler;
+import org.junit.Test;
+
+import com.vaadin.server.VaadinSession;
+
+public class DChartsTest {
+
+	private static final int CHART_IMAGE_REQUEST = 27;
+
+	@SuppressWarnings("serial")
+	private static class TestDCharts extends DCharts {
+
+		private final VaadinSession session = new VaadinSession(null);
+
+		@Override
+		protected VaadinSession getSession() {
+			return session;
+		}
+
+	}
+
+	private static Object getField(DCharts chart, String name)
+			throws Exception {
+		Field field = DCharts.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(chart);
+	}
+
+	private static void fireEvent(DCharts chart, String event, String data)
+			throws Exception {
+		Map<String, String> eventData = new HashMap<String, String>();
+		eventData.put("id", getField(chart, "chartId").toString());
+		eventData.put("event", event);
+		eventData.put("data", data);
+		Method method = DCharts.class.getDeclaredMethod("processEvent",
+				Map.class);
+		method.setAccessible(true);
+		method.invoke(chart, eventData);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void keepsImageHandlersWhenStoredImageIsStale() throws Exception {
+		final int[] calls = new int[1];
+		ChartImageChangeHandler handler = new ChartImageChangeHandler() {
+			@Override
+			public void onChartImageChange(ChartImageChangeEvent event) {
+				calls[0]++;
+			}
+		};
+		DCharts chart = new TestDCharts();
+		chart.requestChartImage(handler).requestChartImage(handler);
+
+		fireEvent(chart, "requestedImageData", "unchanged:stale");
+		assertEquals(0, calls[0]);
+		List<ChartImageChangeHandler> handlers = (List<ChartImageChangeHandler>) getField(
+				chart, "chartImageHandlers");
+		assertEquals(2, handlers.size());
+		Map<Integer, String> chartData = (Map<Integer, String>) getField(
+				chart, "chartData");
+		assertTrue(chartData.get(CHART_IMAGE_REQUEST).startsWith("force:"));
+	}
+
+	@Test
+	public void answersEveryRequestForTheSameHash() throws Exception {
+		final int[] calls = new int[2];
+		DCharts chart = new TestDCharts();
+		chart.requestChartImageHash(new ChartImageHashHandler() {
+			@Override
+			public void onChartImageHash(ChartImageHashEvent event) {
+				calls[0]++;
+			}
+		});
+		fireEvent(chart, "imageHash", "abc");
+		chart.requestChartImageHash(new ChartImageHashHandler() {
+			@Override
+			public void onChartImageHash(ChartImageHashEvent event) {
+				calls[1]++;
+			}
+		});
+		fireEvent(chart, "imageHash", "abc");
+		assertEquals(1, calls[0]);
+		assertEquals(1, calls[1]);
+	}
+
+}
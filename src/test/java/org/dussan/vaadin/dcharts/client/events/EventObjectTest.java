@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.client.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class EventObjectTest {
+
+	@Test
+	public void answersToServerRequestsAreResponses() {
+		for (String event : new String[] { "requestedImageData",
+				"downloadImageData", "imageHash", "functions",
+				"optionsTemplate" }) {
+			assertTrue(event, new EventObject("chart", event, "data")
+					.isResponse());
+		}
+		assertFalse(new EventObject("chart", "rawImageData", "data")
+				.isResponse());
+		assertFalse(new EventObject("chart", "barMouseEnter", "0_::_1")
+				.isResponse());
+	}
+
+	@Test
+	public void repeatedHashIsEqualButStillAResponse() {
+		EventObject first = new EventObject("chart", "imageHash", "abc");
+		EventObject second = new EventObject("chart", "imageHash", "abc");
+		assertEquals(first, second);
+		assertTrue(second.isResponse());
+	}
+
+}
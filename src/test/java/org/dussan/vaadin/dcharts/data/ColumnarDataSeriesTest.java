@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ColumnarDataSeriesTest {
+
+	private static void assertSameValues(DataSeries expected,
+			DataSeries actual) {
+		assertEquals(expected.getValue(), actual.getValue());
+		assertEquals(expected.getSeriesCount(), actual.getSeriesCount());
+		for (int i = 0; i < expected.getSeriesCount(); i++) {
+			assertEquals(expected.getPointCount(i), actual.getPointCount(i));
+			for (int j = 0; j < expected.getPointCount(i); j++) {
+				Object value = expected.getSeriesValue(i, j);
+				if (value instanceof Object[]) {
+					assertArrayEquals((Object[]) value,
+							(Object[]) actual.getSeriesValue(i, j));
+				} else {
+					assertEquals(value, actual.getSeriesValue(i, j));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void keepsBoxedTypesOfValues() {
+		Object[] values = new Object[] { 1, (short) 2, (byte) 3, 4L, 5 };
+		DataSeries expected = new DataSeries().add(values);
+		DataSeries actual = new ColumnarDataSeries().add(values);
+		assertSameValues(expected, actual);
+		assertEquals(Integer.class, actual.getSeriesValue(0, 0).getClass());
+		assertEquals(Short.class, actual.getSeriesValue(0, 1).getClass());
+		assertEquals(Byte.class, actual.getSeriesValue(0, 2).getClass());
+		assertEquals(Long.class, actual.getSeriesValue(0, 3).getClass());
+	}
+
+	@Test
+	public void keepsBoxedTypesOfMixedNumbers() {
+		Object[] values = new Object[] { 1, 2.5, 3, 4.5f };
+		assertSameValues(new DataSeries().add(values),
+				new ColumnarDataSeries().add(values));
+		values = new Object[] { 1.5f, 2, (short) 3 };
+		assertSameValues(new DataSeries().add(values),
+				new ColumnarDataSeries().add(values));
+	}
+
+	@Test
+	public void keepsBoxedTypesOfPoints() {
+		DataSeries expected = new DataSeries().newSeries().add(1, 2.5)
+				.add(2, 3.5).newSeries().add("a", 1).add("b", null);
+		DataSeries actual = new ColumnarDataSeries().newSeries().add(1, 2.5)
+				.add(2, 3.5).newSeries().add("a", 1).add("b", null);
+		assertSameValues(expected, actual);
+	}
+
+	@Test
+	public void keepsBoxedTypesOfAddedPoints() {
+		DataSeries expected = new DataSeries().add(1, 2).addPoints(0, 3L, 4);
+		DataSeries actual = new ColumnarDataSeries().add(1, 2).addPoints(0,
+				3L, 4);
+		assertSameValues(expected, actual);
+	}
+
+	@Test
+	public void keepsBoxedTypesOfLabelColumns() {
+		Object[] values = new Object[] { 1, (short) 2, "label", null };
+		assertSameValues(new DataSeries().add(values),
+				new ColumnarDataSeries().add(values));
+	}
+
+}
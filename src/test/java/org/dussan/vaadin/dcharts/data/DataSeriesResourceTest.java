@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+public class DataSeriesResourceTest {
+
+	private static final String[] VALUES = new String[] { "",
+			"[[1, 2], [3, 4]]", "[\"čšž\"]", "[\"€ 5\"]",
+			"[\"😀\"]", "[\"\ud83d\"]" };
+
+	@Test
+	public void measuresEncodedLength() throws Exception {
+		for (String value : VALUES) {
+			assertEquals(value, value.getBytes("UTF-8").length,
+					DataSeriesResource.getEncodedLength(value));
+		}
+	}
+
+	@Test
+	public void servesExactlyTheEncodedBytes() throws Exception {
+		for (String value : VALUES) {
+			DataSeriesResource resource = new DataSeriesResource(value);
+			byte[] expected = value.getBytes("UTF-8");
+			assertEquals(expected.length, resource.getLength());
+
+			InputStream stream = resource.getStream().getStream();
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			for (int b = stream.read(); b != -1; b = stream.read()) {
+				output.write(b);
+			}
+			assertArrayEquals(expected, output.toByteArray());
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class DataSeriesTest {
+
+	@Test
+	public void appendsPointsInOrder() {
+		DataSeries expected = new DataSeries();
+		Object[] values = new Object[1000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+		expected.add(values);
+
+		DataSeries actual = new DataSeries().add(0, 1, 2);
+		for (int i = 3; i < values.length; i += 7) {
+			Object[] points = new Object[Math.min(7, values.length - i)];
+			for (int j = 0; j < points.length; j++) {
+				points[j] = i + j;
+			}
+			actual.addPoints(0, points);
+		}
+
+		assertEquals(values.length, actual.getPointCount(0));
+		assertEquals(999, actual.getSeriesValue(0, 999));
+		assertNull(actual.getSeriesValue(0, 1000));
+		assertEquals(expected.getValue(), actual.getValue());
+		assertEquals(expected.getBinaryValue(), actual.getBinaryValue());
+	}
+
+	@Test
+	public void appendsPointsToSubSeries() {
+		DataSeries expected = new DataSeries().newSeries().add(1, 2)
+				.add(3, 4).add(5, 6).add(7, 8).newSeries().add(9, 10);
+		DataSeries actual = new DataSeries().newSeries().add(1, 2)
+				.newSeries().add(9, 10);
+		actual.addPoints(0, 3, 4);
+		actual.addPoints(0, new Object[] { 5, 6 }, new Object[] { 7, 8 });
+
+		assertEquals(4, actual.getPointCount(0));
+		assertArrayEquals(new Object[] { 7, 8 },
+				(Object[]) actual.getSeriesValue(0, 3));
+		assertEquals(expected.getValue(), actual.getValue());
+		assertEquals(expected.getBinaryValue(), actual.getBinaryValue());
+	}
+
+}
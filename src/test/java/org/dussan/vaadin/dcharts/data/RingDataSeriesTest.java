@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class RingDataSeriesTest {
+
+	@Test
+	public void keepsPointsBelowCapacity() {
+		RingDataSeries dataSeries = new RingDataSeries(5).add(1, 2, 3);
+		assertEquals(3, dataSeries.getPointCount(0));
+		assertEquals(new DataSeries().add(1, 2, 3).getValue(),
+				dataSeries.getValue());
+	}
+
+	@Test
+	public void keepsLatestPointsInOrderAfterWraparound() {
+		RingDataSeries dataSeries = new RingDataSeries(5).add(0);
+		for (int i = 1; i < 23; i++) {
+			dataSeries.addPoints(0, i);
+		}
+		assertEquals(5, dataSeries.getPointCount(0));
+		for (int i = 0; i < 5; i++) {
+			assertEquals(18 + i, dataSeries.getSeriesValue(0, i));
+		}
+		assertNull(dataSeries.getSeriesValue(0, 5));
+		assertEquals(new DataSeries().add(18, 19, 20, 21, 22).getValue(),
+				dataSeries.getValue());
+	}
+
+	@Test
+	public void keepsLatestPointsOfSeriesAddedAtOnce() {
+		RingDataSeries dataSeries = new RingDataSeries(3).add(1, 2, 3, 4, 5,
+				6, 7);
+		assertEquals(new DataSeries().add(5, 6, 7).getValue(),
+				dataSeries.getValue());
+		assertEquals(new DataSeries().add(5, 6, 7).getBinaryValue(),
+				dataSeries.getBinaryValue());
+	}
+
+	@Test
+	public void keepsLatestPointsOfSubSeriesAfterWraparound() {
+		RingDataSeries dataSeries = new RingDataSeries(4);
+		dataSeries.newSeries().add(0, 0).newSeries().add(0, 1);
+		for (int i = 1; i < 11; i++) {
+			dataSeries.addPoints(0, i, i * 10);
+		}
+		dataSeries.addPoints(1, new Object[] { 1, 2 }, new Object[] { 2, 3 });
+
+		assertEquals(4, dataSeries.getPointCount(0));
+		assertEquals(3, dataSeries.getPointCount(1));
+		assertArrayEquals(new Object[] { 7, 70 },
+				(Object[]) dataSeries.getSeriesValue(0, 0));
+		assertArrayEquals(new Object[] { 10, 100 },
+				(Object[]) dataSeries.getSeriesValue(0, 3));
+
+		DataSeries expected = new DataSeries().newSeries().add(7, 70)
+				.add(8, 80).add(9, 90).add(10, 100).newSeries().add(0, 1)
+				.add(1, 2).add(2, 3);
+		assertEquals(expected.getValue(), dataSeries.getValue());
+		assertEquals(expected.getBinaryValue(), dataSeries.getBinaryValue());
+	}
+
+	@Test
+	public void keepsCapacityOfOne() {
+		RingDataSeries dataSeries = new RingDataSeries(0).add(1, 2);
+		dataSeries.addPoints(0, 3);
+		assertEquals(1, dataSeries.getCapacity());
+		assertEquals(1, dataSeries.getPointCount(0));
+		assertEquals(3, dataSeries.getSeriesValue(0, 0));
+	}
+
+}
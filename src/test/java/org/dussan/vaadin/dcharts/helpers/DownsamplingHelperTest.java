@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.dussan.vaadin.dcharts.data.DataSeries;
+import org.junit.Test;
+
+public class DownsamplingHelperTest {
+
+	private static DataSeries createSeries(int length) {
+		Object[] values = new Object[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = Math.sin(i / 10.0) * 100;
+		}
+		return new DataSeries().add(values);
+	}
+
+	@Test
+	public void keepsFirstAndLastPoints() {
+		int[] indexes = DownsamplingHelper.getLttbIndexes(createSeries(1000),
+				0, 50);
+		assertNotNull(indexes);
+		assertEquals(50, indexes.length);
+		assertEquals(0, indexes[0]);
+		assertEquals(999, indexes[49]);
+		for (int i = 1; i < indexes.length; i++) {
+			assertTrue(indexes[i - 1] < indexes[i]);
+		}
+	}
+
+	@Test
+	public void keepsPeaksOfPoints() {
+		Object[] values = new Object[100];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i == 42 ? 1000 : 0;
+		}
+		int[] indexes = DownsamplingHelper.getLttbIndexes(
+				new DataSeries().add(values), 0, 10);
+		boolean found = false;
+		for (int index : indexes) {
+			found |= index == 42;
+		}
+		assertTrue(found);
+	}
+
+	@Test
+	public void samplesOnlyAboveThreshold() {
+		assertNull(DownsamplingHelper.getLttbIndexes(createSeries(50), 0, 50));
+		assertEquals(50,
+				DownsamplingHelper.getLttbIndexes(createSeries(51), 0, 50).length);
+		assertNull(DownsamplingHelper.getLttbIndexes(createSeries(50), 0, 2));
+		assertArrayEquals(new int[] { 0, 2, 3 },
+				DownsamplingHelper.getLttbIndexes(
+						new DataSeries().add(0, 0, 5, 0), 0, 3));
+	}
+
+	@Test
+	public void usesEvenlySpacedNonNumericX() {
+		DataSeries dataSeries = new DataSeries().newSeries();
+		for (int i = 0; i < 100; i++) {
+			dataSeries.add("2013-01-" + i, i % 7);
+		}
+		int[] indexes = DownsamplingHelper.getLttbIndexes(dataSeries, 0, 10);
+		assertEquals(10, indexes.length);
+		assertEquals(0, indexes[0]);
+		assertEquals(99, indexes[9]);
+	}
+
+	@Test
+	public void skipsNonNumericValues() {
+		DataSeries dataSeries = createSeries(100);
+		dataSeries.addPoints(0, "a");
+		assertNull(DownsamplingHelper.getLttbIndexes(dataSeries, 0, 10));
+
+		dataSeries = new DataSeries().newSeries();
+		for (int i = 0; i < 100; i++) {
+			dataSeries.add(i, i == 50 ? null : i);
+		}
+		assertNull(DownsamplingHelper.getLttbIndexes(dataSeries, 0, 10));
+
+		dataSeries = new DataSeries().newSeries();
+		for (int i = 0; i < 100; i++) {
+			dataSeries.add(i, i, i);
+		}
+		assertNull(DownsamplingHelper.getLttbIndexes(dataSeries, 0, 10));
+	}
+
+	@Test
+	public void samplesKeptPoints() {
+		DataSeries dataSeries = new DataSeries().add(1, 2, 3, 4, 5);
+		DataSeries samples = DownsamplingHelper.sample(dataSeries,
+				new int[][] { { 0, 2, 4 } });
+		assertEquals(3, samples.getPointCount(0));
+		assertEquals(3, samples.getSeriesValue(0, 1));
+		assertEquals(5, samples.getSeriesValue(0, 2));
+	}
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class JavaScriptHelperTest {
+
+	private static String toJsonString(String expression) {
+		StringBuilder value = new StringBuilder();
+		JavaScriptHelper.writeExpression(value, expression);
+		return value.toString();
+	}
+
+	@Test
+	public void writesReferencesAsPathTokens() {
+		assertEquals("{\"$js\": \"$wnd.jQuery.jqplot.BarRenderer\"}",
+				toJsonString("$wnd.jQuery.jqplot.BarRenderer"));
+		assertEquals("{\"show\":true,\"renderer\":{\"$js\": \"$wnd.a.b\"}}",
+				toJsonString("{show: true, renderer: $wnd.a.b,}"));
+	}
+
+	@Test
+	public void writesOtherExpressionsAsRegisteredFunctions() {
+		String expression = "function(format, value) { return value + '%'; }";
+		String value = toJsonString(expression);
+		assertTrue(value, value.matches(
+				"\\{\"\\$js\": \"\\$wnd\\.dcharts\\.functions\\.js_[0-9a-f]{16}\"\\}"));
+		// same expression is the same function
+		assertEquals(value, toJsonString(expression));
+		assertTrue(FunctionHelper.getValue(null, value).contains(
+				"\"source\": \"function(format, value) { return value + '%'; }\""));
+	}
+
+}
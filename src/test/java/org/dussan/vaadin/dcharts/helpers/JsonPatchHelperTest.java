@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class JsonPatchHelperTest {
+
+	@Test
+	public void createsEmptyPatchForSameOptions() {
+		String options = "{\"title\": \"a\", \"axes\": {\"xaxis\": {\"min\": 1}}}";
+		assertEquals("[]", JsonPatchHelper.createPatch(options, options));
+	}
+
+	@Test
+	public void patchesNestedObjects() {
+		assertEquals(
+				"[{\"op\": \"replace\", \"path\": \"/axes/xaxis/min\", \"value\": 2}, "
+						+ "{\"op\": \"add\", \"path\": \"/axes/yaxis/max\", \"value\": 5}]",
+				JsonPatchHelper.createPatch(
+						"{\"axes\": {\"xaxis\": {\"min\": 1}, \"yaxis\": {}}}",
+						"{\"axes\": {\"xaxis\": {\"min\": 2}, \"yaxis\": {\"max\": 5}}}"));
+	}
+
+	@Test
+	public void keepsEscapedQuotesInKeysAndValues() {
+		assertEquals(
+				"[{\"op\": \"replace\", \"path\": \"/a\\\"b/c\", \"value\": \"x\\\"}y\"}]",
+				JsonPatchHelper.createPatch(
+						"{\"a\\\"b\": {\"c\": \"x\\\",y\", \"d\": 1}}",
+						"{\"a\\\"b\": {\"c\": \"x\\\"}y\", \"d\": 1}}"));
+	}
+
+	@Test
+	public void escapesSlashesInPaths() {
+		assertEquals(
+				"[{\"op\": \"add\", \"path\": \"/a~1b~0c\", \"value\": true}]",
+				JsonPatchHelper.createPatch("{}", "{\"a/b~c\": true}"));
+	}
+
+	@Test
+	public void replacesArraysAsAWhole() {
+		assertEquals(
+				"[{\"op\": \"replace\", \"path\": \"/seriesColors\", \"value\": [\"red\", {\"a\": 2}]}]",
+				JsonPatchHelper.createPatch(
+						"{\"seriesColors\": [\"red\", {\"a\": 1}]}",
+						"{\"seriesColors\": [\"red\", {\"a\": 2}]}"));
+	}
+
+	@Test
+	public void replacesJavaScriptReferencesAsAWhole() {
+		assertEquals(
+				"[{\"op\": \"replace\", \"path\": \"/renderer\", \"value\": {\"$js\": \"$wnd.b\"}}]",
+				JsonPatchHelper.createPatch(
+						"{\"renderer\": {\"$js\": \"$wnd.a\"}}",
+						"{\"renderer\": {\"$js\": \"$wnd.b\"}}"));
+	}
+
+	@Test
+	public void removesMissingMembers() {
+		assertEquals(
+				"[{\"op\": \"remove\", \"path\": \"/title\"}, "
+						+ "{\"op\": \"remove\", \"path\": \"/axes/xaxis\"}]",
+				JsonPatchHelper.createPatch(
+						"{\"title\": \"a\", \"axes\": {\"xaxis\": {\"min\": 1}, \"yaxis\": {}}}",
+						"{\"axes\": {\"yaxis\": {}}}"));
+	}
+
+	@Test
+	public void returnsNullForOtherValues() {
+		assertNull(JsonPatchHelper.createPatch("[1]", "{}"));
+		assertNull(JsonPatchHelper.createPatch("{}", "null"));
+	}
+
+}
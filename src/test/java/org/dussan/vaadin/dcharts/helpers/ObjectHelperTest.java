@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.dussan.vaadin.dcharts.options.Highlighter;
+import org.dussan.vaadin.dcharts.options.Options;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class ObjectHelperTest {
+
+	private static String toJsonString(String string) {
+		StringBuilder value = new StringBuilder();
+		ObjectHelper.writeString(value, string);
+		return value.toString();
+	}
+
+	@Test
+	public void escapesBackslashes() {
+		assertEquals("\"C:\\\\temp\\\\x\"", toJsonString("C:\\temp\\x"));
+		assertEquals("\"\\\\\\\"\"", toJsonString("\\\""));
+	}
+
+	@Test
+	public void escapesLineAndParagraphSeparators() {
+		String value = toJsonString("a\u2028b\u2029c");
+		assertEquals("\"a\\u2028b\\u2029c\"", value);
+		assertFalse(value.contains("\u2028") || value.contains("\u2029"));
+	}
+
+	@Test
+	public void readsBackStringsWithBackslashes() throws Exception {
+		String title = "C:\\temp\\x \\n \\u0041 \u2028";
+		String formatString = "%d\\%";
+		String tooltipFormatString = "<b>\\%s</b>\\";
+		Options options = new Options().setTitle(title).setHighlighter(
+				new Highlighter().setFormatString(formatString)
+						.setTooltipFormatString(tooltipFormatString));
+
+		JSONObject json = new JSONObject(options.getValue());
+		assertEquals(title, json.getJSONObject("title").getString("text"));
+		JSONObject highlighter = json.getJSONObject("highlighter");
+		assertEquals(formatString, highlighter.getString("formatString"));
+		assertEquals(tooltipFormatString,
+				highlighter.getString("tooltipFormatString"));
+	}
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class PayloadCacheTest {
+
+	@Test
+	public void sharesEqualPayloads() {
+		PayloadCache.setMaximumSize(1024);
+		try {
+			String first = new StringBuilder("[[1, 2], [3, 4]]").toString();
+			String second = new StringBuilder("[[1, 2], [3, 4]]").toString();
+			PayloadCache.Key key = PayloadCache.createKey(first, "dataSeries");
+			assertEquals(key, PayloadCache.createKey(new StringBuilder(second),
+					"dataSeries"));
+			assertSame(first, PayloadCache.put(key, first, first.length()));
+			assertSame(first, PayloadCache.put(
+					PayloadCache.createKey(second, "dataSeries"), second,
+					second.length()));
+		} finally {
+			PayloadCache.clear();
+			PayloadCache.setMaximumSize(0);
+		}
+	}
+
+	@Test
+	public void separatesPayloadsAndVariants() {
+		PayloadCache.setMaximumSize(1024);
+		try {
+			PayloadCache.Key key = PayloadCache.createKey("[1, 2]", "options");
+			assertFalse(key.equals(PayloadCache.createKey("[2, 1]", "options")));
+			assertFalse(key.equals(key.getVariant("dataSeries")));
+		} finally {
+			PayloadCache.setMaximumSize(0);
+		}
+		assertNull(PayloadCache.createKey("[1, 2]", "options"));
+	}
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dussan.vaadin.dcharts.base.elements.Trendline;
+import org.dussan.vaadin.dcharts.base.elements.XYseries;
+import org.dussan.vaadin.dcharts.options.Series;
+import org.dussan.vaadin.dcharts.renderers.series.LineRenderer;
+
+// run with: mvn test-compile exec:java -Dexec.classpathScope=test
+// -Dexec.mainClass=org.dussan.vaadin.dcharts.helpers.SerializationBenchmark
+public class SerializationBenchmark {
+
+	private static final int SERIES = 500;
+	private static final long WARMUP = 2000000000L;
+	private static final long MEASURE = 5000000000L;
+
+	private interface Operation {
+
+		public int run(int iteration);
+
+	}
+
+	private static void measure(String name, Operation operation) {
+		long result = 0;
+		long start = System.nanoTime();
+		int iteration = 0;
+		while (System.nanoTime() - start < WARMUP) {
+			result += operation.run(iteration++);
+		}
+
+		int operations = 0;
+		start = System.nanoTime();
+		while (System.nanoTime() - start < MEASURE) {
+			result += operation.run(iteration++);
+			operations++;
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println(String.format("%-40s %10.1f ops/s  (%d)", name,
+				operations / seconds, result % 10));
+	}
+
+	public static void main(String[] args) {
+		final List<XYseries> list = new ArrayList<XYseries>();
+		final Series series = new Series();
+		for (int i = 0; i < SERIES; i++) {
+			XYseries serie = new XYseries().setLabel("serie " + i)
+					.setLineWidth(2).setRendererOptions(new LineRenderer())
+					.setTrendline(new Trendline());
+			list.add(serie);
+			series.addSeries(serie);
+		}
+
+		measure("field values of " + SERIES + " series", new Operation() {
+			@Override
+			public int run(int iteration) {
+				int count = 0;
+				for (XYseries serie : list) {
+					count += ClassHelper.getFieldValues(serie).size();
+				}
+				return count;
+			}
+		});
+
+		measure("changed " + SERIES + " series to json", new Operation() {
+			@Override
+			public int run(int iteration) {
+				// every serie is changed, so no cached value is reused
+				for (int i = 0; i < list.size(); i++) {
+					list.get(i).setLabel("serie " + i + " " + (iteration & 1));
+				}
+				return series.getValue().length();
+			}
+		});
+
+		measure("unchanged " + SERIES + " series to json", new Operation() {
+			@Override
+			public int run(int iteration) {
+				return series.getValue().length();
+			}
+		});
+	}
+
+}
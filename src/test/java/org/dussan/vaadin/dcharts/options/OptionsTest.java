@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2012-2013  Dušan Vejnovič  <vaadin@dussan.org>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dussan.vaadin.dcharts.options;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.dussan.vaadin.dcharts.base.elements.Trendline;
+import org.dussan.vaadin.dcharts.base.elements.XYaxis;
+import org.dussan.vaadin.dcharts.base.elements.XYseries;
+import org.dussan.vaadin.dcharts.metadata.XYaxes;
+import org.dussan.vaadin.dcharts.metadata.renderers.AxisRenderers;
+import org.dussan.vaadin.dcharts.metadata.renderers.GridRenderers;
+import org.dussan.vaadin.dcharts.metadata.renderers.SeriesRenderers;
+import org.dussan.vaadin.dcharts.renderers.axis.LinearAxisRenderer;
+import org.dussan.vaadin.dcharts.renderers.series.PyramidRenderer;
+import org.junit.Test;
+
+public class OptionsTest {
+
+	@Test
+	public void writesAxisRendererChangedAfterSerialization() {
+		LinearAxisRenderer renderer = new LinearAxisRenderer();
+		Options options = new Options().setAxes(new Axes().addAxis(new XYaxis(
+				XYaxes.Y).setRenderer(AxisRenderers.LINEAR).setRendererOptions(
+				renderer)));
+		assertFalse(options.getValue().contains("minorTicks"));
+
+		renderer.setMinorTicks(5);
+		assertTrue(options.getValue().contains("\"minorTicks\": 5"));
+		renderer.setDrawBaseline(false).setBaselineColor("#ff0000");
+		assertTrue(options.getValue().contains("\"drawBaseline\": false"));
+		assertTrue(options.getValue().contains("\"baselineColor\": \"#ff0000\""));
+	}
+
+	@Test
+	public void writesSeriesChangedAfterSerialization() {
+		Trendline trendline = new Trendline();
+		XYseries series = new XYseries().setTrendline(trendline);
+		Options options = new Options().setSeries(new Series()
+				.addSeries(series));
+		assertFalse(options.getValue().contains("first"));
+
+		series.setLabel("first");
+		assertTrue(options.getValue().contains("\"label\": \"first\""));
+		trendline.setColor("#00ff00");
+		assertTrue(options.getValue().contains("\"color\": \"#00ff00\""));
+		options.getSeries().addSeries(new XYseries().setLabel("second"));
+		assertTrue(options.getValue().contains("\"label\": \"second\""));
+	}
+
+	@Test
+	public void setsPyramidRenderersWhenOptionsAreAdded() {
+		XYseries first = new XYseries();
+		XYseries second = new XYseries()
+				.setRendererOptions(new PyramidRenderer());
+		Series series = new Series().addSeries(first).addSeries(second);
+		XYaxis xAxis = new XYaxis(XYaxes.X);
+		Axes axes = new Axes().addAxis(xAxis);
+		Options options = new Options().setAxes(axes).setSeries(series);
+
+		assertSame(series, options.getSeries());
+		assertSame(axes, options.getAxes());
+		assertEquals(SeriesRenderers.PYRAMID, first.getRenderer());
+		assertEquals(AxisRenderers.PYRAMID, xAxis.getRenderer());
+		assertEquals(AxisRenderers.PYRAMID, options.getAxesDefaults()
+				.getRenderer());
+		assertEquals(GridRenderers.PYRAMID, options.getGrid().getRenderer());
+
+		Grid grid = new Grid().setBackground("#ffffff");
+		options.setGrid(grid);
+		assertSame(grid, options.getGrid());
+		assertEquals(GridRenderers.PYRAMID, grid.getRenderer());
+	}
+
+	@Test
+	public void doesNotChangeOptionsWhileWriting() {
+		Options options = new Options().setSeries(new Series()
+				.addSeries(new XYseries().setRendererOptions(new PyramidRenderer())));
+		String value = options.getValue();
+		assertSame(value, options.getValue());
+		assertEquals(value, options.getValue());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void returnsUnmodifiableSeries() {
+		new Series().addSeries(new XYseries()).getSeries()
+				.add(new XYseries());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void returnsUnmodifiableAxes() {
+		new Axes().addAxis(new XYaxis(XYaxes.X)).getAxes().clear();
+	}
+
+}